@@ -19,6 +19,8 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.TokenCountEstimator;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
 public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
@@ -48,6 +50,7 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
                 .baseUri(config.url)
                 .connectTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS)
                 .readTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS);
+        QuarkusRestClients.configure(builder, "bam", config.httpClient);
 
         if (config.logRequests || config.logResponses) {
             builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
@@ -146,6 +149,7 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
         private String modelId;
         private String version;
         private Duration timeout = Duration.ofSeconds(15);
+        private HttpClientConfig httpClient;
         private String decodingMethod = "greedy";
         private Boolean includeStopSequence;
         private Integer minNewTokens = 0;
@@ -193,6 +197,11 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public Builder decodingMethod(String decodingMethod) {
             this.decodingMethod = decodingMethod;
             return this;
@@ -15,6 +15,8 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
 public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
@@ -32,6 +34,7 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
                 .baseUri(config.url)
                 .connectTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS)
                 .readTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS);
+        QuarkusRestClients.configure(builder, "bam", config.httpClient);
 
         if (config.logRequests || config.logResponses) {
             builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
@@ -79,6 +82,7 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
         private String version;
         private URI url = URI.create("https://bam-api.res.ibm.com");
         private Duration timeout = Duration.ofSeconds(15);
+        private HttpClientConfig httpClient;
         private String modelId;
         public boolean logResponses;
         public boolean logRequests;
@@ -107,6 +111,11 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public Builder modelId(String modelId) {
             this.modelId = modelId;
             return this;
@@ -8,6 +8,8 @@ import io.quarkiverse.langchain4j.bam.BamChatModel;
 import io.quarkiverse.langchain4j.bam.BamEmbeddingModel;
 import io.quarkiverse.langchain4j.bam.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.bam.runtime.config.Langchain4jBamConfig;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -19,6 +21,7 @@ public class BamRecorder {
         var builder = BamChatModel.builder()
                 .accessToken(runtimeConfig.apiKey())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .logRequests(runtimeConfig.logRequests())
                 .logResponses(runtimeConfig.logResponses())
                 .modelId(chatModelConfig.modelId())
@@ -57,6 +60,7 @@ public class BamRecorder {
         var builder = BamEmbeddingModel.builder()
                 .accessToken(runtimeConfig.apiKey())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .version(runtimeConfig.version())
                 .modelId(embeddingModelConfig.modelId());
 
@@ -64,10 +68,11 @@ public class BamRecorder {
             builder.url(runtimeConfig.baseUrl().get());
         }
 
+        String modelId = "bam:" + embeddingModelConfig.modelId();
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return Arc.container().instance(EmbeddingCache.class).get().wrap(builder.build(), modelId);
             }
         };
     }
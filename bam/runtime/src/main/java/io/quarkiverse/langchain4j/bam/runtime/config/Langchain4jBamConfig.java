@@ -6,6 +6,7 @@ import java.net.URL;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -59,4 +60,9 @@ public interface Langchain4jBamConfig {
      * Embedding model related settings
      */
     EmbeddingModelConfig embeddingModel();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
 }
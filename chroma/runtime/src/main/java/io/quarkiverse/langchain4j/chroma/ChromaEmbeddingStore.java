@@ -28,6 +28,8 @@ import io.quarkiverse.langchain4j.chroma.runtime.Collection;
 import io.quarkiverse.langchain4j.chroma.runtime.CreateCollectionRequest;
 import io.quarkiverse.langchain4j.chroma.runtime.QueryRequest;
 import io.quarkiverse.langchain4j.chroma.runtime.QueryResponse;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
@@ -50,9 +52,21 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param timeout The timeout duration for the Chroma client. If not specified, 5 seconds will be used.
      */
     public ChromaEmbeddingStore(String baseUrl, String collectionName, Duration timeout) {
+        this(baseUrl, collectionName, timeout, null);
+    }
+
+    /**
+     * Initializes a new instance of ChromaEmbeddingStore with the specified parameters.
+     *
+     * @param baseUrl The base URL of the Chroma service.
+     * @param collectionName The name of the collection in the Chroma service. If not specified, "default" will be used.
+     * @param timeout The timeout duration for the Chroma client. If not specified, 5 seconds will be used.
+     * @param httpClient The settings of the HTTP client. If not specified, the defaults of the REST client will be used.
+     */
+    public ChromaEmbeddingStore(String baseUrl, String collectionName, Duration timeout, HttpClientConfig httpClient) {
         String effectiveCollectionName = getOrDefault(collectionName, "default");
 
-        this.chromaClient = new ChromaClient(baseUrl, getOrDefault(timeout, ofSeconds(5)));
+        this.chromaClient = new ChromaClient(baseUrl, getOrDefault(timeout, ofSeconds(5)), httpClient);
 
         this.collectionId = new LazyValue<>(new Supplier<String>() {
             @Override
@@ -78,6 +92,7 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String baseUrl;
         private String collectionName;
         private Duration timeout;
+        private HttpClientConfig httpClient;
 
         /**
          * @param baseUrl The base URL of the Chroma service.
@@ -106,8 +121,18 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param httpClient The settings of the HTTP client. If not specified, the defaults of the REST client will be
+         *        used.
+         * @return builder
+         */
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public ChromaEmbeddingStore build() {
-            return new ChromaEmbeddingStore(this.baseUrl, this.collectionName, this.timeout);
+            return new ChromaEmbeddingStore(this.baseUrl, this.collectionName, this.timeout, this.httpClient);
         }
     }
 
@@ -229,12 +254,13 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         private final ChromaCollectionsRestApi chromaApi;
 
-        ChromaClient(String baseUrl, Duration timeout) {
+        ChromaClient(String baseUrl, Duration timeout, HttpClientConfig httpClient) {
             try {
-                chromaApi = QuarkusRestClientBuilder.newBuilder()
+                QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
                         .baseUri(new URI(baseUrl))
                         .connectTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
-                        .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
+                        .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS);
+                chromaApi = QuarkusRestClients.configure(builder, "chroma", httpClient)
                         .build(ChromaCollectionsRestApi.class);
             } catch (URISyntaxException e) {
                 throw new RuntimeException(e);
@@ -5,6 +5,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -29,4 +30,8 @@ public interface ChromaConfig {
      */
     Optional<Duration> timeout();
 
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
 }
@@ -47,6 +47,7 @@ import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
 
 import dev.langchain4j.exception.IllegalConfigurationException;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.V;
 import io.quarkiverse.langchain4j.deployment.items.SelectedChatModelProviderBuildItem;
 import io.quarkiverse.langchain4j.runtime.AiServicesRecorder;
@@ -58,6 +59,7 @@ import io.quarkiverse.langchain4j.runtime.aiservice.DeclarativeAiServiceCreateIn
 import io.quarkiverse.langchain4j.runtime.aiservice.MetricsCountedWrapper;
 import io.quarkiverse.langchain4j.runtime.aiservice.MetricsTimedWrapper;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusAiServiceContext;
+import io.quarkiverse.langchain4j.runtime.aiservice.SemanticCache;
 import io.quarkiverse.langchain4j.runtime.aiservice.SpanWrapper;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -96,6 +98,7 @@ public class AiServicesProcessor {
     private static final Logger log = Logger.getLogger(AiServicesProcessor.class);
 
     private static final DotName V = DotName.createSimple(V.class);
+    private static final DotName SEMANTIC_CACHE = DotName.createSimple(SemanticCache.class);
     public static final DotName MICROMETER_TIMED = DotName.createSimple("io.micrometer.core.annotation.Timed");
     public static final DotName MICROMETER_COUNTED = DotName.createSimple("io.micrometer.core.annotation.Counted");
     private static final String DEFAULT_DELIMITER = "\n";
@@ -219,6 +222,26 @@ public class AiServicesProcessor {
                 }
             }
 
+            long retrievalTimeoutMillis = 0;
+            AnnotationValue retrievalTimeoutValue = instance.value("retrievalTimeoutMillis");
+            if (retrievalTimeoutValue != null) {
+                retrievalTimeoutMillis = retrievalTimeoutValue.asLong();
+                if (retrievalTimeoutMillis < 0) {
+                    throw new IllegalConfigurationException("The retrievalTimeoutMillis of '"
+                            + declarativeAiServiceClassInfo.name() + "' cannot be negative");
+                }
+            }
+
+            int maxRetrievedTokens = 0;
+            AnnotationValue maxRetrievedTokensValue = instance.value("maxRetrievedTokens");
+            if (maxRetrievedTokensValue != null) {
+                maxRetrievedTokens = maxRetrievedTokensValue.asInt();
+                if (maxRetrievedTokens < 0) {
+                    throw new IllegalConfigurationException("The maxRetrievedTokens of '"
+                            + declarativeAiServiceClassInfo.name() + "' cannot be negative");
+                }
+            }
+
             DotName auditServiceSupplierClassName = Langchain4jDotNames.BEAN_IF_EXISTS_AUDIT_SERVICE_SUPPLIER;
             AnnotationValue auditServiceSupplierValue = instance.value("auditServiceSupplier");
             if (auditServiceSupplierValue != null) {
@@ -249,6 +272,8 @@ public class AiServicesProcessor {
                             toolDotNames,
                             chatMemoryProviderSupplierClassDotName,
                             retrieverClassDotName,
+                            retrievalTimeoutMillis,
+                            maxRetrievedTokens,
                             auditServiceSupplierClassName,
                             moderationModelSupplierClassName,
                             cdiScope));
@@ -262,6 +287,16 @@ public class AiServicesProcessor {
         }
     }
 
+    @BuildStep
+    public void semanticCacheBeans(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<UnremovableBeanBuildItem> unremovableProducer) {
+        if (!indexBuildItem.getIndex().getAnnotations(Langchain4jDotNames.SEMANTIC_CACHE_RESULT).isEmpty()) {
+            // the cache is looked up by the AI service implementations, and it looks up the models and stores at runtime
+            unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(SEMANTIC_CACHE,
+                    Langchain4jDotNames.EMBEDDING_MODEL, Langchain4jDotNames.EMBEDDING_STORE));
+        }
+    }
+
     private void validateSupplierAndRegisterForReflection(DotName supplierDotName, IndexView index,
             BuildProducer<ReflectiveClassBuildItem> producer) {
         ClassInfo classInfo = index.getClassByName(supplierDotName);
@@ -290,6 +325,8 @@ public class AiServicesProcessor {
         boolean needsChatMemoryProviderBean = false;
         boolean needsRetrieverBean = false;
         boolean needsAuditServiceBean = false;
+        boolean needsMemoryAffinityBean = false;
+        boolean needsTokenizerBean = false;
         boolean needsModerationModelBean = false;
         Set<DotName> allToolNames = new HashSet<>();
 
@@ -325,6 +362,8 @@ public class AiServicesProcessor {
                             new DeclarativeAiServiceCreateInfo(serviceClassName, chatLanguageModelSupplierClassName,
                                     toolClassNames, chatMemoryProviderSupplierClassName,
                                     retrieverClassName,
+                                    bi.getRetrievalTimeoutMillis(),
+                                    bi.getMaxRetrievedTokens(),
                                     auditServiceClassSupplierName,
                                     moderationModelSupplierClassName)))
                     .setRuntimeInit()
@@ -350,9 +389,21 @@ public class AiServicesProcessor {
                 needsChatMemoryProviderBean = true;
             }
 
+            if (chatMemoryProviderSupplierClassName != null) {
+                configurator.addInjectionPoint(ParameterizedType.create(CDI_INSTANCE,
+                        new Type[] { ClassType.create(Langchain4jDotNames.MEMORY_AFFINITY) }, null));
+                configurator.addInjectionPoint(ClassType.create(Langchain4jDotNames.CHAT_MEMORY_NEAR_CACHE));
+                needsMemoryAffinityBean = true;
+            }
+
             if (retrieverClassName != null) {
                 configurator.addInjectionPoint(ClassType.create(retrieverClassName));
                 needsRetrieverBean = true;
+                if (bi.getMaxRetrievedTokens() > 0) {
+                    configurator.addInjectionPoint(ParameterizedType.create(CDI_INSTANCE,
+                            new Type[] { ClassType.create(Langchain4jDotNames.TOKENIZER) }, null));
+                    needsTokenizerBean = true;
+                }
             }
 
             if (Langchain4jDotNames.BEAN_IF_EXISTS_AUDIT_SERVICE_SUPPLIER.toString().equals(auditServiceClassSupplierName)) {
@@ -378,6 +429,12 @@ public class AiServicesProcessor {
         if (needsRetrieverBean) {
             unremoveableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.RETRIEVER));
         }
+        if (needsMemoryAffinityBean) {
+            unremoveableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.MEMORY_AFFINITY));
+        }
+        if (needsTokenizerBean) {
+            unremoveableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.TOKENIZER));
+        }
         if (needsAuditServiceBean) {
             unremoveableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.AUDIT_SERVICE));
         }
@@ -683,10 +740,32 @@ public class AiServicesProcessor {
         Optional<AiServiceMethodCreateInfo.MetricsCountedInfo> metricsCountedInfo = gatherMetricsCountedInfo(method,
                 addMicrometerMetrics);
         Optional<AiServiceMethodCreateInfo.SpanInfo> spanInfo = gatherSpanInfo(method, addOpenTelemetrySpans);
+        Optional<AiServiceMethodCreateInfo.SemanticCacheInfo> semanticCacheInfo = gatherSemanticCacheInfo(method,
+                memoryIdParamPosition, returnType);
 
         return new AiServiceMethodCreateInfo(method.declaringClass().name().toString(), method.name(), systemMessageInfo,
                 userMessageInfo, memoryIdParamPosition, requiresModeration,
-                returnType, metricsTimedInfo, metricsCountedInfo, spanInfo);
+                returnType, metricsTimedInfo, metricsCountedInfo, spanInfo, semanticCacheInfo);
+    }
+
+    private Optional<AiServiceMethodCreateInfo.SemanticCacheInfo> gatherSemanticCacheInfo(MethodInfo method,
+            Optional<Integer> memoryIdParamPosition, Class<?> returnType) {
+        AnnotationInstance instance = method.annotation(Langchain4jDotNames.SEMANTIC_CACHE_RESULT);
+        if (instance == null) {
+            return Optional.empty();
+        }
+        if (memoryIdParamPosition.isPresent()) {
+            throw illegalConfiguration("Method '%s' cannot use both @SemanticCacheResult and @MemoryId", method);
+        }
+        if (TokenStream.class.equals(returnType)) {
+            throw illegalConfiguration("Method '%s' cannot use @SemanticCacheResult as it returns a TokenStream", method);
+        }
+        AnnotationValue similarityThresholdValue = instance.value("similarityThreshold");
+        double similarityThreshold = similarityThresholdValue != null ? similarityThresholdValue.asDouble() : 0.95;
+        if ((similarityThreshold <= 0) || (similarityThreshold > 1)) {
+            throw illegalConfiguration("The similarityThreshold of method '%s' must be in ]0, 1]", method);
+        }
+        return Optional.of(new AiServiceMethodCreateInfo.SemanticCacheInfo(similarityThreshold));
     }
 
     private List<TemplateParameterInfo> gatherTemplateParamInfo(List<MethodParameterInfo> params) {
@@ -28,7 +28,9 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class BeansProcessor {
 
@@ -209,6 +211,14 @@ public class BeansProcessor {
         recorder.cleanUp(shutdown);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void enableMeters(Langchain4jRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            recorder.enableMeters();
+        }
+    }
+
     @BuildStep
     public void unremoveableBeans(BuildProducer<UnremovableBeanBuildItem> unremoveableProducer) {
         unremoveableProducer.produce(UnremovableBeanBuildItem.beanTypes(ObjectMapper.class));
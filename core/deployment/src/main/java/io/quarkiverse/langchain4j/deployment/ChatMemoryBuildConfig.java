@@ -5,6 +5,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import io.quarkiverse.langchain4j.RegisterAiService;
@@ -26,6 +27,9 @@ public interface ChatMemoryBuildConfig {
      * <p>
      * If {@code token-window} is used, then the application must also provide a bean of type {@link Tokenizer}.
      * <p>
+     * If {@code summarizing} is used, then messages evicted from the window are folded into a running summary that
+     * is produced in the background by the {@link ChatLanguageModel} bean.
+     * <p>
      * Users can choose to provide their own {@link ChatMemoryStore} bean or even their own {@link ChatMemoryProvider} bean
      * if full control over the details is needed.
      */
@@ -34,7 +38,8 @@ public interface ChatMemoryBuildConfig {
 
     enum Type {
         MESSAGE_WINDOW,
-        TOKEN_WINDOW
+        TOKEN_WINDOW,
+        SUMMARIZING
     }
 
 }
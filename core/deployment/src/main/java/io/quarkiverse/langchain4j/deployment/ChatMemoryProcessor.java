@@ -21,6 +21,14 @@ import io.quarkus.deployment.annotations.Record;
 
 public class ChatMemoryProcessor {
 
+    @BuildStep
+    void requestChatModelBean(ChatMemoryBuildConfig buildConfig,
+            BuildProducer<RequestChatModelBeanBuildItem> requestChatModelBeanProducer) {
+        if (buildConfig.type() == ChatMemoryBuildConfig.Type.SUMMARIZING) {
+            requestChatModelBeanProducer.produce(new RequestChatModelBeanBuildItem());
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void setupBeans(ChatMemoryBuildConfig buildConfig, ChatMemoryConfig runtimeConfig,
@@ -34,6 +42,7 @@ public class ChatMemoryProcessor {
                 .configure(ChatMemoryProvider.class)
                 .setRuntimeInit()
                 .addInjectionPoint(ClassType.create(ChatMemoryStore.class))
+                .addInjectionPoint(ClassType.create(Langchain4jDotNames.CHAT_MEMORY_NEAR_CACHE))
                 .scope(ApplicationScoped.class)
                 .defaultBean();
 
@@ -42,6 +51,10 @@ public class ChatMemoryProcessor {
         } else if (buildConfig.type() == ChatMemoryBuildConfig.Type.TOKEN_WINDOW) {
             configurator.addInjectionPoint(ClassType.create(Tokenizer.class));
             fun = recorder.tokenWindow(runtimeConfig);
+        } else if (buildConfig.type() == ChatMemoryBuildConfig.Type.SUMMARIZING) {
+            configurator.addInjectionPoint(ClassType.create(Langchain4jDotNames.CHAT_MODEL));
+            unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.CHAT_MODEL));
+            fun = recorder.summarizing(runtimeConfig);
         } else {
             throw new IllegalStateException(
                     "Invalid configuration '" + buildConfig.type() + "' used in 'quarkus.langchain4j.chat-memory.type'");
@@ -50,5 +63,6 @@ public class ChatMemoryProcessor {
 
         syntheticBeanProducer.produce(configurator.done());
         unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(ChatMemoryStore.class));
+        unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(Langchain4jDotNames.CHAT_MEMORY_NEAR_CACHE));
     }
 }
@@ -19,6 +19,8 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
 
     private final DotName chatMemoryProviderSupplierClassDotName;
     private final DotName retrieverClassDotName;
+    private final long retrievalTimeoutMillis;
+    private final int maxRetrievedTokens;
     private final DotName auditServiceClassSupplierDotName;
     private final DotName moderationModelSupplierDotName;
     private final ScopeInfo cdiScope;
@@ -27,6 +29,8 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
             List<DotName> toolDotNames,
             DotName chatMemoryProviderSupplierClassDotName,
             DotName retrieverClassDotName,
+            long retrievalTimeoutMillis,
+            int maxRetrievedTokens,
             DotName auditServiceClassSupplierDotName,
             DotName moderationModelSupplierDotName,
             ScopeInfo cdiScope) {
@@ -35,6 +39,8 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
         this.toolDotNames = toolDotNames;
         this.chatMemoryProviderSupplierClassDotName = chatMemoryProviderSupplierClassDotName;
         this.retrieverClassDotName = retrieverClassDotName;
+        this.retrievalTimeoutMillis = retrievalTimeoutMillis;
+        this.maxRetrievedTokens = maxRetrievedTokens;
         this.auditServiceClassSupplierDotName = auditServiceClassSupplierDotName;
         this.moderationModelSupplierDotName = moderationModelSupplierDotName;
         this.cdiScope = cdiScope;
@@ -60,6 +66,14 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
         return retrieverClassDotName;
     }
 
+    public long getRetrievalTimeoutMillis() {
+        return retrievalTimeoutMillis;
+    }
+
+    public int getMaxRetrievedTokens() {
+        return maxRetrievedTokens;
+    }
+
     public DotName getAuditServiceClassSupplierDotName() {
         return auditServiceClassSupplierDotName;
     }
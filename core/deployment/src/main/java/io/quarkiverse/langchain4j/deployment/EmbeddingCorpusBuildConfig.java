@@ -0,0 +1,46 @@
+package io.quarkiverse.langchain4j.deployment;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkiverse.langchain4j.MappedEmbeddingStore;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.embedding-corpus")
+public interface EmbeddingCorpusBuildConfig {
+
+    /**
+     * Directory containing text documents that are split and embedded with an in-process embedding model when the
+     * application is built.
+     * <p>
+     * When set, the resulting vectors are stored in the application as a resource and exposed as a read-only
+     * {@link EmbeddingStore} bean (a {@link MappedEmbeddingStore}), so no ingestion is needed when the application starts.
+     * Relative paths are resolved against the directory of the build.
+     */
+    Optional<Path> directory();
+
+    /**
+     * The name of the in-process embedding model used to embed the documents, for example {@code all-minilm-l6-v2-q}.
+     * The same model must be used at runtime to embed the queries.
+     * Only needs to be set if more than one in-process embedding model is present.
+     */
+    Optional<String> model();
+
+    /**
+     * The maximum size (in characters) of the segments the documents are split into
+     */
+    @WithDefault("500")
+    int maxSegmentSize();
+
+    /**
+     * The maximum size (in characters) of the overlap between consecutive segments
+     */
+    @WithDefault("50")
+    int maxOverlapSize();
+}
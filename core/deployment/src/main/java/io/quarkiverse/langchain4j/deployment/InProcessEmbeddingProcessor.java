@@ -1,20 +1,41 @@
 package io.quarkiverse.langchain4j.deployment;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
-
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.loader.FileSystemDocumentLoader;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.IllegalConfigurationException;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkiverse.langchain4j.InMemoryEmbeddingStoreSnapshot;
+import io.quarkiverse.langchain4j.MappedEmbeddingStore;
 import io.quarkiverse.langchain4j.deployment.items.InProcessEmbeddingBuildItem;
 import io.quarkiverse.langchain4j.runtime.InProcessEmbeddingRecorder;
+import io.quarkiverse.langchain4j.runtime.embedding.InProcessEmbeddingConfig;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 
 /**
  * Generate a local embedding build item for each local embedding model available in the classpath.
@@ -22,6 +43,14 @@ import io.quarkus.deployment.annotations.Record;
  */
 public class InProcessEmbeddingProcessor {
 
+    private static final Logger log = Logger.getLogger(InProcessEmbeddingProcessor.class);
+
+    private static final String CORPUS_RESOURCE = "META-INF/langchain4j/embedding-corpus.bin";
+
+    // referenced by name as the in-process embedding models are optional dependencies
+    private static final DotName BATCHING_IN_PROCESS_EMBEDDING_MODEL = DotName
+            .createSimple("io.quarkiverse.langchain4j.runtime.embedding.BatchingInProcessEmbeddingModel");
+
     // https://huggingface.co/sentence-transformers/all-MiniLM-L6-v2
     @BuildStep
     InProcessEmbeddingBuildItem all_minilm_l6_v2_q() {
@@ -29,7 +58,7 @@ public class InProcessEmbeddingProcessor {
                 .isClassPresentAtRuntime("dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("all-minilm-l6-v2-q",
                     "dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel",
-                    "all-minilm-l6-v2-q.onnx", "bert-vocabulary-en.txt");
+                    "all-minilm-l6-v2-q.onnx", "bert-vocabulary-en.txt", "MEAN");
         } else {
             return null;
         }
@@ -41,7 +70,7 @@ public class InProcessEmbeddingProcessor {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.AllMiniLmL6V2EmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("all-minilm-l6-v2",
                     "dev.langchain4j.model.embedding.AllMiniLmL6V2EmbeddingModel",
-                    "all-minilm-l6-v2.onnx", "bert-vocabulary-en.txt");
+                    "all-minilm-l6-v2.onnx", "bert-vocabulary-en.txt", "MEAN");
         } else {
             return null;
         }
@@ -53,7 +82,7 @@ public class InProcessEmbeddingProcessor {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.BgeSmallEnQuantizedEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("bge-small-en-q",
                     "dev.langchain4j.model.embedding.BgeSmallEnQuantizedEmbeddingModel",
-                    "bge-small-en-q.onnx", "bert-vocabulary-en.txt");
+                    "bge-small-en-q.onnx", "bert-vocabulary-en.txt", "CLS");
         } else {
             return null;
         }
@@ -64,7 +93,7 @@ public class InProcessEmbeddingProcessor {
     InProcessEmbeddingBuildItem bge_small_en() {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.BgeSmallEnEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("bge-small-en", "dev.langchain4j.model.embedding.BgeSmallEnEmbeddingModel",
-                    "bge-small-en.onnx", "bert-vocabulary-en.txt");
+                    "bge-small-en.onnx", "bert-vocabulary-en.txt", "CLS");
         } else {
             return null;
         }
@@ -75,7 +104,7 @@ public class InProcessEmbeddingProcessor {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.BgeSmallZhQuantizedEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("bge-small-zh-q",
                     "dev.langchain4j.model.embedding.BgeSmallZhQuantizedEmbeddingModel",
-                    "bge-small-zh-q.onnx", "bge-small-zh-vocabulary.txt");
+                    "bge-small-zh-q.onnx", "bge-small-zh-vocabulary.txt", "CLS");
         } else {
             return null;
         }
@@ -86,7 +115,7 @@ public class InProcessEmbeddingProcessor {
     InProcessEmbeddingBuildItem bge_small_zh() {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.BgeSmallZhEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("bge-small-zh", "dev.langchain4j.model.embedding.BgeSmallZhEmbeddingModel",
-                    "bge-small-zh.onnx", "bge-small-zh-vocabulary.txt");
+                    "bge-small-zh.onnx", "bge-small-zh-vocabulary.txt", "CLS");
         } else {
             return null;
         }
@@ -98,7 +127,7 @@ public class InProcessEmbeddingProcessor {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.E5SmallV2QuantizedEmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("e5-small-v2-q",
                     "dev.langchain4j.model.embedding.E5SmallV2QuantizedEmbeddingModel",
-                    "e5-small-v2-q.onnx", "bert-vocabulary-en.txt");
+                    "e5-small-v2-q.onnx", "bert-vocabulary-en.txt", "MEAN");
         } else {
             return null;
         }
@@ -109,7 +138,7 @@ public class InProcessEmbeddingProcessor {
     InProcessEmbeddingBuildItem e5_small_v2() {
         if (QuarkusClassLoader.isClassPresentAtRuntime("dev.langchain4j.model.embedding.E5SmallV2EmbeddingModel")) {
             return new InProcessEmbeddingBuildItem("e5-small-v2", "dev.langchain4j.model.embedding.E5SmallV2EmbeddingModel",
-                    "e5-small-v2.onnx", "bert-vocabulary-en.txt");
+                    "e5-small-v2.onnx", "bert-vocabulary-en.txt", "MEAN");
         } else {
             return null;
         }
@@ -119,14 +148,27 @@ public class InProcessEmbeddingProcessor {
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void exposeInProcessEmbeddingBeans(InProcessEmbeddingRecorder recorder,
+            InProcessEmbeddingConfig config,
             List<InProcessEmbeddingBuildItem> embeddings,
             BuildProducer<SyntheticBeanBuildItem> beanProducer,
             BuildProducer<EmbeddingModelBuildItem> embeddingModelProducer) {
 
         for (InProcessEmbeddingBuildItem embedding : embeddings) {
+            // the EmbeddingModel embeds texts in batches, and does not initialize the model class of LangChain4j, which
+            // would load the ONNX model a second time
             beanProducer.produce(SyntheticBeanBuildItem
-                    .configure(DotName.createSimple(embedding.className()))
+                    .configure(BATCHING_IN_PROCESS_EMBEDDING_MODEL)
                     .types(EmbeddingModel.class)
+                    .identifier(embedding.modelName())
+                    .defaultBean()
+                    .setRuntimeInit()
+                    .scope(ApplicationScoped.class)
+                    .supplier(recorder.batching(embedding.onnxModelPath(), embedding.vocabularyPath(),
+                            embedding.poolingMode(), config))
+                    .done());
+            // the model class of LangChain4j is only instantiated when it is injected as such
+            beanProducer.produce(SyntheticBeanBuildItem
+                    .configure(DotName.createSimple(embedding.className()))
                     .defaultBean()
                     .setRuntimeInit()
                     .scope(ApplicationScoped.class)
@@ -134,7 +176,79 @@ public class InProcessEmbeddingProcessor {
                     .done());
             embeddingModelProducer.produce(new EmbeddingModelBuildItem());
         }
+    }
+
+    // Embed the documents of the configured corpus and ship the result as a snapshot
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void embedCorpus(EmbeddingCorpusBuildConfig config, InProcessEmbeddingRecorder recorder,
+            List<InProcessEmbeddingBuildItem> embeddings,
+            BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer,
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            BuildProducer<EmbeddingStoreBuildItem> embeddingStoreProducer) throws Exception {
+        if (config.directory().isEmpty()) {
+            return;
+        }
+        Path directory = config.directory().get();
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalConfigurationException("'quarkus.langchain4j.embedding-corpus.directory' is set to '"
+                    + directory.toAbsolutePath() + "' which is not a directory");
+        }
+        InProcessEmbeddingBuildItem embedding = selectCorpusModel(config, embeddings);
+
+        EmbeddingModel model = (EmbeddingModel) Thread.currentThread().getContextClassLoader()
+                .loadClass(embedding.className()).getConstructor().newInstance();
+        List<Document> documents = FileSystemDocumentLoader.loadDocuments(directory, new TextDocumentParser());
+        List<TextSegment> segments = DocumentSplitters.recursive(config.maxSegmentSize(), config.maxOverlapSize())
+                .splitAll(documents);
+        List<Embedding> vectors = segments.isEmpty() ? List.of() : model.embedAll(segments).content();
+        List<String> ids = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            ids.add(UUID.nameUUIDFromBytes(segments.get(i).text().getBytes(StandardCharsets.UTF_8)) + "-" + i);
+        }
+        log.infof("Embedded %d segments of %d documents from '%s' using in-process embedding model %s", segments.size(),
+                documents.size(), directory, embedding.modelName());
+
+        Path snapshot = Files.createTempFile("embedding-corpus", ".bin");
+        try {
+            InMemoryEmbeddingStoreSnapshot.write(ids, vectors, segments, snapshot);
+            generatedResourceProducer.produce(new GeneratedResourceBuildItem(CORPUS_RESOURCE, Files.readAllBytes(snapshot)));
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+        nativeImageResourceProducer.produce(new NativeImageResourceBuildItem(CORPUS_RESOURCE));
+
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(MappedEmbeddingStore.class)
+                .types(ClassType.create(EmbeddingStore.class),
+                        ParameterizedType.create(EmbeddingStore.class, ClassType.create(TextSegment.class)),
+                        ClassType.create(MappedEmbeddingStore.class))
+                .defaultBean()
+                .setRuntimeInit()
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.corpus(CORPUS_RESOURCE))
+                .done());
+        embeddingStoreProducer.produce(new EmbeddingStoreBuildItem());
+    }
 
+    private static InProcessEmbeddingBuildItem selectCorpusModel(EmbeddingCorpusBuildConfig config,
+            List<InProcessEmbeddingBuildItem> embeddings) {
+        if (config.model().isPresent()) {
+            for (InProcessEmbeddingBuildItem embedding : embeddings) {
+                if (embedding.modelName().equals(config.model().get())) {
+                    return embedding;
+                }
+            }
+            throw new IllegalConfigurationException("In-process embedding model '" + config.model().get()
+                    + "' configured by 'quarkus.langchain4j.embedding-corpus.model' was not found on the classpath");
+        }
+        if (embeddings.size() != 1) {
+            throw new IllegalConfigurationException("Embedding the corpus requires exactly one in-process embedding model"
+                    + " on the classpath, or 'quarkus.langchain4j.embedding-corpus.model' to be set. Found: "
+                    + embeddings.stream().map(InProcessEmbeddingBuildItem::modelName).toList());
+        }
+        return embeddings.get(0);
     }
 
 }
@@ -3,6 +3,7 @@ package io.quarkiverse.langchain4j.deployment;
 import org.jboss.jandex.DotName;
 
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
@@ -18,9 +19,13 @@ import dev.langchain4j.service.Moderate;
 import dev.langchain4j.service.SystemMessage;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.UserName;
+import dev.langchain4j.store.embedding.EmbeddingStore;
 import io.quarkiverse.langchain4j.CreatedAware;
+import io.quarkiverse.langchain4j.MemoryAffinity;
 import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.SemanticCacheResult;
 import io.quarkiverse.langchain4j.audit.AuditService;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryNearCache;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusAiServiceContextQualifier;
 
 public class Langchain4jDotNames {
@@ -35,6 +40,8 @@ public class Langchain4jDotNames {
     static final DotName USER_MESSAGE = DotName.createSimple(UserMessage.class);
     static final DotName USER_NAME = DotName.createSimple(UserName.class);
     static final DotName MODERATE = DotName.createSimple(Moderate.class);
+    static final DotName SEMANTIC_CACHE_RESULT = DotName.createSimple(SemanticCacheResult.class);
+    static final DotName EMBEDDING_STORE = DotName.createSimple(EmbeddingStore.class);
     static final DotName MEMORY_ID = DotName.createSimple(MemoryId.class);
     static final DotName DESCRIPTION = DotName.createSimple(Description.class);
     static final DotName STRUCTURED_PROMPT = DotName.createSimple(StructuredPrompt.class);
@@ -53,6 +60,10 @@ public class Langchain4jDotNames {
     static final DotName NO_RETRIEVER = DotName.createSimple(
             RegisterAiService.NoRetriever.class);
 
+    static final DotName MEMORY_AFFINITY = DotName.createSimple(MemoryAffinity.class);
+    static final DotName TOKENIZER = DotName.createSimple(Tokenizer.class);
+    static final DotName CHAT_MEMORY_NEAR_CACHE = DotName.createSimple(ChatMemoryNearCache.class);
+
     static final DotName AUDIT_SERVICE = DotName.createSimple(AuditService.class);
 
     static final DotName BEAN_IF_EXISTS_AUDIT_SERVICE_SUPPLIER = DotName.createSimple(
@@ -7,14 +7,17 @@ public final class InProcessEmbeddingBuildItem extends MultiBuildItem implements
     private final String modelName;
     private final String onnxModelPath;
     private final String vocabularyPath;
+    private final String poolingMode;
 
     private final String className;
 
-    public InProcessEmbeddingBuildItem(String modelName, String className, String onnxModelPath, String vocabularyPath) {
+    public InProcessEmbeddingBuildItem(String modelName, String className, String onnxModelPath, String vocabularyPath,
+            String poolingMode) {
         this.modelName = modelName;
         this.className = className;
         this.onnxModelPath = onnxModelPath;
         this.vocabularyPath = vocabularyPath;
+        this.poolingMode = poolingMode;
     }
 
     public String modelName() {
@@ -29,6 +32,13 @@ public final class InProcessEmbeddingBuildItem extends MultiBuildItem implements
         return vocabularyPath;
     }
 
+    /**
+     * @return the name of the {@code PoolingMode} of the model, {@code CLS} or {@code MEAN}
+     */
+    public String poolingMode() {
+        return poolingMode;
+    }
+
     public String className() {
         return className;
     }
@@ -0,0 +1,64 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+class BatchingInProcessEmbeddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.langchain4j.in-process-embedding.batch-size", "3")
+            .overrideConfigKey("quarkus.langchain4j.in-process-embedding.parallelism", "2")
+            .overrideConfigKey("quarkus.langchain4j.in-process-embedding.intra-op-threads", "1")
+            .overrideConfigKey("quarkus.langchain4j.in-process-embedding.optimization-level", "extended");
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Inject
+    AllMiniLmL6V2QuantizedEmbeddingModel concreteModel;
+
+    @Test
+    void should_embed_like_the_sequential_model() {
+        List<TextSegment> segments = new ArrayList<>();
+        segments.add(TextSegment.from("hi"));
+        segments.add(TextSegment.from("The quick brown fox jumps over the lazy dog"));
+        segments.add(TextSegment.from("Orders are shipped within two business days."));
+        segments.add(TextSegment.from("Items can be returned within thirty days of delivery for a full refund."));
+        segments.add(TextSegment.from("lorem ipsum dolor sit amet ".repeat(120))); // longer than the maximum sequence length
+        segments.add(TextSegment.from("Quarkus"));
+        segments.add(TextSegment.from("What is the capital of France?"));
+
+        // the model class of LangChain4j, which loads its own copy of the ONNX model, is not used
+        assertThat(ClientProxy.unwrap(embeddingModel)).isNotInstanceOf(AllMiniLmL6V2QuantizedEmbeddingModel.class);
+        List<Embedding> batched = embeddingModel.embedAll(segments).content();
+
+        AllMiniLmL6V2QuantizedEmbeddingModel sequential = new AllMiniLmL6V2QuantizedEmbeddingModel();
+        assertThat(batched).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            Embedding expected = sequential.embed(segments.get(i)).content();
+            // the activations of quantized models are quantized per batch, so the embeddings are not strictly identical
+            assertThat(CosineSimilarity.between(batched.get(i), expected)).isGreaterThan(0.95);
+        }
+        assertThat(concreteModel.estimateTokenCount("The quick brown fox"))
+                .isEqualTo(sequential.estimateTokenCount("The quick brown fox"));
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryLocks;
+
+class ChatMemoryLocksTest {
+
+    @Test
+    void should_serialize_same_memory_id() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CompletableFuture<Void> other;
+        try (var ignored = ChatMemoryLocks.get().lock("same")) {
+            other = CompletableFuture.runAsync(() -> {
+                try (var ignored2 = ChatMemoryLocks.get().lock("same")) {
+                    acquired.countDown();
+                }
+            });
+            assertThat(acquired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        }
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(acquired.getCount()).isZero();
+    }
+
+    @Test
+    void should_not_block_different_memory_ids() throws Exception {
+        try (var ignored = ChatMemoryLocks.get().lock("first")) {
+            CompletableFuture.runAsync(() -> {
+                try (var ignored2 = ChatMemoryLocks.get().lock("second")) {
+                    // nothing to do
+                }
+            }).get(5, TimeUnit.SECONDS);
+        }
+    }
+}
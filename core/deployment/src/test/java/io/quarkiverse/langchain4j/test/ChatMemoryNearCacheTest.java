@@ -0,0 +1,117 @@
+package io.quarkiverse.langchain4j.test;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryNearCache;
+
+class ChatMemoryNearCacheTest {
+
+    @Test
+    void should_only_read_from_store_on_miss() {
+        CountingStore store = new CountingStore();
+        store.updateMessages("one", List.of(userMessage("hello")));
+        ChatMemoryNearCache nearCache = new ChatMemoryNearCache(true, 10);
+        ChatMemoryStore cached = nearCache.wrap(store);
+
+        assertThat(nearCache.contains("one")).isFalse();
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"));
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"));
+        assertThat(store.reads.get()).isEqualTo(1);
+        assertThat(nearCache.contains("one")).isTrue();
+
+        cached.updateMessages("one", List.of(userMessage("hello"), aiMessage("hi")));
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"), aiMessage("hi"));
+        assertThat(store.getMessages("one")).containsExactly(userMessage("hello"), aiMessage("hi"));
+        assertThat(store.reads.get()).isEqualTo(2);
+
+        nearCache.invalidate("one");
+        cached.getMessages("one");
+        assertThat(store.reads.get()).isEqualTo(3);
+
+        cached.deleteMessages("one");
+        assertThat(nearCache.contains("one")).isFalse();
+        assertThat(cached.getMessages("one")).isEmpty();
+    }
+
+    @Test
+    void should_not_cache_messages_loaded_before_a_concurrent_change() {
+        CountingStore store = new CountingStore();
+        store.updateMessages("one", List.of(userMessage("hello")));
+        ChatMemoryNearCache nearCache = new ChatMemoryNearCache(true, 10);
+        ChatMemoryStore cached = nearCache.wrap(store);
+
+        // the messages are updated by another turn while the first one is being loaded
+        store.duringRead = () -> cached.updateMessages("one", List.of(userMessage("hello"), aiMessage("hi")));
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"));
+        store.duringRead = null;
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"), aiMessage("hi"));
+
+        // and deleted while they are loaded again
+        nearCache.invalidate("one");
+        store.duringRead = () -> cached.deleteMessages("one");
+        assertThat(cached.getMessages("one")).containsExactly(userMessage("hello"), aiMessage("hi"));
+        store.duringRead = null;
+        assertThat(nearCache.contains("one")).isFalse();
+        assertThat(cached.getMessages("one")).isEmpty();
+    }
+
+    @Test
+    void should_evict_least_recently_used() {
+        ChatMemoryNearCache nearCache = new ChatMemoryNearCache(true, 2);
+        ChatMemoryStore cached = nearCache.wrap(new CountingStore());
+
+        cached.getMessages("one");
+        cached.getMessages("two");
+        cached.getMessages("one");
+        cached.getMessages("three");
+
+        assertThat(nearCache.contains("one")).isTrue();
+        assertThat(nearCache.contains("two")).isFalse();
+        assertThat(nearCache.contains("three")).isTrue();
+    }
+
+    @Test
+    void should_not_wrap_when_disabled_or_local() {
+        CountingStore store = new CountingStore();
+        assertThat(new ChatMemoryNearCache(false, 10).wrap(store)).isSameAs(store);
+        InMemoryChatMemoryStore inMemoryStore = new InMemoryChatMemoryStore();
+        assertThat(new ChatMemoryNearCache(true, 10).wrap(inMemoryStore)).isSameAs(inMemoryStore);
+    }
+
+    private static class CountingStore implements ChatMemoryStore {
+
+        private final InMemoryChatMemoryStore delegate = new InMemoryChatMemoryStore();
+        private final AtomicInteger reads = new AtomicInteger();
+        private Runnable duringRead;
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            reads.incrementAndGet();
+            List<ChatMessage> result = List.copyOf(delegate.getMessages(memoryId));
+            if (duringRead != null) {
+                duringRead.run();
+            }
+            return result;
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            delegate.updateMessages(memoryId, messages);
+        }
+
+        @Override
+        public void deleteMessages(Object memoryId) {
+            delegate.deleteMessages(memoryId);
+        }
+    }
+}
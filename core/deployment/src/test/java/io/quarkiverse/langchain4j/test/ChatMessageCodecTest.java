@@ -0,0 +1,102 @@
+package io.quarkiverse.langchain4j.test;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.ToolExecutionResultMessage.toolExecutionResultMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import io.quarkiverse.langchain4j.ChatMessageCodec;
+import io.quarkiverse.langchain4j.runtime.aiservice.BinaryChatMessageCodec;
+import io.quarkiverse.langchain4j.runtime.aiservice.JsonChatMessageCodec;
+import io.quarkus.test.QuarkusUnitTest;
+
+class ChatMessageCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.codec", "binary");
+
+    private static final List<ChatMessage> MESSAGES = asList(
+            systemMessage("Hello from system"),
+            userMessage("Hello from user"),
+            userMessage("Klaus", "Hello from Klaus"),
+            aiMessage("Hello from AI"),
+            aiMessage(ToolExecutionRequest.builder()
+                    .name("calculator")
+                    .arguments("{}")
+                    .build()),
+            toolExecutionResultMessage("12345", "calculator", "4"));
+
+    @Inject
+    ChatMessageCodec codec;
+
+    @Test
+    void should_use_configured_codec() {
+        assertThat(codec).isInstanceOf(BinaryChatMessageCodec.class);
+    }
+
+    @Test
+    void binary_should_encode_and_decode_all_types_of_messages() {
+        BinaryChatMessageCodec binaryCodec = new BinaryChatMessageCodec();
+
+        byte[] encoded = binaryCodec.encode(MESSAGES);
+        assertThat(binaryCodec.decode(encoded)).isEqualTo(MESSAGES);
+        assertThat(encoded.length).isLessThan(
+                ChatMessageSerializer.messagesToJson(MESSAGES).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void binary_should_append_to_encoded_messages() {
+        assertAppend(new BinaryChatMessageCodec());
+    }
+
+    @Test
+    void json_should_encode_and_decode_all_types_of_messages() {
+        JsonChatMessageCodec jsonCodec = new JsonChatMessageCodec();
+
+        byte[] encoded = jsonCodec.encode(MESSAGES);
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo(ChatMessageSerializer.messagesToJson(MESSAGES));
+        assertThat(jsonCodec.decode(encoded)).isEqualTo(MESSAGES);
+    }
+
+    @Test
+    void json_should_append_to_encoded_messages() {
+        assertAppend(new JsonChatMessageCodec());
+    }
+
+    @Test
+    void should_decode_null_and_empty_as_empty_list() {
+        assertThat(new BinaryChatMessageCodec().decode(null)).isEmpty();
+        assertThat(new BinaryChatMessageCodec().decode(new byte[0])).isEmpty();
+        assertThat(new JsonChatMessageCodec().decode(null)).isEmpty();
+        assertThat(new JsonChatMessageCodec().decode(new byte[0])).isEmpty();
+    }
+
+    private static void assertAppend(ChatMessageCodec codec) {
+        byte[] encoded = codec.encode(List.of());
+        List<ChatMessage> expected = new ArrayList<>();
+        for (ChatMessage message : MESSAGES) {
+            encoded = codec.append(encoded, message);
+            expected.add(message);
+            assertThat(codec.decode(encoded)).isEqualTo(expected);
+        }
+        assertThat(codec.append(null, MESSAGES.get(0))).isEqualTo(codec.encode(List.of(MESSAGES.get(0))));
+    }
+}
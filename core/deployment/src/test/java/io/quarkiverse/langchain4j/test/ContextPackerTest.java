@@ -0,0 +1,48 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.segment.TextSegment;
+import io.quarkiverse.langchain4j.runtime.aiservice.ContextPacker;
+
+class ContextPackerTest {
+
+    @Test
+    void should_keep_the_most_relevant_segments_that_fit() {
+        // without a model nor a tokenizer, a token is approximated as 4 characters
+        ContextPacker packer = new ContextPacker(9, null, null, "Service");
+
+        ContextPacker.Result result = packer.pack(List.of(
+                TextSegment.from("a".repeat(20)),
+                TextSegment.from("b".repeat(24)),
+                TextSegment.from("c".repeat(12)),
+                TextSegment.from("d".repeat(8))));
+
+        assertThat(result.segments()).extracting(TextSegment::text)
+                .containsExactly("a".repeat(20), "c".repeat(12));
+        assertThat(result.retrievedTokens()).isEqualTo(5 + 6 + 3 + 2);
+        assertThat(result.packedTokens()).isEqualTo(8);
+    }
+
+    @Test
+    void should_remove_duplicated_and_overlapping_text() {
+        ContextPacker packer = new ContextPacker(1000, null, null, "Service");
+        String first = "Orders are shipped within two business days. ";
+        String second = "Returns are accepted within thirty days of the delivery. ";
+        String third = "Refunds are issued to the original payment method. ";
+
+        ContextPacker.Result result = packer.pack(List.of(
+                TextSegment.from(first + second),
+                TextSegment.from(second),
+                TextSegment.from(second + third),
+                TextSegment.from("Customers can also " + first)));
+
+        assertThat(result.segments()).extracting(TextSegment::text)
+                .containsExactly(first + second, third, "Customers can also ");
+        assertThat(result.packedTokens()).isLessThan(result.retrievedTokens());
+    }
+}
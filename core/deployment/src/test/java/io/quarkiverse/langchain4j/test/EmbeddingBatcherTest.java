@@ -0,0 +1,111 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingBatcher;
+
+class EmbeddingBatcherTest {
+
+    @Test
+    void should_send_concurrent_texts_in_batches() throws Exception {
+        RecordingModel delegate = new RecordingModel();
+        EmbeddingBatcher batcher = new EmbeddingBatcher(true, Duration.ofMillis(50), 4);
+        EmbeddingModel model = batcher.wrap(delegate);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Embedding>> embeddings = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String text = "text " + i;
+                embeddings.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return model.embed(text).content();
+                }, executor));
+            }
+            start.countDown();
+
+            for (int i = 0; i < 8; i++) {
+                assertThat(embeddings.get(i).get(5, TimeUnit.SECONDS).vector()).containsExactly(("text " + i).length(),
+                        i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(delegate.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        assertThat(delegate.batches.size()).isLessThan(8);
+        assertThat(batcher.batches()).isEqualTo(delegate.batches.size());
+    }
+
+    @Test
+    void should_send_a_single_text_after_the_window() {
+        RecordingModel delegate = new RecordingModel();
+        EmbeddingModel model = new EmbeddingBatcher(true, Duration.ofMillis(5), 4).wrap(delegate);
+
+        Response<Embedding> response = model.embed("text 1");
+
+        assertThat(response.content().vector()).containsExactly(6, 1);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(1);
+        assertThat(delegate.batches).hasSize(1);
+    }
+
+    @Test
+    void should_propagate_failures_to_every_caller() {
+        EmbeddingModel model = new EmbeddingBatcher(true, Duration.ofMillis(5), 4).wrap(new EmbeddingModel() {
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                throw new IllegalStateException("unavailable");
+            }
+        });
+
+        assertThatThrownBy(() -> model.embed("text 1")).isInstanceOf(IllegalStateException.class)
+                .hasMessage("unavailable");
+    }
+
+    @Test
+    void should_not_wrap_when_disabled() {
+        RecordingModel delegate = new RecordingModel();
+
+        assertThat(new EmbeddingBatcher(false, Duration.ofMillis(5), 4).wrap(delegate)).isSameAs(delegate);
+    }
+
+    /**
+     * Embeds "text i" as [length, i] and records the batches
+     */
+    private static final class RecordingModel implements EmbeddingModel {
+
+        private final List<List<TextSegment>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(List.copyOf(textSegments));
+            List<Embedding> result = new ArrayList<>();
+            for (TextSegment segment : textSegments) {
+                String text = segment.text();
+                result.add(Embedding.from(new float[] { text.length(), Integer.parseInt(text.substring(5)) }));
+            }
+            return Response.from(result, new TokenUsage(textSegments.size()));
+        }
+    }
+}
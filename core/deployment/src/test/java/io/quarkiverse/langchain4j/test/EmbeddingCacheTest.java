@@ -0,0 +1,115 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.EmbeddingCacheBackend;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+class EmbeddingCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(MapBackend.class))
+            .overrideConfigKey("quarkus.langchain4j.embedding-cache.enabled", "true");
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Inject
+    EmbeddingCache cache;
+
+    @Inject
+    MapBackend backend;
+
+    @Test
+    void should_reuse_embeddings_of_normalized_texts() {
+        long hits = cache.hits();
+        long misses = cache.misses();
+        int backendSize = backend.size();
+
+        Embedding first = embeddingModel.embed("How long does delivery take?").content();
+        Embedding second = embeddingModel.embed("  How long   does delivery take?\n").content();
+        List<Embedding> all = embeddingModel.embedAll(List.of(TextSegment.from("How long does delivery take?"),
+                TextSegment.from("Can I return an item?"), TextSegment.from("Can I return an item?"))).content();
+
+        assertThat(second.vector()).isEqualTo(first.vector());
+        assertThat(all).hasSize(3);
+        assertThat(all.get(0).vector()).isEqualTo(first.vector());
+        assertThat(all.get(2).vector()).isEqualTo(all.get(1).vector());
+        assertThat(cache.hits() - hits).isEqualTo(2);
+        assertThat(cache.misses() - misses).isEqualTo(3);
+        assertThat(backend.size()).isEqualTo(backendSize + 2);
+    }
+
+    @Test
+    void should_consult_the_backend_on_local_miss() {
+        Embedding embedding = embeddingModel.embed("Where is my order?").content();
+        cache.invalidateAll();
+        long misses = cache.misses();
+
+        Embedding again = embeddingModel.embed("Where is my order?").content();
+
+        assertThat(again.vector()).isEqualTo(embedding.vector());
+        assertThat(cache.misses()).isEqualTo(misses);
+    }
+
+    @Test
+    void should_expire_entries() throws InterruptedException {
+        EmbeddingCache expiring = new EmbeddingCache(true, 10, Duration.ofMillis(10), true, null);
+        int[] calls = new int[1];
+        Function<List<TextSegment>, Response<List<Embedding>>> embedder = segments -> {
+            calls[0]++;
+            return Response.from(segments.stream().map(s -> Embedding.from(new float[] { 1f })).toList());
+        };
+
+        expiring.embedAll("model", List.of(TextSegment.from("Hello")), embedder);
+        expiring.embedAll("model", List.of(TextSegment.from("hello")), embedder);
+        assertThat(calls[0]).isEqualTo(1);
+
+        Thread.sleep(20);
+        expiring.embedAll("model", List.of(TextSegment.from("hello")), embedder);
+        assertThat(calls[0]).isEqualTo(2);
+
+        expiring.embedAll("other-model", List.of(TextSegment.from("hello")), embedder);
+        assertThat(calls[0]).isEqualTo(3);
+    }
+
+    @ApplicationScoped
+    public static class MapBackend implements EmbeddingCacheBackend {
+
+        private final Map<String, Embedding> entries = new ConcurrentHashMap<>();
+
+        int size() {
+            return entries.size();
+        }
+
+        @Override
+        public Embedding get(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void put(String key, Embedding embedding, Duration ttl) {
+            entries.put(key, embedding);
+        }
+    }
+}
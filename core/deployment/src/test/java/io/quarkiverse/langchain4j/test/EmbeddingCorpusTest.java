@@ -0,0 +1,44 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkiverse.langchain4j.MappedEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class EmbeddingCorpusTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.langchain4j.embedding-corpus.directory", "src/test/resources/embedding-corpus");
+
+    @Inject
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Test
+    void should_expose_documents_embedded_at_build_time() {
+        assertThat(embeddingStore).isInstanceOf(MappedEmbeddingStore.class);
+        assertThat(((MappedEmbeddingStore) embeddingStore).size()).isEqualTo(2);
+
+        List<EmbeddingMatch<TextSegment>> relevant = embeddingStore
+                .findRelevant(embeddingModel.embed("How long does delivery take?").content(), 1);
+        assertThat(relevant).hasSize(1);
+        assertThat(relevant.get(0).embedded().text()).startsWith("Orders are shipped");
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.quarkiverse.langchain4j.InMemoryEmbeddingStoreSnapshot;
+import io.quarkiverse.langchain4j.MappedEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class InMemoryEmbeddingStoreSnapshotTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    void should_find_the_same_matches_as_the_original_store() throws IOException {
+        InMemoryEmbeddingStore<TextSegment> original = new InMemoryEmbeddingStore<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            TextSegment segment = i % 3 == 0 ? null
+                    : TextSegment.from("segment " + i, Metadata.from("index", String.valueOf(i)));
+            original.add("id-" + i, randomEmbedding(random), segment);
+        }
+        Path path = Files.createTempDirectory("InMemoryEmbeddingStoreSnapshotTest").resolve("store.bin");
+
+        InMemoryEmbeddingStoreSnapshot.write(original, path);
+        MappedEmbeddingStore mapped = InMemoryEmbeddingStoreSnapshot.map(path);
+
+        assertThat(mapped.size()).isEqualTo(100);
+        assertThat(mapped.dimension()).isEqualTo(16);
+        for (int i = 0; i < 5; i++) {
+            Embedding reference = randomEmbedding(random);
+            List<EmbeddingMatch<TextSegment>> expected = original.findRelevant(reference, 10, 0.5);
+            List<EmbeddingMatch<TextSegment>> actual = mapped.findRelevant(reference, 10, 0.5);
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int j = 0; j < expected.size(); j++) {
+                assertThat(actual.get(j).embeddingId()).isEqualTo(expected.get(j).embeddingId());
+                assertThat(actual.get(j).embedding()).isEqualTo(expected.get(j).embedding());
+                assertThat(actual.get(j).embedded()).isEqualTo(expected.get(j).embedded());
+                assertThat(actual.get(j).score()).isCloseTo(expected.get(j).score(),
+                        offset(1e-5));
+            }
+        }
+
+        InMemoryEmbeddingStore<TextSegment> copy = mapped.toInMemoryEmbeddingStore();
+        Embedding reference = randomEmbedding(random);
+        assertThat(copy.findRelevant(reference, 100)).isEqualTo(original.findRelevant(reference, 100));
+    }
+
+    @Test
+    void should_handle_empty_store() throws IOException {
+        Path path = Files.createTempDirectory("InMemoryEmbeddingStoreSnapshotTest").resolve("empty.bin");
+
+        InMemoryEmbeddingStoreSnapshot.write(new InMemoryEmbeddingStore<>(), path);
+        MappedEmbeddingStore mapped = InMemoryEmbeddingStoreSnapshot.map(path);
+
+        assertThat(mapped.size()).isZero();
+        assertThat(mapped.findRelevant(Embedding.from(new float[] { 1, 0 }), 10)).isEmpty();
+        assertThatThrownBy(() -> mapped.add(Embedding.from(new float[] { 1, 0 })))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[16];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
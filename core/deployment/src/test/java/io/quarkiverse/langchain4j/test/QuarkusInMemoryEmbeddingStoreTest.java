@@ -0,0 +1,172 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.quarkiverse.langchain4j.QuarkusInMemoryEmbeddingStore;
+import io.quarkiverse.langchain4j.QuarkusInMemoryEmbeddingStore.Quantization;
+
+class QuarkusInMemoryEmbeddingStoreTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void exhaustive_search_should_match_stock_store() {
+        Random random = new Random(1);
+        InMemoryEmbeddingStore<TextSegment> stock = new InMemoryEmbeddingStore<>();
+        QuarkusInMemoryEmbeddingStore store = new QuarkusInMemoryEmbeddingStore();
+        for (int i = 0; i < 2000; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("segment " + i);
+            stock.add("id-" + i, embedding, segment);
+            store.add("id-" + i, embedding, segment);
+        }
+        assertThat(store.size()).isEqualTo(2000);
+
+        for (int i = 0; i < 10; i++) {
+            Embedding reference = randomEmbedding(random);
+            List<EmbeddingMatch<TextSegment>> expected = stock.findRelevant(reference, 10, 0.6);
+            List<EmbeddingMatch<TextSegment>> actual = store.findRelevant(reference, 10, 0.6);
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int j = 0; j < expected.size(); j++) {
+                assertThat(actual.get(j).embeddingId()).isEqualTo(expected.get(j).embeddingId());
+                assertThat(actual.get(j).embedding()).isEqualTo(expected.get(j).embedding());
+                assertThat(actual.get(j).embedded()).isEqualTo(expected.get(j).embedded());
+                assertThat(actual.get(j).score()).isCloseTo(expected.get(j).score(), offset(1e-5));
+            }
+        }
+    }
+
+    @Test
+    void hnsw_search_should_have_high_recall() {
+        Random random = new Random(2);
+        QuarkusInMemoryEmbeddingStore exact = new QuarkusInMemoryEmbeddingStore();
+        QuarkusInMemoryEmbeddingStore approximate = QuarkusInMemoryEmbeddingStore.builder().hnsw(16, 100, 64).build();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            embeddings.add(randomEmbedding(random));
+        }
+        List<String> ids = exact.addAll(embeddings);
+        for (int i = 0; i < ids.size(); i++) {
+            approximate.add(ids.get(i), embeddings.get(i));
+        }
+
+        int found = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            Embedding reference = randomEmbedding(random);
+            Set<String> expected = new HashSet<>();
+            exact.findRelevant(reference, 10).forEach(m -> expected.add(m.embeddingId()));
+            List<EmbeddingMatch<TextSegment>> actual = approximate.findRelevant(reference, 10);
+            assertThat(actual).hasSize(10);
+            for (EmbeddingMatch<TextSegment> match : actual) {
+                if (expected.contains(match.embeddingId())) {
+                    found++;
+                }
+            }
+        }
+        assertThat(found / (queries * 10.0)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void quantized_search_should_have_high_recall() {
+        Random random = new Random(3);
+        int dimension = 256;
+        // like actual embeddings, the vectors are grouped around topics, and the queries are close to some of them
+        List<Embedding> topics = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            topics.add(randomEmbedding(random, dimension));
+        }
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            embeddings.add(near(topics.get(random.nextInt(topics.size())), random, 0.5f));
+        }
+        List<Embedding> references = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            references.add(near(embeddings.get(random.nextInt(embeddings.size())), random, 0.3f));
+        }
+        QuarkusInMemoryEmbeddingStore exact = new QuarkusInMemoryEmbeddingStore();
+        List<String> ids = exact.addAll(embeddings);
+
+        // int8 codes alone are close enough to rank almost all the neighbours correctly
+        assertThat(recall(exact, quantized(Quantization.INT8, 0, ids, embeddings), references)).isGreaterThan(0.95);
+        assertThat(recall(exact, quantized(Quantization.INT8, 2, ids, embeddings), references)).isGreaterThan(0.99);
+        // binary codes only pick the candidates, re-ranking them is what gives back the recall
+        double binary = recall(exact, quantized(Quantization.BINARY, 0, ids, embeddings), references);
+        double reranked = recall(exact, quantized(Quantization.BINARY, 4, ids, embeddings), references);
+        assertThat(reranked).isGreaterThan(0.85).isGreaterThan(binary);
+        assertThat(recall(exact, quantized(Quantization.BINARY, 10, ids, embeddings), references)).isGreaterThan(0.95);
+    }
+
+    private static QuarkusInMemoryEmbeddingStore quantized(Quantization quantization, int oversampling, List<String> ids,
+            List<Embedding> embeddings) {
+        QuarkusInMemoryEmbeddingStore store = QuarkusInMemoryEmbeddingStore.builder()
+                .quantization(quantization, oversampling)
+                .build();
+        for (int i = 0; i < ids.size(); i++) {
+            store.add(ids.get(i), embeddings.get(i));
+        }
+        return store;
+    }
+
+    /**
+     * @return the fraction of the 10 best matches of {@code exact} that {@code approximate} also finds
+     */
+    private static double recall(QuarkusInMemoryEmbeddingStore exact, QuarkusInMemoryEmbeddingStore approximate,
+            List<Embedding> references) {
+        int found = 0;
+        for (Embedding reference : references) {
+            Set<String> expected = new HashSet<>();
+            exact.findRelevant(reference, 10).forEach(m -> expected.add(m.embeddingId()));
+            for (EmbeddingMatch<TextSegment> match : approximate.findRelevant(reference, 10)) {
+                if (expected.contains(match.embeddingId())) {
+                    found++;
+                }
+            }
+        }
+        return found / (references.size() * 10.0);
+    }
+
+    @Test
+    void should_reject_embeddings_of_different_dimension() {
+        QuarkusInMemoryEmbeddingStore store = new QuarkusInMemoryEmbeddingStore();
+        store.add(Embedding.from(new float[] { 1, 2 }));
+
+        assertThatThrownBy(() -> store.add(Embedding.from(new float[] { 1, 2, 3 })))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(store.findRelevant(Embedding.from(new float[] { 1, 2 }), 5)).hasSize(1);
+    }
+
+    private static Embedding near(Embedding embedding, Random random, float distance) {
+        float[] vector = embedding.vector().clone();
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] += (random.nextFloat() * 2 - 1) * distance;
+        }
+        return Embedding.from(vector);
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        return randomEmbedding(random, DIMENSION);
+    }
+
+    private static Embedding randomEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
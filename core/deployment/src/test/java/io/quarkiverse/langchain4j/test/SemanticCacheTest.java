@@ -0,0 +1,108 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.service.SystemMessage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.SemanticCacheResult;
+import io.quarkiverse.langchain4j.runtime.aiservice.SemanticCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+class SemanticCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(CountingChatModelSupplier.class, Assistant.class))
+            .overrideConfigKey("quarkus.langchain4j.semantic-cache.max-size", "10");
+
+    static final AtomicInteger calls = new AtomicInteger();
+
+    public static class CountingChatModelSupplier implements Supplier<ChatLanguageModel> {
+
+        @Override
+        public ChatLanguageModel get() {
+            return new ChatLanguageModel() {
+                @Override
+                public Response<AiMessage> generate(List<ChatMessage> messages) {
+                    return Response.from(AiMessage.from("answer " + calls.incrementAndGet()));
+                }
+            };
+        }
+    }
+
+    @RegisterAiService(chatLanguageModelSupplier = CountingChatModelSupplier.class)
+    interface Assistant {
+
+        @SemanticCacheResult(similarityThreshold = 0.9)
+        String answer(String question);
+
+        @SystemMessage("Answer like a pirate")
+        @SemanticCacheResult(similarityThreshold = 0.9)
+        String answerLikeAPirate(String question);
+
+        String uncached(String question);
+    }
+
+    @Inject
+    Assistant assistant;
+
+    @Inject
+    SemanticCache cache;
+
+    @Test
+    @ActivateRequestContext
+    void should_reuse_responses_of_similar_questions_of_the_same_method() {
+        long hits = cache.hits();
+        long misses = cache.misses();
+        int modelCalls = calls.get();
+
+        String first = assistant.answer("How long does the delivery of an order take?");
+        String similar = assistant.answer("How long does the delivery of my order take?");
+        String other = assistant.answer("Which payment methods do you accept?");
+        String otherScope = assistant.answerLikeAPirate("How long does the delivery of an order take?");
+        String uncached = assistant.uncached("How long does the delivery of an order take?");
+
+        assertThat(similar).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(otherScope).isNotEqualTo(first);
+        assertThat(uncached).isNotEqualTo(first);
+        assertThat(calls.get() - modelCalls).isEqualTo(4);
+        assertThat(cache.hits() - hits).isEqualTo(1);
+        assertThat(cache.misses() - misses).isEqualTo(3);
+    }
+
+    @Test
+    void should_evict_the_oldest_responses_beyond_the_maximum_size() {
+        // orthogonal embeddings of the dimension of the embedding model, so that each response only matches its own key
+        List<SemanticCache.Key> keys = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            float[] vector = new float[384];
+            vector[i] = 1;
+            keys.add(new SemanticCache.Key("eviction", Embedding.from(vector)));
+            cache.put(keys.get(i), AiMessage.from("response " + i));
+        }
+
+        assertThat(cache.get(keys.get(0), 0.9)).isNull();
+        assertThat(cache.get(keys.get(1), 0.9)).isEqualTo(AiMessage.from("response 1"));
+        assertThat(cache.get(keys.get(10), 0.9)).isEqualTo(AiMessage.from("response 10"));
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkiverse.langchain4j.test;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemorySummarizer;
+import io.quarkiverse.langchain4j.runtime.aiservice.SummarizingChatMemory;
+
+class SummarizingChatMemoryTest {
+
+    private final List<String> prompts = new ArrayList<>();
+    private final ChatLanguageModel model = new ChatLanguageModel() {
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            prompts.add(messages.get(0).text());
+            return Response.from(aiMessage("summary " + prompts.size()));
+        }
+    };
+
+    @Test
+    void should_fold_evicted_messages_into_summary() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        ChatMemorySummarizer summarizer = new ChatMemorySummarizer(model, "Summarize", store, Runnable::run);
+        SummarizingChatMemory memory = new SummarizingChatMemory("id", 3, store, summarizer);
+
+        memory.add(systemMessage("You are helpful"));
+        memory.add(userMessage("first question"));
+        memory.add(aiMessage("first answer"));
+        assertThat(memory.messages()).hasSize(3);
+        assertThat(prompts).isEmpty();
+
+        memory.add(userMessage("second question"));
+        assertThat(prompts).hasSize(1);
+        assertThat(prompts.get(0)).contains("User: first question").doesNotContain("Current summary");
+        assertThat(memory.messages()).hasSize(4);
+        assertThat(memory.messages().get(0)).isEqualTo(systemMessage("You are helpful"));
+        assertThat(memory.messages().get(1)).isInstanceOf(SystemMessage.class);
+        assertThat(memory.messages().get(1).text()).endsWith("summary 1");
+        assertThat(memory.messages().get(2)).isEqualTo(aiMessage("first answer"));
+        // the summary is kept with the messages of the memory
+        assertThat(store.getMessages("id")).isEqualTo(memory.messages());
+        assertThat(summarizer.summary("id")).isEqualTo("summary 1");
+
+        memory.add(aiMessage("second answer"));
+        assertThat(prompts).hasSize(2);
+        assertThat(prompts.get(1)).contains("Current summary:\nsummary 1").contains("AI: first answer");
+        assertThat(memory.messages().get(1).text()).endsWith("summary 2");
+
+        memory.clear();
+        assertThat(memory.messages()).isEmpty();
+        assertThat(summarizer.summary("id")).isNull();
+    }
+
+    @Test
+    void should_discard_summary_of_cleared_memory() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        List<Runnable> updates = new ArrayList<>();
+        ChatMemorySummarizer summarizer = new ChatMemorySummarizer(model, "Summarize", store, updates::add);
+        SummarizingChatMemory memory = new SummarizingChatMemory("id", 3, store, summarizer);
+
+        memory.add(userMessage("first question"));
+        memory.add(aiMessage("first answer"));
+        memory.add(userMessage("second question"));
+        memory.add(aiMessage("second answer"));
+        assertThat(updates).hasSize(1);
+
+        // the memory is cleared, then used again, before the first summary is computed
+        memory.clear();
+        memory.add(userMessage("third question"));
+        memory.add(aiMessage("third answer"));
+        memory.add(userMessage("fourth question"));
+        memory.add(aiMessage("fourth answer"));
+        assertThat(updates).hasSize(2);
+
+        updates.get(0).run();
+        assertThat(prompts).hasSize(1);
+        assertThat(summarizer.summary("id")).isNull();
+        assertThat(memory.messages()).hasSize(3);
+
+        updates.get(1).run();
+        assertThat(prompts).hasSize(2);
+        assertThat(prompts.get(1)).contains("User: third question").doesNotContain("Current summary");
+        assertThat(summarizer.summary("id")).isEqualTo("summary 2");
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkiverse.langchain4j;
+
+import java.util.List;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Encodes and decodes lists of {@link ChatMessage} to and from a byte representation.
+ * <p>
+ * This is meant to be used by {@link ChatMemoryStore} implementations that persist the chat history in a remote store.
+ * The extension provides a bean of this type whose format is controlled by the
+ * {@code quarkus.langchain4j.chat-memory.codec} configuration property, so stores can simply inject it.
+ */
+public interface ChatMessageCodec {
+
+    /**
+     * @return the encoded form of {@code messages}
+     */
+    byte[] encode(List<ChatMessage> messages);
+
+    /**
+     * @param encoded the result of a previous call to {@link #encode(List)} or {@link #append(byte[], ChatMessage)}.
+     *        {@code null} or an empty array are treated as an empty list
+     */
+    List<ChatMessage> decode(byte[] encoded);
+
+    /**
+     * Appends a single message to an already encoded list of messages without having to decode it first.
+     *
+     * @param encoded the result of a previous call to {@link #encode(List)} or {@link #append(byte[], ChatMessage)}.
+     *        {@code null} or an empty array are treated as an empty list
+     * @return the encoded form of the list with {@code message} added at the end
+     */
+    byte[] append(byte[] encoded, ChatMessage message);
+}
@@ -0,0 +1,26 @@
+package io.quarkiverse.langchain4j;
+
+import java.time.Duration;
+
+import dev.langchain4j.data.embedding.Embedding;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+
+/**
+ * SPI for a shared (usually remote) store of embeddings used by the {@link EmbeddingCache} on a local miss, so that
+ * several instances of an application, or consecutive runs of it, do not embed the same texts again.
+ * <p>
+ * To be used, an implementation needs to be a CDI bean.
+ */
+public interface EmbeddingCacheBackend {
+
+    /**
+     * @param key identifies the embedding model and the normalized text
+     * @return the cached embedding or {@code null} if there is none
+     */
+    Embedding get(String key);
+
+    /**
+     * @param ttl how long the embedding should be kept, {@code null} meaning forever
+     */
+    void put(String key, Embedding embedding, Duration ttl);
+}
@@ -0,0 +1,291 @@
+package io.quarkiverse.langchain4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+/**
+ * Binary snapshot format for the content of an {@link InMemoryEmbeddingStore}, meant to replace
+ * {@link InMemoryEmbeddingStore#serializeToFile(Path)} for large stores.
+ * <p>
+ * Contrary to the JSON format, a snapshot is never parsed as a whole: {@link #map(Path)} memory maps the file and the
+ * resulting {@link MappedEmbeddingStore} scans the vectors directly from the mapped (off-heap) memory, while the id, text
+ * and metadata of an entry are only decoded when it is part of the result of a search.
+ * <p>
+ * The layout of a snapshot (all numbers are little endian) is:
+ * <ul>
+ * <li>a fixed size header containing the magic number, the format version, the number of entries, the dimension of the
+ * vectors and the position of each of the following sections</li>
+ * <li>the vectors, as {@code count * dimension} float32 values</li>
+ * <li>the norm of each vector, as {@code count} float32 values</li>
+ * <li>the offset table, as {@code count + 1} int64 positions of the records relative to the start of the data section</li>
+ * <li>the data section, containing one record per entry made of its id, its text and its metadata</li>
+ * </ul>
+ */
+public final class InMemoryEmbeddingStoreSnapshot {
+
+    static final int MAGIC = 0x4C344A45; // "L4JE"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private InMemoryEmbeddingStoreSnapshot() {
+    }
+
+    /**
+     * Writes the content of {@code store} to {@code path}, replacing the file if it exists
+     */
+    public static void write(InMemoryEmbeddingStore<TextSegment> store, Path path) {
+        // the entries of the store are not accessible, but its Jackson representation is
+        StoreMirror mirror = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.convertValue(store, StoreMirror.class);
+        List<String> ids = new ArrayList<>(mirror.entries.size());
+        List<Embedding> embeddings = new ArrayList<>(mirror.entries.size());
+        List<TextSegment> segments = new ArrayList<>(mirror.entries.size());
+        for (EntryMirror entry : mirror.entries) {
+            ids.add(entry.id);
+            embeddings.add(entry.embedding);
+            segments.add(entry.embedded);
+        }
+        write(ids, embeddings, segments, path);
+    }
+
+    /**
+     * Writes the given entries to {@code path}, replacing the file if it exists.
+     * The three lists must have the same size, but {@code segments} may contain {@code null} elements.
+     */
+    public static void write(List<String> ids, List<Embedding> embeddings, List<TextSegment> segments, Path path) {
+        int count = ids.size();
+        if (embeddings.size() != count || segments.size() != count) {
+            throw new IllegalArgumentException("The number of ids, embeddings and segments must be the same");
+        }
+        int dimension = count == 0 ? 0 : embeddings.get(0).dimension();
+
+        long vectorsPosition = HEADER_SIZE;
+        long normsPosition = vectorsPosition + (long) count * dimension * Float.BYTES;
+        long offsetsPosition = normsPosition + (long) count * Float.BYTES;
+        long dataPosition = offsetsPosition + (count + 1L) * Long.BYTES;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output out = new Output(channel);
+
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(count);
+            out.putInt(dimension);
+            out.putLong(vectorsPosition);
+            out.putLong(normsPosition);
+            out.putLong(offsetsPosition);
+            out.putLong(dataPosition);
+            out.pad(HEADER_SIZE);
+
+            float[] norms = new float[count];
+            for (int i = 0; i < count; i++) {
+                float[] vector = embeddings.get(i).vector();
+                if (vector.length != dimension) {
+                    throw new IllegalArgumentException("All embeddings must have the same dimension. Expected "
+                            + dimension + " but embedding '" + ids.get(i) + "' has dimension " + vector.length);
+                }
+                double sum = 0;
+                for (float v : vector) {
+                    out.putFloat(v);
+                    sum += v * v;
+                }
+                norms[i] = (float) Math.sqrt(sum);
+            }
+            for (float norm : norms) {
+                out.putFloat(norm);
+            }
+
+            // the records are encoded twice (once for the offsets, once for the data) in order to not keep them all in memory
+            long offset = 0;
+            out.putLong(offset);
+            for (int i = 0; i < count; i++) {
+                offset += recordSize(ids.get(i), segments.get(i));
+                out.putLong(offset);
+            }
+            for (int i = 0; i < count; i++) {
+                writeRecord(out, ids.get(i), segments.get(i));
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Memory maps a snapshot previously written by one of the {@code write} methods
+     */
+    public static MappedEmbeddingStore map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = Header.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE), path.toString());
+            return new MappedEmbeddingStore(header.count, header.dimension,
+                    MappedEmbeddingStore.mapVectors(channel, header.vectorsPosition, header.count, header.dimension),
+                    map(channel, header.normsPosition, (long) header.count * Float.BYTES),
+                    map(channel, header.offsetsPosition, (header.count + 1L) * Long.BYTES),
+                    map(channel, header.dataPosition, channel.size() - header.dataPosition));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a snapshot that is already in memory, for example because it was loaded from a class path resource.
+     * The content of the buffer is used as-is, so it must not be modified afterwards.
+     */
+    public static MappedEmbeddingStore read(ByteBuffer snapshot) {
+        Header header = Header.read(slice(snapshot, 0, HEADER_SIZE), "buffer");
+        ByteBuffer vectors = slice(snapshot, header.vectorsPosition, (long) header.count * header.dimension * Float.BYTES);
+        return new MappedEmbeddingStore(header.count, header.dimension,
+                header.count == 0 ? new FloatBuffer[0] : new FloatBuffer[] { vectors.asFloatBuffer() },
+                slice(snapshot, header.normsPosition, (long) header.count * Float.BYTES),
+                slice(snapshot, header.offsetsPosition, (header.count + 1L) * Long.BYTES),
+                slice(snapshot, header.dataPosition, snapshot.limit() - header.dataPosition));
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, long position, long size) {
+        return buffer.duplicate().position((int) position).limit((int) (position + size)).slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Embedding store snapshot section is too large to be mapped");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long recordSize(String id, TextSegment segment) {
+        long size = stringSize(id) + stringSize(segment == null ? null : segment.text()) + Integer.BYTES;
+        if (segment != null) {
+            for (Map.Entry<String, String> entry : segment.metadata().asMap().entrySet()) {
+                size += stringSize(entry.getKey()) + stringSize(entry.getValue());
+            }
+        }
+        return size;
+    }
+
+    private static long stringSize(String s) {
+        return Integer.BYTES + (s == null ? 0 : s.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void writeRecord(Output out, String id, TextSegment segment) throws IOException {
+        out.putString(id);
+        if (segment == null) {
+            out.putString(null);
+            out.putInt(0);
+            return;
+        }
+        out.putString(segment.text());
+        Map<String, String> metadata = segment.metadata().asMap();
+        out.putInt(metadata.size());
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            out.putString(entry.getKey());
+            out.putString(entry.getValue());
+        }
+    }
+
+    private record Header(int count, int dimension, long vectorsPosition, long normsPosition, long offsetsPosition,
+            long dataPosition) {
+
+        static Header read(ByteBuffer buffer, String source) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("'" + source + "' is not an embedding store snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported embedding store snapshot version " + version);
+            }
+            return new Header(buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.getLong());
+        }
+    }
+
+    private static final class Output {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long written;
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+        }
+
+        void putString(String value) throws IOException {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        void pad(long position) throws IOException {
+            while (written + buffer.position() < position) {
+                ensureRemaining(1);
+                buffer.put((byte) 0);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int size) throws IOException {
+            if (buffer.remaining() < size) {
+                flush();
+            }
+        }
+    }
+
+    private static class StoreMirror {
+        public List<EntryMirror> entries;
+    }
+
+    private static class EntryMirror {
+        public String id;
+        public Embedding embedding;
+        public TextSegment embedded;
+    }
+}
@@ -0,0 +1,218 @@
+package io.quarkiverse.langchain4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+/**
+ * Read-only {@link EmbeddingStore} backed by an {@link InMemoryEmbeddingStoreSnapshot}, which is usually memory mapped.
+ * <p>
+ * Searches are exhaustive, like with {@link InMemoryEmbeddingStore}, but read the vectors from the mapped file, so only
+ * the pages actually needed are loaded by the operating system and none of the vectors are held on the heap.
+ * Use {@link #toInMemoryEmbeddingStore()} if entries need to be added.
+ */
+public class MappedEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    private final int count;
+    private final int dimension;
+    /**
+     * A single mapping cannot exceed 2GB, so the vectors are split in chunks containing a whole number of vectors
+     */
+    private final FloatBuffer[] vectors;
+    private final int vectorsPerChunk;
+    private final FloatBuffer norms;
+    private final ByteBuffer offsets;
+    private final ByteBuffer data;
+
+    MappedEmbeddingStore(int count, int dimension, FloatBuffer[] vectors, ByteBuffer norms, ByteBuffer offsets,
+            ByteBuffer data) {
+        this.count = count;
+        this.dimension = dimension;
+        this.vectors = vectors;
+        this.vectorsPerChunk = vectors.length == 0 ? 0 : vectors[0].capacity() / Math.max(dimension, 1);
+        this.norms = norms.asFloatBuffer();
+        this.offsets = offsets;
+        this.data = data;
+    }
+
+    static FloatBuffer[] mapVectors(FileChannel channel, long position, int count, int dimension) throws IOException {
+        if (count == 0 || dimension == 0) {
+            return new FloatBuffer[0];
+        }
+        long vectorSize = (long) dimension * Float.BYTES;
+        int vectorsPerChunk = (int) (Integer.MAX_VALUE / vectorSize);
+        int chunks = (count + vectorsPerChunk - 1) / vectorsPerChunk;
+        FloatBuffer[] result = new FloatBuffer[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int vectorsInChunk = Math.min(vectorsPerChunk, count - i * vectorsPerChunk);
+            result[i] = InMemoryEmbeddingStoreSnapshot
+                    .map(channel, position + i * vectorsPerChunk * vectorSize, vectorsInChunk * vectorSize)
+                    .asFloatBuffer();
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of entries in the store
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the dimension of the vectors of the store
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults, double minScore) {
+        if (count == 0 || maxResults <= 0) {
+            return Collections.emptyList();
+        }
+        float[] reference = referenceEmbedding.vector();
+        if (reference.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Reference embedding has dimension " + reference.length + " but the store has dimension " + dimension);
+        }
+        double referenceNorm = 0;
+        for (float v : reference) {
+            referenceNorm += v * v;
+        }
+        referenceNorm = Math.sqrt(referenceNorm);
+
+        // min-heap on the score, so the worst of the current best matches is the one that gets replaced
+        PriorityQueue<ScoredIndex> best = new PriorityQueue<>(maxResults + 1);
+        for (int i = 0; i < count; i++) {
+            FloatBuffer chunk = vectors[i / vectorsPerChunk];
+            int base = (i % vectorsPerChunk) * dimension;
+            double dot = 0;
+            for (int j = 0; j < dimension; j++) {
+                dot += reference[j] * chunk.get(base + j);
+            }
+            double cosineSimilarity = dot / (referenceNorm * norms.get(i));
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score < minScore) {
+                continue;
+            }
+            if (best.size() < maxResults) {
+                best.add(new ScoredIndex(i, score));
+            } else if (score > best.peek().score) {
+                best.poll();
+                best.add(new ScoredIndex(i, score));
+            }
+        }
+
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ScoredIndex scoredIndex = best.poll();
+            Record record = record(scoredIndex.index);
+            result.add(new EmbeddingMatch<>(scoredIndex.score, record.id, embedding(scoredIndex.index), record.segment));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Copies all the entries into a new (mutable) {@link InMemoryEmbeddingStore}
+     */
+    public InMemoryEmbeddingStore<TextSegment> toInMemoryEmbeddingStore() {
+        InMemoryEmbeddingStore<TextSegment> result = new InMemoryEmbeddingStore<>();
+        for (int i = 0; i < count; i++) {
+            Record record = record(i);
+            result.add(record.id, embedding(i), record.segment);
+        }
+        return result;
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        throw readOnly();
+    }
+
+    @Override
+    public String add(Embedding embedding, TextSegment textSegment) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException(
+                "MappedEmbeddingStore is read-only, use 'toInMemoryEmbeddingStore()' to obtain a store that entries can be added to");
+    }
+
+    private Embedding embedding(int index) {
+        float[] vector = new float[dimension];
+        vectors[index / vectorsPerChunk].get((index % vectorsPerChunk) * dimension, vector);
+        return Embedding.from(vector);
+    }
+
+    private Record record(int index) {
+        // absolute reads on a private view keep concurrent searches independent of each other
+        ByteBuffer buffer = data.duplicate().order(data.order());
+        buffer.position((int) offsets.getLong(index * Long.BYTES));
+        String id = readString(buffer);
+        String text = readString(buffer);
+        int metadataSize = buffer.getInt();
+        if (text == null) {
+            return new Record(id, null);
+        }
+        Map<String, String> metadata = new HashMap<>(metadataSize);
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(readString(buffer), readString(buffer));
+        }
+        return new Record(id, TextSegment.from(text, new Metadata(metadata)));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Record(String id, TextSegment segment) {
+    }
+
+    private record ScoredIndex(int index, double score) implements Comparable<ScoredIndex> {
+
+        @Override
+        public int compareTo(ScoredIndex o) {
+            return Double.compare(score, o.score);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkiverse.langchain4j;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.service.MemoryId;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryNearCache;
+
+/**
+ * SPI that is notified of the memory id used by each invocation of an AI service method that has a parameter annotated
+ * with {@link MemoryId}.
+ * <p>
+ * When AI services are scaled horizontally, implementations can use this to provide routing hints (for example a response
+ * header or cookie) so that a gateway sends the following turns of a conversation to the instance that already holds its
+ * {@link ChatMemory} in the {@link ChatMemoryNearCache}, thus avoiding fetching the messages from the remote
+ * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} on every turn.
+ * <p>
+ * To be used, an implementation needs to be a CDI bean.
+ */
+public interface MemoryAffinity {
+
+    /**
+     * Invoked before the chat memory is accessed.
+     *
+     * @param memoryId the memory id passed to the AI service method
+     * @param locallyCached whether the messages of the memory are currently held in the near cache of this instance
+     */
+    void onMemoryId(Object memoryId, boolean locallyCached);
+}
@@ -0,0 +1,672 @@
+package io.quarkiverse.langchain4j;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+
+/**
+ * {@link EmbeddingStore} that keeps all the vectors in a single contiguous {@code float[]} instead of one
+ * {@link Embedding} object per entry like {@link dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore} does.
+ * <p>
+ * By default, searches are exhaustive. For larger stores, an HNSW (Hierarchical Navigable Small World) graph can be
+ * enabled via {@link Builder#hnsw(int, int, int)}, which makes searches approximate but sub-linear.
+ * <p>
+ * Alternatively, the vectors can be quantized via {@link Builder#quantization(Quantization, int)}: searches then scan
+ * compact codes (one byte or one bit per dimension instead of four bytes) and, unless disabled, re-rank the best
+ * candidates using the full-precision vectors.
+ * <p>
+ * Any number of searches can run concurrently, while additions are applied one at a time.
+ */
+public class QuarkusInMemoryEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int dimension = -1;
+    private int count;
+    private float[] vectors = new float[0];
+    private float[] norms = new float[0];
+    private String[] ids = new String[0];
+    private TextSegment[] segments = new TextSegment[0];
+
+    private final Hnsw hnsw;
+
+    private final Quantization quantization;
+    private final int oversampling;
+    private final boolean fullPrecision;
+    /**
+     * {@link Quantization#INT8} codes, each vector being scaled so that its largest absolute value maps to 127
+     */
+    private byte[] int8Codes = new byte[0];
+    private float[] int8Scales = new float[0];
+    /**
+     * {@link Quantization#BINARY} codes, one bit per dimension set when the value is positive
+     */
+    private long[] binaryCodes = new long[0];
+    private int words;
+
+    private QuarkusInMemoryEmbeddingStore(Builder builder) {
+        this.hnsw = builder.m > 0 ? new Hnsw(builder.m, builder.efConstruction, builder.efSearch) : null;
+        this.quantization = builder.quantization;
+        this.oversampling = builder.oversampling;
+        this.fullPrecision = quantization == Quantization.NONE || oversampling > 0;
+    }
+
+    public QuarkusInMemoryEmbeddingStore() {
+        this(builder());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of entries in the store
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        String id = randomUUID();
+        add(id, embedding, null);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        add(id, embedding, null);
+    }
+
+    @Override
+    public String add(Embedding embedding, TextSegment textSegment) {
+        String id = randomUUID();
+        add(id, embedding, textSegment);
+        return id;
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        return addAll(embeddings, null);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+        if ((embedded != null) && (embedded.size() != embeddings.size())) {
+            throw new IllegalArgumentException("The list of embeddings and embedded must have the same size");
+        }
+        List<String> result = new ArrayList<>(embeddings.size());
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < embeddings.size(); i++) {
+                String id = randomUUID();
+                doAdd(id, embeddings.get(i), embedded == null ? null : embedded.get(i));
+                result.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return result;
+    }
+
+    public void add(String id, Embedding embedding, TextSegment textSegment) {
+        lock.writeLock().lock();
+        try {
+            doAdd(id, embedding, textSegment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void doAdd(String id, Embedding embedding, TextSegment textSegment) {
+        float[] vector = embedding.vector();
+        if (dimension == -1) {
+            dimension = vector.length;
+            words = (dimension + Long.SIZE - 1) / Long.SIZE;
+        } else if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Embedding has dimension " + vector.length + " but the store has dimension " + dimension);
+        }
+        if (count == ids.length) {
+            grow();
+        }
+        int node = count;
+        if (fullPrecision) {
+            System.arraycopy(vector, 0, vectors, node * dimension, dimension);
+        }
+        if (quantization == Quantization.INT8) {
+            int8Scales[node] = encodeInt8(vector, int8Codes, node * dimension);
+        } else if (quantization == Quantization.BINARY) {
+            encodeBinary(vector, binaryCodes, node * words);
+        }
+        norms[node] = norm(vector);
+        ids[node] = id;
+        segments[node] = textSegment;
+        count++;
+        if (hnsw != null) {
+            hnsw.insert(node);
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, ids.length * 2);
+        if ((long) capacity * dimension > Integer.MAX_VALUE - 8) {
+            capacity = (Integer.MAX_VALUE - 8) / dimension;
+            if (capacity <= count) {
+                throw new IllegalStateException("QuarkusInMemoryEmbeddingStore cannot hold more than " + count
+                        + " embeddings of dimension " + dimension);
+            }
+        }
+        if (fullPrecision) {
+            vectors = Arrays.copyOf(vectors, capacity * dimension);
+        }
+        if (quantization == Quantization.INT8) {
+            int8Codes = Arrays.copyOf(int8Codes, capacity * dimension);
+            int8Scales = Arrays.copyOf(int8Scales, capacity);
+        } else if (quantization == Quantization.BINARY) {
+            binaryCodes = Arrays.copyOf(binaryCodes, capacity * words);
+        }
+        norms = Arrays.copyOf(norms, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        segments = Arrays.copyOf(segments, capacity);
+        if (hnsw != null) {
+            hnsw.grow(capacity);
+        }
+    }
+
+    @Override
+    public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults, double minScore) {
+        float[] reference = referenceEmbedding.vector();
+        lock.readLock().lock();
+        try {
+            if (count == 0 || maxResults <= 0) {
+                return Collections.emptyList();
+            }
+            if (reference.length != dimension) {
+                throw new IllegalArgumentException(
+                        "Reference embedding has dimension " + reference.length + " but the store has dimension "
+                                + dimension);
+            }
+            float referenceNorm = norm(reference);
+            PriorityQueue<Scored> best;
+            if (hnsw != null) {
+                best = hnsw.search(reference, referenceNorm, maxResults);
+            } else if (quantization != Quantization.NONE) {
+                best = quantizedSearch(reference, referenceNorm, maxResults);
+            } else {
+                best = exhaustiveSearch(reference, referenceNorm, maxResults);
+            }
+
+            List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Scored scored = best.poll();
+                double score = RelevanceScore.fromCosineSimilarity(scored.similarity);
+                if (score >= minScore) {
+                    result.add(new EmbeddingMatch<>(score, ids[scored.node], embedding(scored.node),
+                            segments[scored.node]));
+                }
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PriorityQueue<Scored> exhaustiveSearch(float[] reference, float referenceNorm, int maxResults) {
+        // min-heap on the similarity, so the worst of the current best matches is the one that gets replaced
+        PriorityQueue<Scored> best = new PriorityQueue<>(maxResults + 1);
+        for (int node = 0; node < count; node++) {
+            float similarity = similarity(reference, referenceNorm, node);
+            if (best.size() < maxResults) {
+                best.add(new Scored(node, similarity));
+            } else if (similarity > best.peek().similarity) {
+                best.poll();
+                best.add(new Scored(node, similarity));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scans the quantized codes for the {@code maxResults * oversampling} best candidates, then re-ranks them using the
+     * full-precision vectors (if kept)
+     */
+    private PriorityQueue<Scored> quantizedSearch(float[] reference, float referenceNorm, int maxResults) {
+        int candidates = (int) Math.min((long) maxResults * Math.max(oversampling, 1), count);
+        long[] referenceBits = null;
+        if (quantization == Quantization.BINARY) {
+            referenceBits = new long[words];
+            encodeBinary(reference, referenceBits, 0);
+        }
+        PriorityQueue<Scored> best = new PriorityQueue<>(candidates + 1);
+        for (int node = 0; node < count; node++) {
+            float similarity = quantization == Quantization.INT8 ? int8Similarity(reference, referenceNorm, node)
+                    : binarySimilarity(referenceBits, node);
+            if (best.size() < candidates) {
+                best.add(new Scored(node, similarity));
+            } else if (similarity > best.peek().similarity) {
+                best.poll();
+                best.add(new Scored(node, similarity));
+            }
+        }
+        if (!fullPrecision) {
+            while (best.size() > maxResults) {
+                best.poll();
+            }
+            return best;
+        }
+        PriorityQueue<Scored> reranked = new PriorityQueue<>(maxResults + 1);
+        for (Scored candidate : best) {
+            float similarity = similarity(reference, referenceNorm, candidate.node);
+            if (reranked.size() < maxResults) {
+                reranked.add(new Scored(candidate.node, similarity));
+            } else if (similarity > reranked.peek().similarity) {
+                reranked.poll();
+                reranked.add(new Scored(candidate.node, similarity));
+            }
+        }
+        return reranked;
+    }
+
+    private float int8Similarity(float[] reference, float referenceNorm, int node) {
+        float denominator = referenceNorm * norms[node];
+        if (denominator == 0) {
+            return 0;
+        }
+        int offset = node * dimension;
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        int bound = dimension & ~3;
+        for (; i < bound; i += 4) {
+            s0 += reference[i] * int8Codes[offset + i];
+            s1 += reference[i + 1] * int8Codes[offset + i + 1];
+            s2 += reference[i + 2] * int8Codes[offset + i + 2];
+            s3 += reference[i + 3] * int8Codes[offset + i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += reference[i] * int8Codes[offset + i];
+        }
+        return ((s0 + s1) + (s2 + s3)) * int8Scales[node] / denominator;
+    }
+
+    /**
+     * Estimates the cosine similarity from the fraction of dimensions whose sign differs
+     */
+    private float binarySimilarity(long[] referenceBits, int node) {
+        int offset = node * words;
+        int hamming = 0;
+        for (int i = 0; i < words; i++) {
+            hamming += Long.bitCount(referenceBits[i] ^ binaryCodes[offset + i]);
+        }
+        return (float) Math.cos(Math.PI * hamming / dimension);
+    }
+
+    private static float encodeInt8(float[] vector, byte[] codes, int offset) {
+        float max = 0;
+        for (float v : vector) {
+            max = Math.max(max, Math.abs(v));
+        }
+        float scale = max == 0 ? 0 : max / 127;
+        for (int i = 0; i < vector.length; i++) {
+            codes[offset + i] = scale == 0 ? 0 : (byte) Math.round(vector[i] / scale);
+        }
+        return scale;
+    }
+
+    private static void encodeBinary(float[] vector, long[] codes, int offset) {
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] > 0) {
+                codes[offset + i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+    }
+
+    /**
+     * @return the full-precision vector of the node or, when it is not kept, its approximation from the quantized code
+     */
+    private Embedding embedding(int node) {
+        if (fullPrecision) {
+            return Embedding.from(Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension));
+        }
+        float[] vector = new float[dimension];
+        if (quantization == Quantization.INT8) {
+            for (int i = 0; i < dimension; i++) {
+                vector[i] = int8Codes[node * dimension + i] * int8Scales[node];
+            }
+        } else {
+            // each dimension gets the same magnitude, so that the norm is preserved
+            float magnitude = norms[node] / (float) Math.sqrt(dimension);
+            for (int i = 0; i < dimension; i++) {
+                boolean positive = (binaryCodes[node * words + i / Long.SIZE] & (1L << (i % Long.SIZE))) != 0;
+                vector[i] = positive ? magnitude : -magnitude;
+            }
+        }
+        return Embedding.from(vector);
+    }
+
+    private float similarity(float[] reference, float referenceNorm, int node) {
+        float denominator = referenceNorm * norms[node];
+        if (denominator == 0) {
+            return 0;
+        }
+        return dot(reference, vectors, node * dimension, dimension) / denominator;
+    }
+
+    private float similarity(int a, int b) {
+        float denominator = norms[a] * norms[b];
+        if (denominator == 0) {
+            return 0;
+        }
+        float sum = 0;
+        int aOffset = a * dimension;
+        int bOffset = b * dimension;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors[aOffset + i] * vectors[bOffset + i];
+        }
+        return sum / denominator;
+    }
+
+    /**
+     * Dot product of {@code a} with the {@code length} values of {@code b} starting at {@code offset}.
+     * The loop is unrolled with independent accumulators, which lets the JIT keep several multiplications in flight.
+     */
+    static float dot(float[] a, float[] b, int offset, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[i] * b[offset + i];
+            s1 += a[i + 1] * b[offset + i + 1];
+            s2 += a[i + 2] * b[offset + i + 2];
+            s3 += a[i + 3] * b[offset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[i] * b[offset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static float norm(float[] vector) {
+        return (float) Math.sqrt(dot(vector, vector, 0, vector.length));
+    }
+
+    private record Scored(int node, float similarity) implements Comparable<Scored> {
+
+        @Override
+        public int compareTo(Scored o) {
+            return Float.compare(similarity, o.similarity);
+        }
+    }
+
+    /**
+     * Hierarchical Navigable Small World graph over the nodes of the enclosing store, as described in
+     * "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs"
+     * (Malkov and Yashunin). Only accessed while holding the lock of the store.
+     */
+    private final class Hnsw {
+
+        private final int m;
+        private final int maxM0;
+        private final int efConstruction;
+        private final int efSearch;
+        private final double levelMultiplier;
+        private final SplittableRandom random = new SplittableRandom(42);
+
+        /**
+         * {@code links[node][level]} holds the number of neighbors of the node at that level, followed by the neighbors
+         */
+        private int[][][] links = new int[0][][];
+        private int entryPoint = -1;
+        private int maxLevel = -1;
+
+        Hnsw(int m, int efConstruction, int efSearch) {
+            this.m = m;
+            this.maxM0 = 2 * m;
+            this.efConstruction = efConstruction;
+            this.efSearch = efSearch;
+            this.levelMultiplier = 1 / Math.log(m);
+        }
+
+        void grow(int capacity) {
+            links = Arrays.copyOf(links, capacity);
+        }
+
+        void insert(int node) {
+            int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[(l == 0 ? maxM0 : m) + 1];
+            }
+            if (entryPoint == -1) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            float[] vector = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+            float norm = norms[node];
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(vector, norm, current, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                PriorityQueue<Scored> candidates = searchLayer(vector, norm, current, efConstruction, l);
+                List<Scored> neighbors = closest(candidates, m);
+                for (Scored neighbor : neighbors) {
+                    connect(node, neighbor.node, l);
+                    connect(neighbor.node, node, l);
+                }
+                current = neighbors.get(neighbors.size() - 1).node;
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        }
+
+        PriorityQueue<Scored> search(float[] reference, float referenceNorm, int maxResults) {
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(reference, referenceNorm, current, l);
+            }
+            PriorityQueue<Scored> found = searchLayer(reference, referenceNorm, current,
+                    Math.max(efSearch, maxResults), 0);
+            while (found.size() > maxResults) {
+                found.poll();
+            }
+            return found;
+        }
+
+        private int greedyClosest(float[] vector, float norm, int start, int level) {
+            int current = start;
+            float currentSimilarity = similarity(vector, norm, current);
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                int[] neighbors = links[current][level];
+                for (int i = 1; i <= neighbors[0]; i++) {
+                    float similarity = similarity(vector, norm, neighbors[i]);
+                    if (similarity > currentSimilarity) {
+                        currentSimilarity = similarity;
+                        current = neighbors[i];
+                        changed = true;
+                    }
+                }
+            }
+            return current;
+        }
+
+        /**
+         * @return a min-heap of (at most) the {@code ef} nodes closest to {@code vector} found in the layer
+         */
+        private PriorityQueue<Scored> searchLayer(float[] vector, float norm, int start, int ef, int level) {
+            BitSet visited = new BitSet(count);
+            visited.set(start);
+            Scored first = new Scored(start, similarity(vector, norm, start));
+            PriorityQueue<Scored> candidates = new PriorityQueue<>(Collections.reverseOrder());
+            PriorityQueue<Scored> found = new PriorityQueue<>();
+            candidates.add(first);
+            found.add(first);
+            while (!candidates.isEmpty()) {
+                Scored candidate = candidates.poll();
+                if (candidate.similarity < found.peek().similarity && found.size() >= ef) {
+                    break;
+                }
+                int[] neighbors = links[candidate.node][level];
+                for (int i = 1; i <= neighbors[0]; i++) {
+                    int neighbor = neighbors[i];
+                    if (visited.get(neighbor)) {
+                        continue;
+                    }
+                    visited.set(neighbor);
+                    float similarity = similarity(vector, norm, neighbor);
+                    if (found.size() < ef || similarity > found.peek().similarity) {
+                        Scored scored = new Scored(neighbor, similarity);
+                        candidates.add(scored);
+                        found.add(scored);
+                        if (found.size() > ef) {
+                            found.poll();
+                        }
+                    }
+                }
+            }
+            return found;
+        }
+
+        /**
+         * @return the {@code max} closest entries, from the farthest to the closest
+         */
+        private List<Scored> closest(PriorityQueue<Scored> candidates, int max) {
+            while (candidates.size() > max) {
+                candidates.poll();
+            }
+            List<Scored> result = new ArrayList<>(candidates.size());
+            while (!candidates.isEmpty()) {
+                result.add(candidates.poll());
+            }
+            return result;
+        }
+
+        private void connect(int from, int to, int level) {
+            int[] neighbors = links[from][level];
+            int max = neighbors.length - 1;
+            if (neighbors[0] < max) {
+                neighbors[++neighbors[0]] = to;
+                return;
+            }
+            // the list is full, so the farthest neighbor (which might be the new one) is dropped
+            int farthest = -1;
+            float farthestSimilarity = similarity(from, to);
+            for (int i = 1; i <= max; i++) {
+                float similarity = similarity(from, neighbors[i]);
+                if (similarity < farthestSimilarity) {
+                    farthestSimilarity = similarity;
+                    farthest = i;
+                }
+            }
+            if (farthest != -1) {
+                neighbors[farthest] = to;
+            }
+        }
+    }
+
+    /**
+     * How the vectors are encoded for searches
+     */
+    public enum Quantization {
+        /**
+         * Vectors are kept as float32 values
+         */
+        NONE,
+        /**
+         * Each value is encoded as a signed byte, relative to the largest absolute value of its vector
+         */
+        INT8,
+        /**
+         * Each value is encoded as a single bit representing its sign, which only works well for vectors of high
+         * dimension
+         */
+        BINARY
+    }
+
+    public static class Builder {
+
+        private int m;
+        private int efConstruction;
+        private int efSearch;
+        private Quantization quantization = Quantization.NONE;
+        private int oversampling;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables the HNSW index.
+         *
+         * @param m the number of neighbors of each node in the graph (twice as many on the bottom layer), typically
+         *        between 8 and 48. Higher values improve recall at the expense of memory and insertion time.
+         * @param efConstruction the number of candidates considered when inserting a node, typically between 100 and 500
+         * @param efSearch the number of candidates considered when searching, which needs to be at least the number of
+         *        requested results. Higher values improve recall at the expense of latency.
+         */
+        public Builder hnsw(int m, int efConstruction, int efSearch) {
+            if (m < 2) {
+                throw new IllegalArgumentException("m must be at least 2");
+            }
+            if (efConstruction < 1 || efSearch < 1) {
+                throw new IllegalArgumentException("efConstruction and efSearch must be greater than zero");
+            }
+            this.m = m;
+            this.efConstruction = efConstruction;
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * Enables the quantization of the vectors, which cannot be combined with the HNSW index.
+         *
+         * @param quantization the encoding of the vectors scanned by searches
+         * @param oversampling searches scan the quantized vectors for {@code oversampling} times the number of requested
+         *        results, then re-rank these candidates using the full-precision vectors. {@code 0} disables re-ranking,
+         *        in which case the full-precision vectors are not kept at all: this saves the most memory, but the scores
+         *        and the returned embeddings are only approximations.
+         */
+        public Builder quantization(Quantization quantization, int oversampling) {
+            if (oversampling < 0) {
+                throw new IllegalArgumentException("oversampling must not be negative");
+            }
+            this.quantization = quantization;
+            this.oversampling = oversampling;
+            return this;
+        }
+
+        public QuarkusInMemoryEmbeddingStore build() {
+            if (m > 0 && quantization != Quantization.NONE) {
+                throw new IllegalArgumentException("Quantization cannot be combined with the HNSW index");
+            }
+            return new QuarkusInMemoryEmbeddingStore(this);
+        }
+    }
+}
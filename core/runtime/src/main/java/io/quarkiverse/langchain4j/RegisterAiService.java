@@ -79,6 +79,29 @@ public @interface RegisterAiService {
      */
     Class<? extends Retriever<TextSegment>> retriever() default NoRetriever.class;
 
+    /**
+     * The maximum time in milliseconds the {@link #retriever()} has to find the relevant information.
+     * When the retrieval takes longer, the call proceeds with the information last retrieved for the same text, or
+     * without any if there is none, so that a slow store does not delay the response of the model.
+     * When the application also contains the {@code quarkus-micrometer} extension, such fallbacks are counted by the
+     * {@code langchain4j.aiservice.retrieval.fallback} metric.
+     * <p>
+     * By default, the retrieval is awaited without any time limit.
+     */
+    long retrievalTimeoutMillis() default 0;
+
+    /**
+     * The maximum number of tokens of the information found by the {@link #retriever()} that is added to the user
+     * message.
+     * The most relevant segments are kept, once the ones that repeat each other have been removed.
+     * Tokens are counted by the {@link ChatLanguageModel} if it is a
+     * {@link dev.langchain4j.model.chat.TokenCountEstimator}, otherwise by the {@link dev.langchain4j.model.Tokenizer}
+     * bean if there is one, otherwise they are approximated as 4 characters.
+     * <p>
+     * By default, all the retrieved information is added.
+     */
+    int maxRetrievedTokens() default 0;
+
     /**
      * Configures the way to obtain the {@link AuditService} to use.
      * By default, Quarkus will look for a CDI bean that implements {@link AuditService}, but will fall back to not using
@@ -0,0 +1,17 @@
+package io.quarkiverse.langchain4j;
+
+import dev.langchain4j.store.embedding.EmbeddingStore;
+
+/**
+ * {@link EmbeddingStore} whose entries can be removed.
+ * <p>
+ * When the {@code EmbeddingStore} bean named {@code semantic-cache} implements it, the responses of the semantic cache
+ * that are expired, or beyond its maximum size, are removed from the store.
+ */
+public interface RemovableEmbeddingStore<Embedded> extends EmbeddingStore<Embedded> {
+
+    /**
+     * Removes the entry with the given id, if it exists
+     */
+    void remove(String id);
+}
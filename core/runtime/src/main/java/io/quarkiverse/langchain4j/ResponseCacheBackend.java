@@ -0,0 +1,25 @@
+package io.quarkiverse.langchain4j;
+
+import java.time.Duration;
+
+import io.quarkiverse.langchain4j.runtime.cache.ResponseCache;
+
+/**
+ * SPI for a shared (usually remote) store of model responses used by the {@link ResponseCache} on a local miss, so that
+ * several instances of an application do not send the same requests again.
+ * <p>
+ * To be used, an implementation needs to be a CDI bean.
+ */
+public interface ResponseCacheBackend {
+
+    /**
+     * @param key identifies the provider and a digest of the request
+     * @return the cached response, serialized by the provider, or {@code null} if there is none
+     */
+    String get(String key);
+
+    /**
+     * @param ttl how long the response should be kept, {@code null} meaning forever
+     */
+    void put(String key, String response, Duration ttl);
+}
@@ -0,0 +1,33 @@
+package io.quarkiverse.langchain4j;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the responses of an AI service method, a response being reused for a later call whose user message is
+ * semantically similar.
+ * <p>
+ * The user message is embedded with the {@link dev.langchain4j.model.embedding.EmbeddingModel} bean and looked up among
+ * the embeddings of the previous user messages of the same method and with the same system message. Those are kept in
+ * the {@link dev.langchain4j.store.embedding.EmbeddingStore} bean named {@code semantic-cache} if there is one, or in
+ * memory otherwise. On a hit, the cached response is returned without calling the
+ * {@link dev.langchain4j.model.chat.ChatLanguageModel}.
+ * <p>
+ * As the chat memory is not taken into account, this is only meant for stateless methods, which is why it cannot be
+ * combined with {@link dev.langchain4j.service.MemoryId}. Responses that required executing tools are not cached.
+ * <p>
+ * The size and the time to live of the cache are configured via the {@code quarkus.langchain4j.semantic-cache}
+ * properties.
+ */
+@Retention(RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SemanticCacheResult {
+
+    /**
+     * The minimum cosine similarity between the embeddings of two user messages for them to share the same response
+     */
+    double similarityThreshold() default 0.95;
+}
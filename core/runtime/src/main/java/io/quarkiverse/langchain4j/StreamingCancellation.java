@@ -0,0 +1,106 @@
+package io.quarkiverse.langchain4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import dev.langchain4j.service.TokenStream;
+
+/**
+ * Allows the application to stop the streamed responses it is no longer interested in, for instance when the WebSocket
+ * the tokens are sent to is closed, so that the model stops generating tokens that would be paid for and discarded.
+ * <p>
+ * The streams started while {@link #run(Runnable)} runs, such as the stream of a {@link TokenStream} started in the
+ * action, and the streams started by their callbacks, such as the streams that follow the execution of tools, are
+ * attached to the cancellation. {@link #cancel()} closes the connections of the streams that are still in flight, after
+ * which their callbacks are not called anymore, and prevents new streams from being sent.
+ *
+ * <pre>
+ * Multi.createFrom().emitter(emitter -&gt; {
+ *     StreamingCancellation cancellation = new StreamingCancellation();
+ *     emitter.onTermination(cancellation::cancel);
+ *     cancellation.run(() -&gt; assistant.chat(question)
+ *             .onNext(emitter::emit)
+ *             .onComplete(response -&gt; emitter.complete())
+ *             .onError(emitter::fail)
+ *             .start());
+ * });
+ * </pre>
+ */
+public final class StreamingCancellation {
+
+    private static final ThreadLocal<StreamingCancellation> CURRENT = new ThreadLocal<>();
+
+    // guarded by this
+    private final Set<Runnable> actions = new LinkedHashSet<>();
+    private boolean cancelled;
+
+    /**
+     * @return the cancellation whose {@link #run(Runnable)} is running on the current thread, or {@code null}
+     */
+    public static StreamingCancellation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs {@code action}, attaching the streams it starts to this cancellation
+     */
+    public void run(Runnable action) {
+        StreamingCancellation previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Stops the streams attached to this cancellation. Calling it again, or after the streams are complete, has no
+     * effect.
+     */
+    public void cancel() {
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            toRun = new ArrayList<>(actions);
+            actions.clear();
+        }
+        for (Runnable action : toRun) {
+            action.run();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers {@code action} to be run by {@link #cancel()}, or runs it right away if this cancellation is already
+     * cancelled. This is meant to be used by the models and clients to stop their streams.
+     */
+    public void onCancel(Runnable action) {
+        synchronized (this) {
+            if (!cancelled) {
+                actions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * Unregisters {@code action}, typically when its stream is complete
+     */
+    public synchronized void remove(Runnable action) {
+        actions.remove(action);
+    }
+}
@@ -55,6 +55,18 @@ public abstract class Audit {
 
     }
 
+    /**
+     * Invoked when the retrieved documents have been packed to fit in the token budget configured via
+     * {@link io.quarkiverse.langchain4j.RegisterAiService#maxRetrievedTokens()}, before
+     * {@link #addRelevantDocument(List, UserMessage)} is invoked with the packed documents
+     *
+     * @param retrievedTokens the number of tokens of all the retrieved documents
+     * @param packedTokens the number of tokens of the documents that are added to the user message
+     */
+    public void relevantDocumentsPacked(int retrievedTokens, int packedTokens) {
+
+    }
+
     /**
      * Invoked with a response from an LLM. It is important to note that this can be invoked multiple times
      * when tools exist.
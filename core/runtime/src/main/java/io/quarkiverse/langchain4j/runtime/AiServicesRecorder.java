@@ -15,15 +15,20 @@ import jakarta.enterprise.util.TypeLiteral;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.retriever.Retriever;
+import io.quarkiverse.langchain4j.MemoryAffinity;
 import io.quarkiverse.langchain4j.RegisterAiService;
 import io.quarkiverse.langchain4j.audit.AuditService;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceClassCreateInfo;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceMethodCreateInfo;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryNearCache;
+import io.quarkiverse.langchain4j.runtime.aiservice.ContextPacker;
 import io.quarkiverse.langchain4j.runtime.aiservice.DeclarativeAiServiceCreateInfo;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusAiServiceContext;
+import io.quarkiverse.langchain4j.runtime.aiservice.RetrievalFallback;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -31,9 +36,13 @@ import io.quarkus.runtime.annotations.Recorder;
 public class AiServicesRecorder {
     private static final TypeLiteral<Instance<Retriever<TextSegment>>> RETRIEVER_INSTANCE_TYPE_LITERAL = new TypeLiteral<>() {
 
+    };
+    private static final TypeLiteral<Instance<MemoryAffinity>> MEMORY_AFFINITY_TYPE_LITERAL = new TypeLiteral<>() {
     };
     private static final TypeLiteral<Instance<AuditService>> AUDIT_SERVICE_TYPE_LITERAL = new TypeLiteral<>() {
     };
+    private static final TypeLiteral<Instance<Tokenizer>> TOKENIZER_TYPE_LITERAL = new TypeLiteral<>() {
+    };
 
     // the key is the interface's class name
     private static final Map<String, AiServiceClassCreateInfo> metadata = new HashMap<>();
@@ -111,11 +120,29 @@ public class AiServicesRecorder {
                                     .getConstructor().newInstance();
                             quarkusAiServices.chatMemoryProvider(supplier.get());
                         }
+
+                        Instance<MemoryAffinity> memoryAffinity = creationalContext
+                                .getInjectedReference(MEMORY_AFFINITY_TYPE_LITERAL);
+                        if (memoryAffinity.isResolvable()) {
+                            aiServiceContext.memoryAffinity = memoryAffinity.get();
+                            aiServiceContext.chatMemoryNearCache = creationalContext
+                                    .getInjectedReference(ChatMemoryNearCache.class);
+                        }
                     }
 
                     if (info.getRetrieverClassName() != null) {
                         quarkusAiServices.retriever((Retriever<TextSegment>) creationalContext.getInjectedReference(
                                 Thread.currentThread().getContextClassLoader().loadClass(info.getRetrieverClassName())));
+                        if (info.getRetrievalTimeoutMillis() > 0) {
+                            aiServiceContext.retrievalTimeoutMillis = info.getRetrievalTimeoutMillis();
+                            aiServiceContext.retrievalFallback = RetrievalFallback.forService(info.getServiceClassName());
+                        }
+                        if (info.getMaxRetrievedTokens() > 0) {
+                            Instance<Tokenizer> tokenizer = creationalContext.getInjectedReference(TOKENIZER_TYPE_LITERAL);
+                            aiServiceContext.contextPacker = new ContextPacker(info.getMaxRetrievedTokens(),
+                                    aiServiceContext.chatModel, tokenizer.isResolvable() ? tokenizer.get() : null,
+                                    info.getServiceClassName());
+                        }
                     }
 
                     if (info.getAuditServiceClassSupplierName() != null) {
@@ -7,10 +7,15 @@ import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.memory.chat.TokenWindowChatMemory;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryConfig;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryNearCache;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemorySummarizer;
+import io.quarkiverse.langchain4j.runtime.aiservice.SummarizingChatMemory;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @Recorder
 public class ChatMemoryRecorder {
@@ -19,7 +24,8 @@ public class ChatMemoryRecorder {
         return new Function<>() {
             @Override
             public ChatMemoryProvider apply(SyntheticCreationalContext<ChatMemoryProvider> context) {
-                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryStore.class);
+                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryNearCache.class)
+                        .wrap(context.getInjectedReference(ChatMemoryStore.class));
                 int maxMessages = config.memoryWindow().maxMessages();
                 return new ChatMemoryProvider() {
                     @Override
@@ -39,7 +45,8 @@ public class ChatMemoryRecorder {
         return new Function<>() {
             @Override
             public ChatMemoryProvider apply(SyntheticCreationalContext<ChatMemoryProvider> context) {
-                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryStore.class);
+                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryNearCache.class)
+                        .wrap(context.getInjectedReference(ChatMemoryStore.class));
                 Tokenizer tokenizer = context.getInjectedReference(Tokenizer.class);
                 int maxTokens = config.tokenWindow().maxTokens();
                 return new ChatMemoryProvider() {
@@ -55,4 +62,24 @@ public class ChatMemoryRecorder {
             }
         };
     }
+
+    public Function<SyntheticCreationalContext<ChatMemoryProvider>, ChatMemoryProvider> summarizing(ChatMemoryConfig config) {
+        return new Function<>() {
+            @Override
+            public ChatMemoryProvider apply(SyntheticCreationalContext<ChatMemoryProvider> context) {
+                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryNearCache.class)
+                        .wrap(context.getInjectedReference(ChatMemoryStore.class));
+                ChatLanguageModel chatLanguageModel = context.getInjectedReference(ChatLanguageModel.class);
+                int maxMessages = config.summarizing().maxMessages();
+                ChatMemorySummarizer summarizer = new ChatMemorySummarizer(chatLanguageModel,
+                        config.summarizing().prompt(), chatMemoryStore, Infrastructure.getDefaultExecutor());
+                return new ChatMemoryProvider() {
+                    @Override
+                    public ChatMemory get(Object memoryId) {
+                        return new SummarizingChatMemory(memoryId, maxMessages, chatMemoryStore, summarizer);
+                    }
+                };
+            }
+        };
+    }
 }
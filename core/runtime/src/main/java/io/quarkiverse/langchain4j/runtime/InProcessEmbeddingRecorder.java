@@ -1,22 +1,40 @@
 package io.quarkiverse.langchain4j.runtime;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
 import dev.langchain4j.model.embedding.AbstractInProcessEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkiverse.langchain4j.InMemoryEmbeddingStoreSnapshot;
+import io.quarkiverse.langchain4j.MappedEmbeddingStore;
+import io.quarkiverse.langchain4j.runtime.embedding.BatchingInProcessEmbeddingModel;
+import io.quarkiverse.langchain4j.runtime.embedding.BatchingOnnxEncoder;
+import io.quarkiverse.langchain4j.runtime.embedding.InProcessEmbeddingConfig;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class InProcessEmbeddingRecorder {
+    /**
+     * @return the model class of LangChain4j, which is only instantiated, and thus only loads its ONNX model, when it is
+     *         injected as such
+     */
     @SuppressWarnings("unchecked")
     public Supplier<?> instantiate(String className) {
         return new Supplier<Object>() {
             @Override
             public Object get() {
                 try {
-                    Class<? extends AbstractInProcessEmbeddingModel> loaded = (Class<? extends AbstractInProcessEmbeddingModel>) InProcessEmbeddingRecorder.class
-                            .getClassLoader().loadClass(className);
+                    Class<? extends AbstractInProcessEmbeddingModel> loaded = (Class<? extends AbstractInProcessEmbeddingModel>) Thread
+                            .currentThread()
+                            .getContextClassLoader().loadClass(className);
                     return loaded.getConstructor().newInstance();
                 } catch (Exception e) {
                     Logger.getLogger(InProcessEmbeddingRecorder.class)
@@ -26,4 +44,45 @@ public class InProcessEmbeddingRecorder {
             }
         };
     }
+
+    /**
+     * @return the {@link EmbeddingModel} of an in-process model, which embeds texts in batches
+     */
+    public Supplier<EmbeddingModel> batching(String onnxModelPath, String vocabularyPath, String poolingMode,
+            InProcessEmbeddingConfig config) {
+        return new Supplier<EmbeddingModel>() {
+            @Override
+            public EmbeddingModel get() {
+                return new BatchingInProcessEmbeddingModel(new BatchingOnnxEncoder(
+                        Thread.currentThread().getContextClassLoader(), onnxModelPath, vocabularyPath, poolingMode, config));
+            }
+        };
+    }
+
+    public Supplier<MappedEmbeddingStore> corpus(String resource) {
+        return new Supplier<MappedEmbeddingStore>() {
+            @Override
+            public MappedEmbeddingStore get() {
+                ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                URL url = classLoader.getResource(resource);
+                if (url == null) {
+                    throw new IllegalStateException("Unable to locate embedding corpus resource " + resource);
+                }
+                if ("file".equals(url.getProtocol())) {
+                    // the snapshot is mapped instead of being copied onto the heap
+                    try {
+                        return InMemoryEmbeddingStoreSnapshot.map(Path.of(url.toURI()));
+                    } catch (URISyntaxException e) {
+                        throw new IllegalStateException("Invalid embedding corpus location " + url, e);
+                    }
+                }
+                // a jar entry (or a native image resource) cannot be mapped
+                try (InputStream is = url.openStream()) {
+                    return InMemoryEmbeddingStoreSnapshot.read(ByteBuffer.wrap(is.readAllBytes()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
 }
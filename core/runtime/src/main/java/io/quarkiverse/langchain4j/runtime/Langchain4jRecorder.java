@@ -1,11 +1,16 @@
 package io.quarkiverse.langchain4j.runtime;
 
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class Langchain4jRecorder {
 
+    public void enableMeters() {
+        Meters.setEnabled(true);
+    }
+
     public void cleanUp(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -13,6 +18,7 @@ public class Langchain4jRecorder {
                 StructuredPromptsRecorder.clearTemplates();
                 AiServicesRecorder.clearMetadata();
                 ToolsRecorder.clearMetadata();
+                Meters.setEnabled(false);
             }
         });
     }
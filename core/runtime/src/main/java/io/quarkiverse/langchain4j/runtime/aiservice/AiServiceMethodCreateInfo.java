@@ -21,6 +21,7 @@ public class AiServiceMethodCreateInfo {
     private final Optional<MetricsTimedInfo> metricsTimedInfo;
     private final Optional<MetricsCountedInfo> metricsCountedInfo;
     private final Optional<SpanInfo> spanInfo;
+    private final Optional<SemanticCacheInfo> semanticCacheInfo;
 
     @RecordableConstructor
     public AiServiceMethodCreateInfo(String interfaceName, String methodName,
@@ -29,7 +30,8 @@ public class AiServiceMethodCreateInfo {
             boolean requiresModeration, Class<?> returnType,
             Optional<MetricsTimedInfo> metricsTimedInfo,
             Optional<MetricsCountedInfo> metricsCountedInfo,
-            Optional<SpanInfo> spanInfo) {
+            Optional<SpanInfo> spanInfo,
+            Optional<SemanticCacheInfo> semanticCacheInfo) {
         this.interfaceName = interfaceName;
         this.methodName = methodName;
         this.systemMessageInfo = systemMessageInfo;
@@ -40,6 +42,7 @@ public class AiServiceMethodCreateInfo {
         this.metricsTimedInfo = metricsTimedInfo;
         this.metricsCountedInfo = metricsCountedInfo;
         this.spanInfo = spanInfo;
+        this.semanticCacheInfo = semanticCacheInfo;
     }
 
     public String getInterfaceName() {
@@ -82,6 +85,10 @@ public class AiServiceMethodCreateInfo {
         return spanInfo;
     }
 
+    public Optional<SemanticCacheInfo> getSemanticCacheInfo() {
+        return semanticCacheInfo;
+    }
+
     public static class UserMessageInfo {
         private final Optional<TemplateInfo> template;
         private final Optional<Integer> paramPosition;
@@ -305,4 +312,17 @@ public class AiServiceMethodCreateInfo {
             return name;
         }
     }
+
+    public static class SemanticCacheInfo {
+        private final double similarityThreshold;
+
+        @RecordableConstructor
+        public SemanticCacheInfo(double similarityThreshold) {
+            this.similarityThreshold = similarityThreshold;
+        }
+
+        public double getSimilarityThreshold() {
+            return similarityThreshold;
+        }
+    }
 }
@@ -16,8 +16,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 import org.jboss.logging.Logger;
@@ -43,6 +47,7 @@ import dev.langchain4j.service.AiServiceTokenStream;
 import dev.langchain4j.service.TokenStream;
 import io.quarkiverse.langchain4j.audit.Audit;
 import io.quarkiverse.langchain4j.audit.AuditService;
+import io.quarkus.arc.Arc;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
@@ -96,41 +101,72 @@ public class AiServiceMethodImplementationSupport {
             audit.initialMessages(systemMessage, userMessage);
         }
 
-        if (context.retriever != null) { // TODO extract method/class
-            List<TextSegment> relevant = context.retriever.findRelevant(userMessage.text());
-
-            if (relevant == null || relevant.isEmpty()) {
-                log.debug("No relevant information was found");
-            } else {
-                String relevantConcatenated = relevant.stream()
-                        .map(TextSegment::text)
-                        .collect(joining("\n\n"));
+        SemanticCache.Key semanticCacheKey = null;
+        if (createInfo.getSemanticCacheInfo().isPresent()) {
+            SemanticCache semanticCache = semanticCache();
+            semanticCacheKey = semanticCache.key(createInfo, systemMessage, userMessage);
+            AiMessage cached = semanticCache.get(semanticCacheKey,
+                    createInfo.getSemanticCacheInfo().get().getSimilarityThreshold());
+            if (cached != null) {
+                log.debug("AI response obtained from the semantic cache");
+                if (createInfo.isRequiresModeration()) {
+                    List<ChatMessage> messages = new ArrayList<>();
+                    systemMessage.ifPresent(messages::add);
+                    messages.add(userMessage);
+                    verifyModerationIfNeeded(triggerModerationIfNeeded(context, createInfo, messages));
+                }
+                return parse(Response.from(cached), createInfo.getReturnType());
+            }
+        }
 
-                log.debugv("Retrieved relevant information:\n{0}\n", relevantConcatenated);
+        // the retrieval does not depend on the chat memory, so it can run while the memory is being accessed
+        CompletableFuture<List<TextSegment>> relevantFuture = triggerRetrievalIfNeeded(context, userMessage);
 
-                userMessage = userMessage(userMessage.text()
-                        + "\n\nHere is some information that might be useful for answering:\n\n"
-                        + relevantConcatenated);
+        Optional<Object> explicitMemoryId = memoryId(createInfo, methodArgs);
+        Object memoryId = explicitMemoryId.orElse("default");
 
-                if (audit != null) {
-                    audit.addRelevantDocument(relevant, userMessage);
-                }
+        // when no memory id was given, we don't serialize the calls as that would mean serializing all the calls to the service.
+        // A TokenStream is returned before it is started, so the lock only covers the messages added before the stream:
+        // its response is added when it completes, on another thread, after the lock has been released
+        if (context.hasChatMemory() && explicitMemoryId.isPresent()) {
+            context.notifyMemoryAffinity(memoryId);
+            try (var ignored = context.lockChatMemory(memoryId)) {
+                return generate(createInfo, context, audit, systemMessage, userMessage, relevantFuture, memoryId,
+                        semanticCacheKey);
             }
         }
+        return generate(createInfo, context, audit, systemMessage, userMessage, relevantFuture, memoryId,
+                semanticCacheKey);
+    }
 
-        Object memoryId = memoryId(createInfo, methodArgs).orElse("default");
-
+    private static Object generate(AiServiceMethodCreateInfo createInfo, QuarkusAiServiceContext context, Audit audit,
+            Optional<SystemMessage> systemMessage, UserMessage userMessage,
+            CompletableFuture<List<TextSegment>> relevantFuture, Object memoryId, SemanticCache.Key semanticCacheKey) {
+        ChatMemory chatMemory = null;
         if (context.hasChatMemory()) {
-            ChatMemory chatMemory = context.chatMemory(memoryId);
+            chatMemory = context.chatMemory(memoryId);
             if (systemMessage.isPresent()) {
                 chatMemory.add(systemMessage.get());
             }
-            chatMemory.add(userMessage);
+        }
+
+        if (relevantFuture != null) {
+            List<TextSegment> relevant = awaitRelevant(context, userMessage, relevantFuture);
+            if (context.contextPacker != null && relevant != null && !relevant.isEmpty()) {
+                ContextPacker.Result packed = context.contextPacker.pack(relevant);
+                log.debugv("Packed {0} retrieved tokens into {1}", packed.retrievedTokens(), packed.packedTokens());
+                if (audit != null) {
+                    audit.relevantDocumentsPacked(packed.retrievedTokens(), packed.packedTokens());
+                }
+                relevant = packed.segments();
+            }
+            userMessage = augmentUserMessage(userMessage, relevant, audit);
         }
 
         List<ChatMessage> messages;
-        if (context.hasChatMemory()) {
-            messages = context.chatMemory(memoryId).messages();
+        if (chatMemory != null) {
+            chatMemory.add(userMessage);
+            messages = chatMemory.messages();
         } else {
             messages = new ArrayList<>();
             systemMessage.ifPresent(messages::add);
@@ -153,6 +189,8 @@ public class AiServiceMethodImplementationSupport {
             audit.addLLMToApplicationMessage(response);
         }
         TokenUsage tokenUsageAccumulator = response.tokenUsage();
+        // responses that depend on the result of tools are not reusable
+        boolean cacheable = semanticCacheKey != null && !response.content().hasToolExecutionRequests();
 
         verifyModerationIfNeeded(moderationFuture);
 
@@ -174,7 +212,7 @@ public class AiServiceMethodImplementationSupport {
                 break;
             }
 
-            ChatMemory chatMemory = context.chatMemory(memoryId);
+            chatMemory = context.chatMemory(memoryId);
 
             for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
                 log.debugv("Attempting to execute tool {0}", toolExecutionRequest);
@@ -201,10 +239,139 @@ public class AiServiceMethodImplementationSupport {
             tokenUsageAccumulator = tokenUsageAccumulator.add(response.tokenUsage());
         }
 
+        if (cacheable) {
+            semanticCache().put(semanticCacheKey, response.content());
+        }
         response = Response.from(response.content(), tokenUsageAccumulator, response.finishReason());
         return parse(response, returnType);
     }
 
+    private static SemanticCache semanticCache() {
+        return Arc.container().instance(SemanticCache.class).get();
+    }
+
+    private static CompletableFuture<List<TextSegment>> triggerRetrievalIfNeeded(QuarkusAiServiceContext context,
+            UserMessage userMessage) {
+        if (context.retriever == null) {
+            return null;
+        }
+        String text = userMessage.text();
+        RetrievalFallback fallback = context.retrievalFallback;
+        if (fallback == null && !context.hasChatMemory()) {
+            // there is nothing to overlap the retrieval with, so don't pay for the thread hop
+            return CompletableFuture.completedFuture(context.retriever.findRelevant(text));
+        }
+        log.debug("Retrieval of relevant information will be executed in the background");
+        BackgroundRetrieval retrieval = new BackgroundRetrieval(context, text);
+        Infrastructure.getDefaultExecutor().execute(retrieval);
+        CompletableFuture<List<TextSegment>> result = retrieval.result;
+        if (fallback != null) {
+            // the timer starts now, so the time spent accessing the chat memory counts against the budget
+            result.orTimeout(context.retrievalTimeoutMillis, TimeUnit.MILLISECONDS).whenComplete((r, t) -> {
+                if (t instanceof TimeoutException) {
+                    // so that the retrievals that time out do not pile up on the worker threads
+                    retrieval.cancel();
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Runs the retriever on a worker thread, which is interrupted if the retrieval is cancelled
+     */
+    private static final class BackgroundRetrieval implements Runnable {
+
+        private final QuarkusAiServiceContext context;
+        private final String text;
+        private final CompletableFuture<List<TextSegment>> result = new CompletableFuture<>();
+        // guarded by this
+        private Thread thread;
+        private boolean cancelled;
+
+        private BackgroundRetrieval(QuarkusAiServiceContext context, String text) {
+            this.context = context;
+            this.text = text;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                List<TextSegment> relevant = context.retriever.findRelevant(text);
+                if ((context.retrievalFallback != null) && !isCancelled()) {
+                    // the result is reused by the next calls with the same text that time out, unless the retriever
+                    // was interrupted, in which case it may be incomplete
+                    context.retrievalFallback.retrieved(text, relevant);
+                }
+                result.complete(relevant);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                }
+                // the interruption of a cancelled retrieval must not leak to the next task of the worker thread
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private static List<TextSegment> awaitRelevant(QuarkusAiServiceContext context, UserMessage userMessage,
+            CompletableFuture<List<TextSegment>> relevantFuture) {
+        try {
+            return relevantFuture.join();
+        } catch (CompletionException e) {
+            if ((e.getCause() instanceof TimeoutException) && (context.retrievalFallback != null)) {
+                log.debugv("Retrieval did not complete within {0}ms, proceeding with the fallback",
+                        context.retrievalTimeoutMillis);
+                return context.retrievalFallback.onTimeout(userMessage.text());
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private static UserMessage augmentUserMessage(UserMessage userMessage, List<TextSegment> relevant, Audit audit) {
+        if (relevant == null || relevant.isEmpty()) {
+            log.debug("No relevant information was found");
+            return userMessage;
+        }
+
+        String relevantConcatenated = relevant.stream()
+                .map(TextSegment::text)
+                .collect(joining("\n\n"));
+
+        log.debugv("Retrieved relevant information:\n{0}\n", relevantConcatenated);
+
+        UserMessage result = userMessage(userMessage.text()
+                + "\n\nHere is some information that might be useful for answering:\n\n"
+                + relevantConcatenated);
+
+        if (audit != null) {
+            audit.addRelevantDocument(relevant, result);
+        }
+        return result;
+    }
+
     private static Future<Moderation> triggerModerationIfNeeded(AiServiceContext context,
             AiServiceMethodCreateInfo createInfo,
             List<ChatMessage> messages) {
@@ -0,0 +1,230 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import io.quarkiverse.langchain4j.ChatMessageCodec;
+
+/**
+ * Compact {@link ChatMessageCodec} that uses a length-prefixed binary format.
+ * <p>
+ * The encoded form consists of a single version byte followed by one frame per message. Each frame is the varint encoded
+ * length of its payload followed by the payload itself, which makes appending a message a simple concatenation.
+ * Within a payload, the first byte is the message type and all strings are written as a varint encoded length
+ * (where {@code 0} denotes {@code null} and {@code n} denotes {@code n - 1} bytes) followed by the UTF-8 bytes.
+ */
+public class BinaryChatMessageCodec implements ChatMessageCodec {
+
+    static final byte VERSION = 1;
+
+    private static final byte SYSTEM = 1;
+    private static final byte USER = 2;
+    private static final byte AI = 3;
+    private static final byte TOOL_EXECUTION_RESULT = 4;
+
+    @Override
+    public byte[] encode(List<ChatMessage> messages) {
+        Output out = new Output(64 * (messages.size() + 1));
+        out.write(VERSION);
+        for (ChatMessage message : messages) {
+            writeFrame(out, message);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public List<ChatMessage> decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return Collections.emptyList();
+        }
+        Input in = new Input(encoded);
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported encoded chat messages version '" + version + "'");
+        }
+        List<ChatMessage> result = new ArrayList<>();
+        while (in.hasRemaining()) {
+            int length = in.readVarInt();
+            int end = in.pos + length;
+            result.add(readMessage(in));
+            if (in.pos != end) {
+                throw new IllegalArgumentException("Corrupted encoded chat message at position " + in.pos);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public byte[] append(byte[] encoded, ChatMessage message) {
+        if (encoded == null || encoded.length == 0) {
+            return encode(List.of(message));
+        }
+        if (encoded[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported encoded chat messages version '" + encoded[0] + "'");
+        }
+        Output out = new Output(encoded.length + 64);
+        out.write(encoded, 0, encoded.length);
+        writeFrame(out, message);
+        return out.toByteArray();
+    }
+
+    private static void writeFrame(Output out, ChatMessage message) {
+        Output payload = new Output(64);
+        writeMessage(payload, message);
+        out.writeVarInt(payload.size());
+        payload.writeTo(out);
+    }
+
+    private static void writeMessage(Output out, ChatMessage message) {
+        if (message instanceof SystemMessage) {
+            out.write(SYSTEM);
+            out.writeString(message.text());
+        } else if (message instanceof UserMessage userMessage) {
+            out.write(USER);
+            out.writeString(userMessage.name());
+            out.writeString(userMessage.text());
+        } else if (message instanceof AiMessage aiMessage) {
+            out.write(AI);
+            out.writeString(aiMessage.text());
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            if (toolExecutionRequests == null) {
+                out.writeVarInt(0);
+            } else {
+                out.writeVarInt(toolExecutionRequests.size() + 1);
+                for (ToolExecutionRequest request : toolExecutionRequests) {
+                    out.writeString(request.id());
+                    out.writeString(request.name());
+                    out.writeString(request.arguments());
+                }
+            }
+        } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+            out.write(TOOL_EXECUTION_RESULT);
+            out.writeString(toolExecutionResultMessage.id());
+            out.writeString(toolExecutionResultMessage.toolName());
+            out.writeString(toolExecutionResultMessage.text());
+        } else {
+            throw new IllegalArgumentException("Unsupported chat message type '" + message.getClass().getName() + "'");
+        }
+    }
+
+    private static ChatMessage readMessage(Input in) {
+        byte type = in.readByte();
+        switch (type) {
+            case SYSTEM:
+                return new SystemMessage(in.readString());
+            case USER: {
+                String name = in.readString();
+                String text = in.readString();
+                return name == null ? new UserMessage(text) : new UserMessage(name, text);
+            }
+            case AI: {
+                String text = in.readString();
+                int size = in.readVarInt();
+                if (size == 0) {
+                    return new AiMessage(text);
+                }
+                List<ToolExecutionRequest> toolExecutionRequests = new ArrayList<>(size - 1);
+                for (int i = 0; i < size - 1; i++) {
+                    toolExecutionRequests.add(ToolExecutionRequest.builder()
+                            .id(in.readString())
+                            .name(in.readString())
+                            .arguments(in.readString())
+                            .build());
+                }
+                return new AiMessage(toolExecutionRequests);
+            }
+            case TOOL_EXECUTION_RESULT: {
+                String id = in.readString();
+                String toolName = in.readString();
+                String text = in.readString();
+                return new ToolExecutionResultMessage(id, toolName, text);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown encoded chat message type '" + type + "'");
+        }
+    }
+
+    private static final class Output extends ByteArrayOutputStream {
+
+        Output(int size) {
+            super(size);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeTo(Output out) {
+            out.write(buf, 0, count);
+        }
+    }
+
+    private static final class Input {
+        private final byte[] bytes;
+        private int pos;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasRemaining() {
+            return pos < bytes.length;
+        }
+
+        byte readByte() {
+            if (pos >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of encoded chat messages");
+            }
+            return bytes[pos++];
+        }
+
+        int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in encoded chat messages");
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            if (length > bytes.length - pos) {
+                throw new IllegalArgumentException("Unexpected end of encoded chat messages");
+            }
+            String result = new String(bytes, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return result;
+        }
+    }
+}
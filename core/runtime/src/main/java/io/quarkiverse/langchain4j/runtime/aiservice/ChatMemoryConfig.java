@@ -5,6 +5,8 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.ChatMessageCodec;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -31,6 +33,28 @@ public interface ChatMemoryConfig {
      */
     TokenWindow tokenWindow();
 
+    /**
+     * Configures aspects of the {@link SummarizingChatMemory} which is enabled if the
+     * {@code quarkus.langchain4j.chat-memory.type} configuration property
+     * is set to {@code summarizing} and if no bean of type {@link ChatMemoryProvider} is present in the application.
+     */
+    Summarizing summarizing();
+
+    /**
+     * The format used by the {@link ChatMessageCodec} bean the extension provides for {@link ChatMemoryStore}
+     * implementations that persist chat messages.
+     * {@code json} produces the same output as {@link dev.langchain4j.data.message.ChatMessageSerializer} while
+     * {@code binary} uses a more compact length-prefixed format that is also cheaper to decode.
+     */
+    @WithDefault("json")
+    Codec codec();
+
+    /**
+     * Configures the {@link ChatMemoryNearCache} that keeps the messages of recently used memories locally in order to
+     * avoid fetching them from a remote {@link ChatMemoryStore} on every turn of a conversation
+     */
+    NearCache nearCache();
+
     @ConfigGroup
     interface MemoryWindow {
 
@@ -51,4 +75,46 @@ public interface ChatMemoryConfig {
         int maxTokens();
     }
 
+    @ConfigGroup
+    interface Summarizing {
+
+        /**
+         * The maximum number of messages the configured {@link SummarizingChatMemory} will hold verbatim.
+         * Older messages are folded into a running summary.
+         */
+        @WithDefault("10")
+        int maxMessages();
+
+        /**
+         * The instructions given to the {@link dev.langchain4j.model.chat.ChatLanguageModel} when it is asked to
+         * fold evicted messages into the running summary
+         */
+        @WithDefault("Progressively summarize the lines of conversation provided, adding onto the current summary (if any) and returning a new summary. Keep all facts that could be needed to continue the conversation.")
+        String prompt();
+    }
+
+    @ConfigGroup
+    interface NearCache {
+
+        /**
+         * Whether the messages read from the {@link ChatMemoryStore} should be cached locally.
+         * This should only be enabled when all the turns of a conversation are handled by the same instance of the
+         * application (for example by using a {@link io.quarkiverse.langchain4j.MemoryAffinity} bean to drive the routing
+         * of requests), as changes made by other instances are not seen until the entry is evicted or invalidated.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of memories whose messages are cached. The least recently used ones are evicted first.
+         */
+        @WithDefault("1000")
+        int maxSize();
+    }
+
+    enum Codec {
+        JSON,
+        BINARY
+    }
+
 }
@@ -0,0 +1,75 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Provides one lock per memory id so that concurrent turns of the same conversation are applied to the
+ * {@link dev.langchain4j.memory.ChatMemory} one after the other, while turns of unrelated conversations never contend.
+ * <p>
+ * Locks only exist while they are held (or waited for), so the number of entries is bounded by the number of
+ * conversations that are currently active.
+ * <p>
+ * The turns of the methods returning a {@link dev.langchain4j.service.TokenStream} are not serialized: the lock is held
+ * while the messages are added before the stream, and the response is added to the memory when the stream completes,
+ * after the lock is released.
+ */
+public final class ChatMemoryLocks {
+
+    private static final ChatMemoryLocks INSTANCE = new ChatMemoryLocks();
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    ChatMemoryLocks() {
+    }
+
+    /**
+     * The memory ids are shared by all AI services that use the same {@link dev.langchain4j.store.memory.chat.ChatMemoryStore},
+     * so the locks need to be shared as well
+     */
+    public static ChatMemoryLocks get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Blocks until the lock of the memory id is available.
+     *
+     * @return the handle that must be closed in order to release the lock
+     */
+    public Handle lock(Object memoryId) {
+        Entry entry = entries.compute(memoryId, (id, existing) -> {
+            Entry result = existing != null ? existing : new Entry();
+            result.users++;
+            return result;
+        });
+        entry.lock.lock();
+        return new Handle(memoryId, entry);
+    }
+
+    private void release(Object memoryId, Entry entry) {
+        entry.lock.unlock();
+        entries.computeIfPresent(memoryId, (id, existing) -> --existing.users == 0 ? null : existing);
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        // only accessed inside the compute methods of the map
+        private int users;
+    }
+
+    public final class Handle implements AutoCloseable {
+        private final Object memoryId;
+        private final Entry entry;
+
+        private Handle(Object memoryId, Entry entry) {
+            this.memoryId = memoryId;
+            this.entry = entry;
+        }
+
+        @Override
+        public void close() {
+            release(memoryId, entry);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+
+/**
+ * Local cache of the messages held by a remote {@link ChatMemoryStore}.
+ * <p>
+ * Reads are served from the cache and only reach the store on a miss, while writes go through to the store.
+ * This is only effective when the turns of a conversation are routed to the same instance (see
+ * {@link io.quarkiverse.langchain4j.MemoryAffinity}). When that is not guaranteed, the application must call
+ * {@link #invalidate(Object)} whenever the messages of a memory are changed by another instance.
+ */
+@Singleton
+public class ChatMemoryNearCache {
+
+    private final boolean enabled;
+    private final Map<Object, List<ChatMessage>> entries;
+    // incremented on every change of the entries other than a load, guarded by entries
+    private long changes;
+
+    @Inject
+    public ChatMemoryNearCache(ChatMemoryConfig config) {
+        this(config.nearCache().enabled(), config.nearCache().maxSize());
+    }
+
+    public ChatMemoryNearCache(boolean enabled, int maxSize) {
+        this.enabled = enabled;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, List<ChatMessage>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * @return a store that uses this cache in front of {@code delegate}, or {@code delegate} itself if the cache is
+     *         disabled or pointless for it
+     */
+    public ChatMemoryStore wrap(ChatMemoryStore delegate) {
+        if (!enabled || (delegate instanceof InMemoryChatMemoryStore)) {
+            return delegate;
+        }
+        return new CachingStore(delegate);
+    }
+
+    public boolean contains(Object memoryId) {
+        return entries.containsKey(memoryId);
+    }
+
+    public void invalidate(Object memoryId) {
+        change(memoryId, null);
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            changes++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Replaces the entry of {@code memoryId}, removing it if {@code messages} is {@code null}
+     */
+    private void change(Object memoryId, List<ChatMessage> messages) {
+        synchronized (entries) {
+            changes++;
+            if (messages != null) {
+                entries.put(memoryId, messages);
+            } else {
+                entries.remove(memoryId);
+            }
+        }
+    }
+
+    private long changes() {
+        synchronized (entries) {
+            return changes;
+        }
+    }
+
+    /**
+     * Caches the messages loaded from the store, unless the entries changed since {@code changesBeforeLoad}, in which
+     * case the messages loaded may be older than a concurrent update or deletion
+     */
+    private void loaded(Object memoryId, List<ChatMessage> messages, long changesBeforeLoad) {
+        synchronized (entries) {
+            if (changes == changesBeforeLoad) {
+                entries.putIfAbsent(memoryId, messages);
+            }
+        }
+    }
+
+    private final class CachingStore implements ChatMemoryStore {
+
+        private final ChatMemoryStore delegate;
+
+        private CachingStore(ChatMemoryStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            List<ChatMessage> cached = entries.get(memoryId);
+            if (cached == null) {
+                long changesBeforeLoad = changes();
+                cached = List.copyOf(delegate.getMessages(memoryId));
+                loaded(memoryId, cached, changesBeforeLoad);
+            }
+            // callers are allowed to modify the result
+            return new ArrayList<>(cached);
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            try {
+                delegate.updateMessages(memoryId, messages);
+            } catch (RuntimeException e) {
+                change(memoryId, null);
+                throw e;
+            }
+            change(memoryId, List.copyOf(messages));
+        }
+
+        @Override
+        public void deleteMessages(Object memoryId) {
+            try {
+                delegate.deleteMessages(memoryId);
+            } finally {
+                change(memoryId, null);
+            }
+        }
+    }
+}
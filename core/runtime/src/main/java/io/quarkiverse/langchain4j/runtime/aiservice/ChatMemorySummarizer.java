@@ -0,0 +1,178 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Maintains a running summary per memory id of the messages evicted from a {@link SummarizingChatMemory}.
+ * <p>
+ * Summaries are computed in the background using the configured {@link ChatLanguageModel} so the request that caused
+ * the eviction is never delayed. Updates for the same memory id are applied in order, while updates for different
+ * memory ids run concurrently.
+ * <p>
+ * The summary is kept in the {@link ChatMemoryStore} of the memory, as a {@link SystemMessage} starting with
+ * {@link #SUMMARY_PREFIX} right after the actual system message (if any), so that it lives and is removed with the
+ * other messages of the memory.
+ */
+public class ChatMemorySummarizer {
+
+    static final String SUMMARY_PREFIX = "Summary of the earlier conversation:\n";
+
+    private static final Logger log = Logger.getLogger(ChatMemorySummarizer.class);
+
+    private final ChatLanguageModel chatLanguageModel;
+    private final String prompt;
+    private final ChatMemoryStore store;
+    private final Executor executor;
+
+    // only holds the memory ids whose summary is being updated
+    private final Map<Object, Updates> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The chain of updates scheduled for a memory id since it was last cleared
+     *
+     * @param owner identifies the chain, so that its updates are discarded once the memory has been cleared, even if
+     *        new updates have been scheduled since
+     * @param previous the update the last one waits for
+     * @param last the last update scheduled
+     */
+    private record Updates(Object owner, CompletableFuture<Void> previous, CompletableFuture<Void> last) {
+    }
+
+    public ChatMemorySummarizer(ChatLanguageModel chatLanguageModel, String prompt, ChatMemoryStore store,
+            Executor executor) {
+        this.chatLanguageModel = chatLanguageModel;
+        this.prompt = prompt;
+        this.store = store;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the latest summary available for the memory id, or {@code null} if nothing has been summarized yet
+     */
+    public String summary(Object memoryId) {
+        List<ChatMessage> messages = store.getMessages(memoryId);
+        int index = summaryIndex(messages);
+        return index < messages.size() && isSummary(messages.get(index))
+                ? messages.get(index).text().substring(SUMMARY_PREFIX.length())
+                : null;
+    }
+
+    static boolean isSummary(ChatMessage message) {
+        return (message instanceof SystemMessage) && message.text().startsWith(SUMMARY_PREFIX);
+    }
+
+    /**
+     * @return the index of the summary in {@code messages}, i.e. right after the actual system message (if any)
+     */
+    static int summaryIndex(List<ChatMessage> messages) {
+        return !messages.isEmpty() && (messages.get(0) instanceof SystemMessage) && !isSummary(messages.get(0)) ? 1 : 0;
+    }
+
+    /**
+     * Schedules the folding of {@code evicted} into the summary of the memory id.
+     */
+    public void summarize(Object memoryId, List<ChatMessage> evicted) {
+        String conversation = format(evicted);
+        if (conversation.isEmpty()) {
+            return;
+        }
+        // the tail of the chain is replaced atomically, so updates for the same memory id are applied in order
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Updates updates = pending.compute(memoryId, (id, current) -> current == null
+                ? new Updates(new Object(), CompletableFuture.completedFuture(null), done)
+                : new Updates(current.owner(), current.last(), done));
+        updates.previous().thenRunAsync(new Runnable() {
+            @Override
+            public void run() {
+                update(memoryId, updates.owner(), conversation);
+            }
+        }, executor).whenComplete((r, t) -> {
+            if (t != null) {
+                log.warnv(t, "Unable to summarize evicted messages of memory {0}", memoryId);
+            }
+            pending.computeIfPresent(memoryId, (id, current) -> current.last() == done ? null : current);
+            done.complete(null);
+        });
+    }
+
+    /**
+     * Discards any update of the summary of the memory id that is still in progress, the summary itself being removed
+     * with the messages of the memory
+     */
+    public void remove(Object memoryId) {
+        pending.remove(memoryId);
+    }
+
+    private void update(Object memoryId, Object owner, String conversation) {
+        StringBuilder text = new StringBuilder(prompt);
+        String current = summary(memoryId);
+        if (current != null) {
+            text.append("\n\nCurrent summary:\n").append(current);
+        }
+        text.append("\n\nNew lines of conversation:\n").append(conversation);
+
+        log.debugv("Attempting to summarize evicted messages of memory {0}", memoryId);
+        String summary;
+        try {
+            summary = chatLanguageModel.generate(text.toString());
+        } catch (Exception e) {
+            log.warnv(e, "Unable to summarize evicted messages of memory {0}", memoryId);
+            return;
+        }
+        // the summary is written like a turn of the conversation, so that it does not overwrite a concurrent turn
+        try (var ignored = ChatMemoryLocks.get().lock(memoryId)) {
+            // the memory might have been cleared, and even used again, while the summary was being computed
+            Updates updates = pending.get(memoryId);
+            if (updates == null || updates.owner() != owner) {
+                log.debugv("Discarding the summary of memory {0} as it has been cleared", memoryId);
+                return;
+            }
+            List<ChatMessage> messages = new ArrayList<>(store.getMessages(memoryId));
+            int index = summaryIndex(messages);
+            SystemMessage summaryMessage = SystemMessage.from(SUMMARY_PREFIX + summary);
+            if (index < messages.size() && isSummary(messages.get(index))) {
+                messages.set(index, summaryMessage);
+            } else {
+                messages.add(index, summaryMessage);
+            }
+            store.updateMessages(memoryId, messages);
+        }
+        log.debugv("Summary of memory {0} updated", memoryId);
+    }
+
+    private static String format(List<ChatMessage> messages) {
+        StringBuilder sb = new StringBuilder();
+        for (ChatMessage message : messages) {
+            String text = message.text();
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            if (message instanceof UserMessage) {
+                sb.append("User: ");
+            } else if (message instanceof AiMessage) {
+                sb.append("AI: ");
+            } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+                sb.append("Tool ").append(toolExecutionResultMessage.toolName()).append(": ");
+            } else {
+                continue;
+            }
+            sb.append(text).append('\n');
+        }
+        return sb.toString();
+    }
+}
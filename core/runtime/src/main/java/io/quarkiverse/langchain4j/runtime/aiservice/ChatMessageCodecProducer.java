@@ -0,0 +1,23 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import io.quarkiverse.langchain4j.ChatMessageCodec;
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * Creates the default {@link ChatMessageCodec} according to the {@code quarkus.langchain4j.chat-memory.codec} configuration
+ */
+public class ChatMessageCodecProducer {
+
+    @Produces
+    @Singleton
+    @DefaultBean
+    public ChatMessageCodec chatMessageCodec(ChatMemoryConfig config) {
+        if (config.codec() == ChatMemoryConfig.Codec.BINARY) {
+            return new BinaryChatMessageCodec();
+        }
+        return new JsonChatMessageCodec();
+    }
+}
@@ -0,0 +1,146 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToIntFunction;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+
+/**
+ * Selects the retrieved segments that are added to the user message so that they fit in the token budget configured via
+ * {@link io.quarkiverse.langchain4j.RegisterAiService#maxRetrievedTokens()}.
+ * <p>
+ * Segments are considered in the order of the retriever, which is by decreasing relevance. A segment that is contained
+ * in an already selected one is dropped, and the part of a segment that repeats the beginning or the end of an already
+ * selected one (as produced by splitters using an overlap) is removed. A segment that does not fit in what remains of
+ * the budget is skipped, so that less relevant but shorter segments can still be selected.
+ * <p>
+ * When {@code quarkus-micrometer} is present, the tokens before and after packing are counted by the
+ * {@code langchain4j.aiservice.retrieval.tokens} metric.
+ */
+public class ContextPacker {
+
+    /**
+     * Shorter overlaps are likely to be accidental
+     */
+    private static final int MIN_OVERLAP = 16;
+
+    private final int maxTokens;
+    private final ToIntFunction<String> tokenCounter;
+    private final DoubleConsumer retrievedMeter;
+    private final DoubleConsumer packedMeter;
+
+    /**
+     * @param chatModel used to count tokens if it is a {@link TokenCountEstimator}
+     * @param tokenizer used to count tokens otherwise, may be {@code null} in which case tokens are approximated as
+     *        4 characters
+     */
+    public ContextPacker(int maxTokens, ChatLanguageModel chatModel, Tokenizer tokenizer, String serviceClassName) {
+        this.maxTokens = maxTokens;
+        if (chatModel instanceof TokenCountEstimator estimator) {
+            this.tokenCounter = new ToIntFunction<>() {
+                @Override
+                public int applyAsInt(String text) {
+                    return estimator.estimateTokenCount(text);
+                }
+            };
+        } else if (tokenizer != null) {
+            this.tokenCounter = new ToIntFunction<>() {
+                @Override
+                public int applyAsInt(String text) {
+                    return tokenizer.estimateTokenCountInText(text);
+                }
+            };
+        } else {
+            this.tokenCounter = new ToIntFunction<>() {
+                @Override
+                public int applyAsInt(String text) {
+                    return (text.length() + 3) / 4;
+                }
+            };
+        }
+        this.retrievedMeter = Meters.counter("langchain4j.aiservice.retrieval.tokens",
+                "aiservice", serviceClassName, "stage", "retrieved");
+        this.packedMeter = Meters.counter("langchain4j.aiservice.retrieval.tokens",
+                "aiservice", serviceClassName, "stage", "packed");
+    }
+
+    public Result pack(List<TextSegment> relevant) {
+        List<TextSegment> packed = new ArrayList<>(relevant.size());
+        List<String> packedTexts = new ArrayList<>(relevant.size());
+        int retrievedTokens = 0;
+        int packedTokens = 0;
+        for (TextSegment segment : relevant) {
+            String text = segment.text();
+            retrievedTokens += tokenCounter.applyAsInt(text);
+            if (text.isBlank() || isContained(text, packedTexts)) {
+                continue;
+            }
+            text = removeOverlaps(text, packedTexts);
+            if (text.isBlank()) {
+                continue;
+            }
+            int tokens = tokenCounter.applyAsInt(text);
+            if (packedTokens + tokens > maxTokens) {
+                continue;
+            }
+            packedTokens += tokens;
+            packedTexts.add(text);
+            packed.add(text.equals(segment.text()) ? segment : TextSegment.from(text, segment.metadata()));
+        }
+        retrievedMeter.accept(retrievedTokens);
+        packedMeter.accept(packedTokens);
+        return new Result(packed, retrievedTokens, packedTokens);
+    }
+
+    private static boolean isContained(String text, List<String> packedTexts) {
+        for (String packedText : packedTexts) {
+            if (packedText.contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String removeOverlaps(String text, List<String> packedTexts) {
+        for (String packedText : packedTexts) {
+            // the segment follows the packed one in the document
+            int overlap = overlap(packedText, text);
+            if (overlap > 0) {
+                text = text.substring(overlap);
+            }
+            // the segment precedes the packed one in the document
+            overlap = overlap(text, packedText);
+            if (overlap > 0) {
+                text = text.substring(0, text.length() - overlap);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * @return the length of the longest end of {@code first} that is also the beginning of {@code second}, or {@code 0}
+     *         if it is shorter than {@link #MIN_OVERLAP}
+     */
+    private static int overlap(String first, String second) {
+        for (int length = Math.min(first.length(), second.length() - 1); length >= MIN_OVERLAP; length--) {
+            if (first.regionMatches(first.length() - length, second, 0, length)) {
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param segments the segments to add to the user message
+     * @param retrievedTokens the number of tokens of all the retrieved segments
+     * @param packedTokens the number of tokens of {@code segments}
+     */
+    public record Result(List<TextSegment> segments, int retrievedTokens, int packedTokens) {
+    }
+}
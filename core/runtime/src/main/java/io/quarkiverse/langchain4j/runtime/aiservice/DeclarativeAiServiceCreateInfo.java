@@ -11,6 +11,8 @@ public class DeclarativeAiServiceCreateInfo {
     private final List<String> toolsClassNames;
     private final String chatMemoryProviderSupplierClassName;
     private final String retrieverClassName;
+    private final long retrievalTimeoutMillis;
+    private final int maxRetrievedTokens;
 
     private final String auditServiceClassSupplierName;
     private final String moderationModelSupplierClassName;
@@ -19,6 +21,8 @@ public class DeclarativeAiServiceCreateInfo {
     public DeclarativeAiServiceCreateInfo(String serviceClassName, String languageModelSupplierClassName,
             List<String> toolsClassNames, String chatMemoryProviderSupplierClassName,
             String retrieverClassName,
+            long retrievalTimeoutMillis,
+            int maxRetrievedTokens,
             String auditServiceClassSupplierName,
             String moderationModelSupplierClassName) {
         this.serviceClassName = serviceClassName;
@@ -26,6 +30,8 @@ public class DeclarativeAiServiceCreateInfo {
         this.toolsClassNames = toolsClassNames;
         this.chatMemoryProviderSupplierClassName = chatMemoryProviderSupplierClassName;
         this.retrieverClassName = retrieverClassName;
+        this.retrievalTimeoutMillis = retrievalTimeoutMillis;
+        this.maxRetrievedTokens = maxRetrievedTokens;
         this.auditServiceClassSupplierName = auditServiceClassSupplierName;
         this.moderationModelSupplierClassName = moderationModelSupplierClassName;
     }
@@ -50,6 +56,14 @@ public class DeclarativeAiServiceCreateInfo {
         return retrieverClassName;
     }
 
+    public long getRetrievalTimeoutMillis() {
+        return retrievalTimeoutMillis;
+    }
+
+    public int getMaxRetrievedTokens() {
+        return maxRetrievedTokens;
+    }
+
     public String getAuditServiceClassSupplierName() {
         return auditServiceClassSupplierName;
     }
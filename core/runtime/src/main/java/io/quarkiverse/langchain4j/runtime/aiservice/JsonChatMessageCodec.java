@@ -0,0 +1,103 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import dev.langchain4j.data.message.ChatMessage;
+import io.quarkiverse.langchain4j.ChatMessageCodec;
+import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+
+/**
+ * {@link ChatMessageCodec} that produces the same (compact) JSON array as
+ * {@link dev.langchain4j.data.message.ChatMessageSerializer}
+ */
+public class JsonChatMessageCodec implements ChatMessageCodec {
+
+    private static final TypeReference<List<ChatMessage>> MESSAGE_LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public byte[] encode(List<ChatMessage> messages) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsBytes(messages);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<ChatMessage> decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(encoded, MESSAGE_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] append(byte[] encoded, ChatMessage message) {
+        byte[] encodedMessage;
+        try {
+            encodedMessage = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int end = lastNonWhitespace(encoded);
+        if (end < 0) {
+            return wrap(encodedMessage);
+        }
+        if (encoded[end] != ']') {
+            throw new IllegalArgumentException("Encoded messages are not a JSON array");
+        }
+        // we need to know whether the array is empty in order to decide if a separator is needed
+        int previous = lastNonWhitespace(encoded, end - 1);
+        if (previous < 0) {
+            throw new IllegalArgumentException("Encoded messages are not a JSON array");
+        }
+        boolean empty = encoded[previous] == '[';
+
+        byte[] result = new byte[end + (empty ? 0 : 1) + encodedMessage.length + 1];
+        System.arraycopy(encoded, 0, result, 0, end);
+        int pos = end;
+        if (!empty) {
+            result[pos++] = ',';
+        }
+        System.arraycopy(encodedMessage, 0, result, pos, encodedMessage.length);
+        result[result.length - 1] = ']';
+        return result;
+    }
+
+    private static byte[] wrap(byte[] encodedMessage) {
+        byte[] result = new byte[encodedMessage.length + 2];
+        result[0] = '[';
+        System.arraycopy(encodedMessage, 0, result, 1, encodedMessage.length);
+        result[result.length - 1] = ']';
+        return result;
+    }
+
+    private static int lastNonWhitespace(byte[] bytes) {
+        if (bytes == null) {
+            return -1;
+        }
+        return lastNonWhitespace(bytes, bytes.length - 1);
+    }
+
+    private static int lastNonWhitespace(byte[] bytes, int from) {
+        for (int i = from; i >= 0; i--) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
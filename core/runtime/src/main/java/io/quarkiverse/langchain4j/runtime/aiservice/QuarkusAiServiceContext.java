@@ -4,12 +4,21 @@ import java.util.function.BiConsumer;
 
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.AiServiceContext;
+import io.quarkiverse.langchain4j.MemoryAffinity;
 import io.quarkiverse.langchain4j.RegisterAiService;
 import io.quarkiverse.langchain4j.audit.AuditService;
 
 public class QuarkusAiServiceContext extends AiServiceContext {
 
     public AuditService auditService;
+    public MemoryAffinity memoryAffinity;
+    public ChatMemoryNearCache chatMemoryNearCache;
+    /**
+     * How long the retrieval may take before the {@link #retrievalFallback} is used, {@code 0} meaning forever
+     */
+    public long retrievalTimeoutMillis;
+    public RetrievalFallback retrievalFallback;
+    public ContextPacker contextPacker;
 
     // needed by Arc
     public QuarkusAiServiceContext() {
@@ -38,6 +47,25 @@ public class QuarkusAiServiceContext extends AiServiceContext {
         chatMemories = null;
     }
 
+    /**
+     * Acquires the lock of the chat memory identified by {@code memoryId}, so that the messages of concurrent
+     * turns of the same conversation do not interleave
+     *
+     * @return the handle that must be closed in order to release the lock
+     */
+    public ChatMemoryLocks.Handle lockChatMemory(Object memoryId) {
+        return ChatMemoryLocks.get().lock(memoryId);
+    }
+
+    /**
+     * Lets the {@link MemoryAffinity} bean (if any) know which memory is about to be used
+     */
+    public void notifyMemoryAffinity(Object memoryId) {
+        if (memoryAffinity != null) {
+            memoryAffinity.onMemoryId(memoryId, (chatMemoryNearCache != null) && chatMemoryNearCache.contains(memoryId));
+        }
+    }
+
     /**
      * This is called by the {@code remove(Object... ids)} method of AiServices when a user manually requests removal of chat
      * memories
@@ -47,7 +75,9 @@ public class QuarkusAiServiceContext extends AiServiceContext {
         for (Object id : ids) {
             ChatMemory chatMemory = chatMemories.remove(id);
             if (chatMemory != null) {
-                chatMemory.clear();
+                try (var ignored = lockChatMemory(id)) {
+                    chatMemory.clear();
+                }
             }
         }
     }
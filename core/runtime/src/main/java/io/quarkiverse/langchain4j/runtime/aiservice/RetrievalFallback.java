@@ -0,0 +1,81 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import dev.langchain4j.data.segment.TextSegment;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+
+/**
+ * Provides the segments used by an AI service when its retriever does not answer within the retrieval timeout
+ * configured via {@link io.quarkiverse.langchain4j.RegisterAiService#retrievalTimeoutMillis()}.
+ * <p>
+ * The segments last retrieved for the most recent texts are kept, so that a text that has already been seen is still
+ * augmented, while any other text is sent to the model without augmentation.
+ * When {@code quarkus-micrometer} is present, the fallbacks are counted by the
+ * {@code langchain4j.aiservice.retrieval.fallback} metric.
+ */
+public final class RetrievalFallback {
+
+    private static final int MAX_SIZE = 100;
+
+    // the AI service contexts are usually request scoped, so the fallbacks are kept per service class
+    private static final Map<String, RetrievalFallback> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Map<String, List<TextSegment>> lastRetrieved = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<TextSegment>> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            });
+    private final LongAdder cached = new LongAdder();
+    private final LongAdder none = new LongAdder();
+
+    RetrievalFallback() {
+    }
+
+    public static RetrievalFallback forService(String serviceClassName) {
+        return INSTANCES.computeIfAbsent(serviceClassName, new Function<>() {
+            @Override
+            public RetrievalFallback apply(String name) {
+                RetrievalFallback result = new RetrievalFallback();
+                Meters.functionCounter("langchain4j.aiservice.retrieval.fallback", result.cached, LongAdder::sum,
+                        "aiservice", name, "result", "cached");
+                Meters.functionCounter("langchain4j.aiservice.retrieval.fallback", result.none, LongAdder::sum,
+                        "aiservice", name, "result", "none");
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Records the segments retrieved for {@code text}, even when they arrive after the timeout
+     */
+    public void retrieved(String text, List<TextSegment> segments) {
+        lastRetrieved.put(text, segments);
+    }
+
+    /**
+     * @return the segments last retrieved for {@code text}, or an empty list if there are none
+     */
+    public List<TextSegment> onTimeout(String text) {
+        List<TextSegment> result = lastRetrieved.get(text);
+        if (result == null) {
+            none.increment();
+            return Collections.emptyList();
+        }
+        cached.increment();
+        return result;
+    }
+
+    public long fallbacks() {
+        return cached.sum() + none.sum();
+    }
+
+}
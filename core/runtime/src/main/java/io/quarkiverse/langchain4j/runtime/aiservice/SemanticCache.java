@@ -0,0 +1,271 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import io.quarkiverse.langchain4j.RemovableEmbeddingStore;
+import io.quarkiverse.langchain4j.SemanticCacheResult;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+import io.quarkus.arc.Arc;
+
+/**
+ * Keeps the responses of the AI service methods annotated with {@link SemanticCacheResult}, keyed by the embedding of
+ * their user message.
+ * <p>
+ * The responses are stored as the text of the segments of an {@link EmbeddingStore}: the bean named
+ * {@code semantic-cache} if there is one (so that several instances of the application can share the responses), or an
+ * in-memory store otherwise. The expired responses that are found, and the oldest responses added beyond the maximum
+ * size, are removed from the store if it is a {@link RemovableEmbeddingStore}.
+ * When {@code quarkus-micrometer} is present, hits and misses are counted by the
+ * {@code langchain4j.aiservice.semantic.cache} metric.
+ */
+@Singleton
+public class SemanticCache {
+
+    private static final Logger log = Logger.getLogger(SemanticCache.class);
+
+    public static final String STORE_NAME = "semantic-cache";
+
+    static final String SCOPE_METADATA_KEY = "semantic-cache-scope";
+    static final String CREATED_AT_METADATA_KEY = "semantic-cache-created-at";
+
+    /**
+     * The store may contain the responses of other scopes that are more similar
+     */
+    private static final int MAX_CANDIDATES = 10;
+
+    private static final TypeLiteral<EmbeddingStore<TextSegment>> EMBEDDING_STORE_TYPE_LITERAL = new TypeLiteral<>() {
+    };
+
+    private final Instance<EmbeddingModel> embeddingModel;
+    private final EmbeddingStore<TextSegment> store;
+    private final long ttlMillis;
+    private final int maxSize;
+    // the ids of the responses added, oldest first, only tracked if they can be removed
+    private final Set<String> added = new LinkedHashSet<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public SemanticCache(SemanticCacheConfig config) {
+        // programmatic lookups, as injection points would prevent the removal of the unused models and stores
+        this(Arc.container().select(EmbeddingModel.class), store(), config.ttl(), config.maxSize());
+        if (!(store instanceof RemovableEmbeddingStore)) {
+            log.warnf("The EmbeddingStore bean named '%s' does not implement %s, so the responses it contains are never"
+                    + " removed, regardless of the configured maximum size and time to live", STORE_NAME,
+                    RemovableEmbeddingStore.class.getName());
+        }
+        Meters.functionCounter("langchain4j.aiservice.semantic.cache", hits, LongAdder::sum, "result", "hit");
+        Meters.functionCounter("langchain4j.aiservice.semantic.cache", misses, LongAdder::sum, "result", "miss");
+    }
+
+    SemanticCache(Instance<EmbeddingModel> embeddingModel, EmbeddingStore<TextSegment> store, Optional<Duration> ttl,
+            int maxSize) {
+        this.embeddingModel = embeddingModel;
+        this.store = store;
+        this.ttlMillis = ttl.map(Duration::toMillis).orElse(Long.MAX_VALUE);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Embeds the user message, which is needed both to look up a response and to store one
+     */
+    public Key key(AiServiceMethodCreateInfo createInfo, Optional<SystemMessage> systemMessage, UserMessage userMessage) {
+        if (!embeddingModel.isResolvable()) {
+            throw new IllegalStateException("Method '" + createInfo.getInterfaceName() + "#" + createInfo.getMethodName()
+                    + "' is annotated with @SemanticCacheResult, but no EmbeddingModel bean is available");
+        }
+        String scope = createInfo.getInterfaceName() + '#' + createInfo.getMethodName() + '\u0000'
+                + systemMessage.map(SystemMessage::text).orElse("");
+        Embedding embedding = embeddingModel.get().embed(userMessage.text()).content();
+        return new Key(digest(scope), embedding);
+    }
+
+    /**
+     * @return the response to a user message whose embedding is at least {@code similarityThreshold} similar, or
+     *         {@code null} if there is none
+     */
+    public AiMessage get(Key key, double similarityThreshold) {
+        double minScore = RelevanceScore.fromCosineSimilarity(similarityThreshold);
+        long now = System.currentTimeMillis();
+        for (EmbeddingMatch<TextSegment> match : store.findRelevant(key.embedding, MAX_CANDIDATES, minScore)) {
+            TextSegment segment = match.embedded();
+            if ((segment == null) || !key.scope.equals(segment.metadata(SCOPE_METADATA_KEY))) {
+                continue;
+            }
+            String createdAt = segment.metadata(CREATED_AT_METADATA_KEY);
+            if ((createdAt != null) && (now - Long.parseLong(createdAt) > ttlMillis)) {
+                remove(match.embeddingId());
+                continue;
+            }
+            hits.increment();
+            return AiMessage.from(segment.text());
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(Key key, AiMessage response) {
+        if ((response.text() == null) || response.hasToolExecutionRequests()) {
+            return;
+        }
+        Metadata metadata = new Metadata()
+                .add(SCOPE_METADATA_KEY, key.scope)
+                .add(CREATED_AT_METADATA_KEY, System.currentTimeMillis());
+        String id = store.add(key.embedding, TextSegment.from(response.text(), metadata));
+        if (!(store instanceof RemovableEmbeddingStore)) {
+            return;
+        }
+        String evicted = null;
+        synchronized (added) {
+            added.add(id);
+            if (added.size() > maxSize) {
+                Iterator<String> oldest = added.iterator();
+                evicted = oldest.next();
+                oldest.remove();
+            }
+        }
+        if (evicted != null) {
+            remove(evicted);
+        }
+    }
+
+    private void remove(String id) {
+        if (!(store instanceof RemovableEmbeddingStore<TextSegment> removable)) {
+            return;
+        }
+        synchronized (added) {
+            added.remove(id);
+        }
+        try {
+            removable.remove(id);
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to remove response %s from the semantic cache", id);
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static EmbeddingStore<TextSegment> store() {
+        Instance<EmbeddingStore<TextSegment>> store = Arc.container().select(EMBEDDING_STORE_TYPE_LITERAL,
+                NamedLiteral.of(STORE_NAME));
+        return store.isResolvable() ? store.get() : new LocalEmbeddingStore();
+    }
+
+    private static String digest(String scope) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(scope.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param scope identifies the method and the system message
+     */
+    public record Key(String scope, Embedding embedding) {
+    }
+
+    /**
+     * Exhaustive in-memory store, whose size is bounded by the cache
+     */
+    static final class LocalEmbeddingStore implements RemovableEmbeddingStore<TextSegment> {
+
+        private final Map<String, EmbeddingMatch<TextSegment>> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public String add(Embedding embedding) {
+            return add(embedding, null);
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            entries.put(id, new EmbeddingMatch<>(1.0, id, embedding, null));
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            String id = randomUUID();
+            entries.put(id, new EmbeddingMatch<>(1.0, id, embedding, textSegment));
+            return id;
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            List<String> ids = new ArrayList<>(embeddings.size());
+            for (Embedding embedding : embeddings) {
+                ids.add(add(embedding));
+            }
+            return ids;
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+            List<String> ids = new ArrayList<>(embeddings.size());
+            for (int i = 0; i < embeddings.size(); i++) {
+                ids.add(add(embeddings.get(i), textSegments.get(i)));
+            }
+            return ids;
+        }
+
+        @Override
+        public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults,
+                double minScore) {
+            List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+            for (EmbeddingMatch<TextSegment> entry : entries.values()) {
+                double score = RelevanceScore.fromCosineSimilarity(
+                        CosineSimilarity.between(entry.embedding(), referenceEmbedding));
+                if (score >= minScore) {
+                    result.add(new EmbeddingMatch<>(score, entry.embeddingId(), entry.embedding(), entry.embedded()));
+                }
+            }
+            result.sort((a, b) -> Double.compare(b.score(), a.score()));
+            return result.size() > maxResults ? result.subList(0, maxResults) : result;
+        }
+
+        @Override
+        public void remove(String id) {
+            entries.remove(id);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.semantic-cache")
+public interface SemanticCacheConfig {
+
+    /**
+     * The maximum number of responses kept, the oldest ones being evicted first.
+     * When the responses are kept in the {@code EmbeddingStore} bean named {@code semantic-cache}, this bounds the
+     * responses added by each instance of the application, and only applies if the store implements
+     * {@code io.quarkiverse.langchain4j.RemovableEmbeddingStore}.
+     */
+    @WithDefault("1000")
+    int maxSize();
+
+    /**
+     * How long a response is reused after it has been obtained from the model.
+     * If not set, responses are reused until they are evicted.
+     */
+    Optional<Duration> ttl();
+}
@@ -0,0 +1,98 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * {@link ChatMemory} that retains at most {@code maxMessages} messages verbatim (like
+ * {@link dev.langchain4j.memory.chat.MessageWindowChatMemory}), but instead of simply dropping the evicted messages,
+ * it folds them into a running summary computed in the background by {@link ChatMemorySummarizer}.
+ * <p>
+ * The latest available summary is stored as an additional {@link SystemMessage} right after the actual system message
+ * (if any), which does not count towards {@code maxMessages}. Because the summary is computed asynchronously, messages
+ * that were just evicted may not be reflected in it until the summarization completes.
+ */
+public class SummarizingChatMemory implements ChatMemory {
+
+    private final Object id;
+    private final int maxMessages;
+    private final ChatMemoryStore store;
+    private final ChatMemorySummarizer summarizer;
+
+    public SummarizingChatMemory(Object id, int maxMessages, ChatMemoryStore store, ChatMemorySummarizer summarizer) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("maxMessages must be greater than zero");
+        }
+        this.id = id;
+        this.maxMessages = maxMessages;
+        this.store = store;
+        this.summarizer = summarizer;
+    }
+
+    @Override
+    public Object id() {
+        return id;
+    }
+
+    @Override
+    public void add(ChatMessage message) {
+        List<ChatMessage> messages = new ArrayList<>(store.getMessages(id));
+        if (message instanceof SystemMessage) {
+            if (ChatMemorySummarizer.summaryIndex(messages) == 1) {
+                if (messages.get(0).equals(message)) {
+                    return;
+                }
+                messages.set(0, message);
+            } else {
+                messages.add(0, message);
+            }
+        } else {
+            messages.add(message);
+        }
+
+        List<ChatMessage> evicted = ensureCapacity(messages);
+        store.updateMessages(id, messages);
+        if (!evicted.isEmpty()) {
+            summarizer.summarize(id, evicted);
+        }
+    }
+
+    @Override
+    public List<ChatMessage> messages() {
+        return new ArrayList<>(store.getMessages(id));
+    }
+
+    @Override
+    public void clear() {
+        summarizer.remove(id);
+        store.deleteMessages(id);
+    }
+
+    private List<ChatMessage> ensureCapacity(List<ChatMessage> messages) {
+        List<ChatMessage> evicted = new ArrayList<>();
+        int first = ChatMemorySummarizer.summaryIndex(messages);
+        int summaries = 0;
+        if (first < messages.size() && ChatMemorySummarizer.isSummary(messages.get(first))) {
+            first++;
+            summaries++;
+        }
+        while (messages.size() - summaries > maxMessages && messages.size() > first + 1) {
+            ChatMessage removed = messages.remove(first);
+            evicted.add(removed);
+            if ((removed instanceof AiMessage aiMessage) && aiMessage.hasToolExecutionRequests()) {
+                // tool results are meaningless without the request that triggered them
+                while (messages.size() > first && (messages.get(first) instanceof ToolExecutionResultMessage)) {
+                    evicted.add(messages.remove(first));
+                }
+            }
+        }
+        return evicted;
+    }
+}
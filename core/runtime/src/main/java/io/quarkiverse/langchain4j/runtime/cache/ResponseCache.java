@@ -0,0 +1,168 @@
+package io.quarkiverse.langchain4j.runtime.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.ResponseCacheBackend;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+import io.quarkus.arc.Unremovable;
+
+/**
+ * Cache of the responses of the chat models provided by the extensions, keyed by a digest of the exact request.
+ * <p>
+ * The responses are serialized by the providers, which also decide which requests are cacheable. Responses are kept
+ * locally in a bounded LRU map. When a bean implementing {@link ResponseCacheBackend} is available, it is consulted on a
+ * local miss and populated with the responses that had to be requested.
+ * When {@code quarkus-micrometer} is present, hits and misses are counted by the {@code langchain4j.response.cache}
+ * metric.
+ */
+@Singleton
+@Unremovable
+public class ResponseCache {
+
+    private static final Logger log = Logger.getLogger(ResponseCache.class);
+
+    private final boolean enabled;
+    private final boolean deterministicOnly;
+    private final long ttlNanos;
+    private final Duration ttl;
+    private final ResponseCacheBackend backend;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public ResponseCache(ResponseCacheConfig config, Instance<ResponseCacheBackend> backend) {
+        this(config.enabled(), config.deterministicOnly(), config.maxSize(), config.ttl().orElse(null),
+                backend.isResolvable() ? backend.get() : null);
+        if (enabled) {
+            Meters.functionCounter("langchain4j.response.cache", hits, LongAdder::sum, "result", "hit");
+            Meters.functionCounter("langchain4j.response.cache", misses, LongAdder::sum, "result", "miss");
+        }
+    }
+
+    /**
+     * @param ttl how long a response is kept, {@code null} meaning until it is evicted
+     * @param backend the second level of the cache, may be {@code null}
+     */
+    public ResponseCache(boolean enabled, boolean deterministicOnly, int maxSize, Duration ttl,
+            ResponseCacheBackend backend) {
+        this.enabled = enabled;
+        this.deterministicOnly = deterministicOnly;
+        this.ttl = ttl;
+        this.ttlNanos = ttl == null ? Long.MAX_VALUE : ttl.toNanos();
+        this.backend = backend;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return whether only the requests with a temperature of {@code 0} should be cached
+     */
+    public boolean isDeterministicOnly() {
+        return deterministicOnly;
+    }
+
+    /**
+     * @param namespace identifies the provider and the endpoint, as the same request has different responses with
+     *        different models
+     * @param request the serialized request, which can be arbitrarily long
+     */
+    public static String key(String namespace, String request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(request.getBytes(StandardCharsets.UTF_8));
+            return namespace + ':' + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the serialized response or {@code null} if there is none
+     */
+    public String get(String key) {
+        long now = System.nanoTime();
+        String result = getLocal(key, now);
+        if (result == null && backend != null) {
+            result = getFromBackend(key);
+            if (result != null) {
+                entries.put(key, new Entry(result, now));
+            }
+        }
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    public void put(String key, String response) {
+        entries.put(key, new Entry(response, System.nanoTime()));
+        if (backend != null) {
+            try {
+                backend.put(key, response, ttl);
+            } catch (RuntimeException e) {
+                // the backend is only an optimization, so it being unavailable must not prevent receiving responses
+                log.debugf(e, "Unable to write response to %s", backend);
+            }
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private String getLocal(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.response;
+    }
+
+    private String getFromBackend(String key) {
+        try {
+            return backend.get(key);
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to read response from %s", backend);
+            return null;
+        }
+    }
+
+    private record Entry(String response, long createdAt) {
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.langchain4j.runtime.cache;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.response-cache")
+public interface ResponseCacheConfig {
+
+    /**
+     * Whether the responses of the chat models provided by the extensions are cached, keyed by the exact request
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Whether only the requests with a temperature of {@code 0} are cached.
+     * Other requests are expected to produce different responses each time they are sent.
+     */
+    @WithDefault("true")
+    boolean deterministicOnly();
+
+    /**
+     * The maximum number of responses kept in memory, the least recently used ones being evicted first
+     */
+    @WithDefault("1000")
+    int maxSize();
+
+    /**
+     * How long a response is kept after it has been received.
+     * If not set, responses are only evicted when the cache is full.
+     */
+    Optional<Duration> ttl();
+}
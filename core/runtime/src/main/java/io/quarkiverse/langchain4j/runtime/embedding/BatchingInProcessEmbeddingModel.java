@@ -0,0 +1,33 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * The {@link EmbeddingModel} bean of an in-process embedding model, which delegates to a {@link BatchingOnnxEncoder}.
+ * <p>
+ * It does not extend the model class of LangChain4j, as initializing that class loads the ONNX model a second time.
+ */
+public class BatchingInProcessEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
+
+    private final BatchingOnnxEncoder encoder;
+
+    public BatchingInProcessEmbeddingModel(BatchingOnnxEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return encoder.embedAll(textSegments);
+    }
+
+    @Override
+    public int estimateTokenCount(String text) {
+        return encoder.countTokens(text);
+    }
+}
@@ -0,0 +1,289 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.BertTokenizer;
+import dev.langchain4j.model.embedding.OnnxBertBiEncoder;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.arc.Arc;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Replacement for {@link OnnxBertBiEncoder} that embeds texts in batches (padding each batch to the
+ * length of its longest text) instead of one at a time, and that can run several batches concurrently.
+ * <p>
+ * The results are the same as the ones of {@link OnnxBertBiEncoder}: texts longer than the maximum sequence length of
+ * the model are split into partitions whose embeddings are averaged (weighted by their length) and normalized. The ONNX
+ * session and the tokenizer are created from the resources of the model, as the ones of the {@link OnnxBertBiEncoder}
+ * are not accessible.
+ */
+public class BatchingOnnxEncoder {
+
+    private static final int MAX_SEQUENCE_LENGTH = 510; // 512 - 2 (for special tokens [CLS] and [SEP])
+
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final BertTokenizer tokenizer;
+    private final boolean clsPooling;
+    private final long clsTokenId;
+    private final long sepTokenId;
+    private final int batchSize;
+    private final int parallelism;
+    private final Executor executor;
+    private final EmbeddingCache cache;
+    private final String modelId;
+
+    /**
+     * Creates an encoder running the additional batches on the default executor of the application and using the
+     * {@link EmbeddingCache} of the application
+     *
+     * @see #BatchingOnnxEncoder(ClassLoader, String, String, String, InProcessEmbeddingConfig, Executor, EmbeddingCache)
+     */
+    public BatchingOnnxEncoder(ClassLoader classLoader, String onnxModelPath, String vocabularyPath, String poolingMode,
+            InProcessEmbeddingConfig config) {
+        this(classLoader, onnxModelPath, vocabularyPath, poolingMode, config, Infrastructure.getDefaultExecutor(),
+                Arc.container().instance(EmbeddingCache.class).get());
+    }
+
+    /**
+     * @param classLoader the class loader of the in-process embedding model, used to load the ONNX model and the
+     *        vocabulary
+     * @param onnxModelPath the class path resource containing the ONNX model
+     * @param vocabularyPath the class path resource containing the vocabulary of the tokenizer
+     * @param poolingMode the name of the {@code PoolingMode} of the model, {@code CLS} or {@code MEAN}
+     * @param cache the cache consulted before embedding texts, may be {@code null}
+     */
+    public BatchingOnnxEncoder(ClassLoader classLoader, String onnxModelPath, String vocabularyPath, String poolingMode,
+            InProcessEmbeddingConfig config, Executor executor, EmbeddingCache cache) {
+        URL vocabulary = classLoader.getResource(vocabularyPath);
+        if (vocabulary == null) {
+            throw new IllegalStateException("Unable to locate vocabulary " + vocabularyPath);
+        }
+        this.environment = OrtEnvironment.getEnvironment();
+        this.tokenizer = new BertTokenizer(vocabulary);
+        this.clsPooling = "CLS".equals(poolingMode);
+        this.clsTokenId = tokenizer.tokenId("[CLS]");
+        this.sepTokenId = tokenizer.tokenId("[SEP]");
+        this.batchSize = Math.max(config.batchSize(), 1);
+        this.parallelism = Math.max(config.parallelism(), 1);
+        this.executor = executor;
+        this.cache = cache;
+        this.modelId = "in-process:" + onnxModelPath;
+        this.session = createSession(classLoader, onnxModelPath, config);
+    }
+
+    public int countTokens(String text) {
+        return tokenizer.tokenize(text).size();
+    }
+
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        if (cache == null) {
+            return embedAllUncached(textSegments);
+        }
+        return cache.embedAll(modelId, textSegments, this::embedAllUncached);
+    }
+
+    private Response<List<Embedding>> embedAllUncached(List<TextSegment> textSegments) {
+        // every text is made of one or more sequences, which are what the model actually embeds
+        List<Sequence> sequences = new ArrayList<>(textSegments.size());
+        for (int i = 0; i < textSegments.size(); i++) {
+            List<String> tokens = tokenizer.tokenize(textSegments.get(i).text());
+            for (int start = 0; start < tokens.size() || start == 0; start += MAX_SEQUENCE_LENGTH) {
+                sequences.add(new Sequence(i, toTokenIds(tokens.subList(start,
+                        Math.min(start + MAX_SEQUENCE_LENGTH, tokens.size())))));
+            }
+        }
+        // grouping sequences of similar length minimizes the padding
+        List<Sequence> sorted = new ArrayList<>(sequences);
+        sorted.sort(Comparator.comparingInt(s -> s.tokenIds.length));
+
+        int batches = (sorted.size() + batchSize - 1) / batchSize;
+        AtomicInteger nextBatch = new AtomicInteger();
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int batch;
+                while ((batch = nextBatch.getAndIncrement()) < batches) {
+                    encode(sorted.subList(batch * batchSize, Math.min((batch + 1) * batchSize, sorted.size())));
+                }
+            }
+        };
+        int workers = Math.min(parallelism, batches);
+        CompletableFuture<?>[] others = new CompletableFuture<?>[Math.max(workers - 1, 0)];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = CompletableFuture.runAsync(worker, executor);
+        }
+        worker.run();
+        try {
+            CompletableFuture.allOf(others).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+
+        List<Embedding> result = new ArrayList<>(textSegments.size());
+        int s = 0;
+        for (int i = 0; i < textSegments.size(); i++) {
+            float[] sum = null;
+            int weights = 0;
+            for (; s < sequences.size() && sequences.get(s).text == i; s++) {
+                Sequence sequence = sequences.get(s);
+                int weight = sequence.tokenIds.length - 2;
+                if (sum == null) {
+                    sum = new float[sequence.embedding.length];
+                }
+                for (int j = 0; j < sum.length; j++) {
+                    sum[j] += sequence.embedding[j] * weight;
+                }
+                weights += weight;
+            }
+            if (weights > 0) {
+                for (int j = 0; j < sum.length; j++) {
+                    sum[j] /= weights;
+                }
+            }
+            result.add(Embedding.from(normalize(sum)));
+        }
+        return Response.from(result);
+    }
+
+    private void encode(List<Sequence> batch) {
+        int maxLength = 0;
+        for (Sequence sequence : batch) {
+            maxLength = Math.max(maxLength, sequence.tokenIds.length);
+        }
+        long[] inputIds = new long[batch.size() * maxLength];
+        long[] attentionMask = new long[batch.size() * maxLength];
+        for (int i = 0; i < batch.size(); i++) {
+            long[] tokenIds = batch.get(i).tokenIds;
+            System.arraycopy(tokenIds, 0, inputIds, i * maxLength, tokenIds.length);
+            Arrays.fill(attentionMask, i * maxLength, i * maxLength + tokenIds.length, 1);
+        }
+        long[] shape = { batch.size(), maxLength };
+
+        try (OnnxTensor inputIdsTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(inputIds), shape);
+                OnnxTensor tokenTypeIdsTensor = OnnxTensor.createTensor(environment,
+                        LongBuffer.wrap(new long[inputIds.length]), shape);
+                OnnxTensor attentionMaskTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(attentionMask),
+                        shape)) {
+            Map<String, OnnxTensor> inputs = new HashMap<>();
+            inputs.put("input_ids", inputIdsTensor);
+            inputs.put("token_type_ids", tokenTypeIdsTensor);
+            inputs.put("attention_mask", attentionMaskTensor);
+            try (OrtSession.Result result = session.run(inputs)) {
+                float[][][] lastHiddenState = (float[][][]) result.get(0).getValue();
+                for (int i = 0; i < batch.size(); i++) {
+                    Sequence sequence = batch.get(i);
+                    sequence.embedding = clsPooling ? lastHiddenState[i][0]
+                            : meanPool(lastHiddenState[i], sequence.tokenIds.length);
+                }
+            }
+        } catch (OrtException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private long[] toTokenIds(List<String> tokens) {
+        long[] tokenIds = new long[tokens.size() + 2];
+        int i = 0;
+        tokenIds[i++] = clsTokenId;
+        for (String token : tokens) {
+            tokenIds[i++] = tokenizer.tokenId(token);
+        }
+        tokenIds[i] = sepTokenId;
+        return tokenIds;
+    }
+
+    /**
+     * Averages the embeddings of the first {@code length} tokens, the following ones being padding
+     */
+    private static float[] meanPool(float[][] tokenEmbeddings, int length) {
+        float[] result = new float[tokenEmbeddings[0].length];
+        for (int t = 0; t < length; t++) {
+            float[] tokenEmbedding = tokenEmbeddings[t];
+            for (int j = 0; j < result.length; j++) {
+                result[j] += tokenEmbedding[j];
+            }
+        }
+        for (int j = 0; j < result.length; j++) {
+            result[j] /= length;
+        }
+        return result;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double sumSquare = 0;
+        for (float v : vector) {
+            sumSquare += v * v;
+        }
+        float norm = (float) Math.sqrt(sumSquare);
+        float[] result = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = vector[i] / norm;
+        }
+        return result;
+    }
+
+    private OrtSession createSession(ClassLoader classLoader, String onnxModelPath, InProcessEmbeddingConfig config) {
+        try (InputStream is = classLoader.getResourceAsStream(onnxModelPath);
+                OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            if (is == null) {
+                throw new IllegalStateException("Unable to locate ONNX model " + onnxModelPath);
+            }
+            if (config.intraOpThreads().isPresent()) {
+                options.setIntraOpNumThreads(config.intraOpThreads().get());
+            }
+            if (config.interOpThreads().isPresent()) {
+                options.setExecutionMode(OrtSession.SessionOptions.ExecutionMode.PARALLEL);
+                options.setInterOpNumThreads(config.interOpThreads().get());
+            }
+            if (config.optimizationLevel().isPresent()) {
+                options.setOptimizationLevel(switch (config.optimizationLevel().get()) {
+                    case NONE -> OrtSession.SessionOptions.OptLevel.NO_OPT;
+                    case BASIC -> OrtSession.SessionOptions.OptLevel.BASIC_OPT;
+                    case EXTENDED -> OrtSession.SessionOptions.OptLevel.EXTENDED_OPT;
+                    case ALL -> OrtSession.SessionOptions.OptLevel.ALL_OPT;
+                });
+            }
+            return environment.createSession(is.readAllBytes(), options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (OrtException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Sequence {
+        private final int text;
+        private final long[] tokenIds;
+        // written by the thread encoding the batch, read after all the batches have completed
+        private float[] embedding;
+
+        private Sequence(int text, long[] tokenIds) {
+            this.text = text;
+            this.tokenIds = tokenIds;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.arc.Unremovable;
+
+/**
+ * Coalesces the texts embedded concurrently with the embedding models provided by the extensions into batches, so that
+ * the provider receives a single request for all of them instead of one request per text.
+ * <p>
+ * The first caller of a batch waits for the configured window, or until the batch is full, then sends the batch and
+ * hands each caller its embeddings. The other callers wait for the batch to be sent.
+ * As the token usage of a batch cannot be attributed to its callers, it is only reported to a caller that was alone in
+ * its batch.
+ */
+@Singleton
+@Unremovable
+public class EmbeddingBatcher {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final LongAdder batches = new LongAdder();
+
+    @Inject
+    public EmbeddingBatcher(EmbeddingBatchingConfig config) {
+        this(config.enabled(), config.window(), config.maxBatchSize());
+    }
+
+    public EmbeddingBatcher(boolean enabled, Duration window, int maxBatchSize) {
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+    }
+
+    /**
+     * @return a model that coalesces the concurrent calls to {@code delegate}, or {@code delegate} itself if batching is
+     *         disabled
+     */
+    public EmbeddingModel wrap(EmbeddingModel delegate) {
+        if (!enabled) {
+            return delegate;
+        }
+        if (delegate instanceof TokenCountEstimator estimator) {
+            return new BatchingTokenCountingEmbeddingModel(delegate, estimator);
+        }
+        return new BatchingEmbeddingModel(delegate);
+    }
+
+    /**
+     * @return the number of requests sent to the wrapped models
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    private static final class Batch {
+
+        private final List<TextSegment> segments = new ArrayList<>();
+        private final long deadline;
+        private final CompletableFuture<Response<List<Embedding>>> result = new CompletableFuture<>();
+        // guarded by the model
+        private int callers;
+        private boolean closed;
+
+        private Batch(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    private class BatchingEmbeddingModel implements EmbeddingModel {
+
+        private final EmbeddingModel delegate;
+        // guarded by this
+        private Batch pending;
+
+        private BatchingEmbeddingModel(EmbeddingModel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            if (textSegments.size() >= maxBatchSize) {
+                batches.increment();
+                return delegate.embedAll(textSegments);
+            }
+            Batch batch;
+            int offset;
+            boolean first = false;
+            synchronized (this) {
+                if (pending != null && pending.segments.size() + textSegments.size() > maxBatchSize) {
+                    close(pending);
+                }
+                if (pending == null) {
+                    pending = new Batch(System.nanoTime() + windowNanos);
+                    first = true;
+                }
+                batch = pending;
+                offset = batch.segments.size();
+                batch.segments.addAll(textSegments);
+                batch.callers++;
+                if (batch.segments.size() >= maxBatchSize) {
+                    close(batch);
+                }
+            }
+            if (first) {
+                awaitClosed(batch);
+                send(batch);
+            }
+
+            Response<List<Embedding>> response;
+            try {
+                response = batch.result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+            List<Embedding> embeddings = new ArrayList<>(
+                    response.content().subList(offset, offset + textSegments.size()));
+            if (batch.callers == 1) {
+                return Response.from(embeddings, response.tokenUsage(), response.finishReason());
+            }
+            return Response.from(embeddings);
+        }
+
+        /**
+         * Stops adding texts to {@code batch} and wakes up its first caller, which sends it
+         */
+        private void close(Batch batch) {
+            batch.closed = true;
+            if (pending == batch) {
+                pending = null;
+            }
+            notifyAll();
+        }
+
+        private synchronized void awaitClosed(Batch batch) {
+            long remaining = batch.deadline - System.nanoTime();
+            while (!batch.closed && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = batch.deadline - System.nanoTime();
+            }
+            close(batch);
+        }
+
+        private void send(Batch batch) {
+            batches.increment();
+            try {
+                batch.result.complete(delegate.embedAll(batch.segments));
+            } catch (Throwable t) {
+                batch.result.completeExceptionally(t);
+            }
+        }
+    }
+
+    private class BatchingTokenCountingEmbeddingModel extends BatchingEmbeddingModel implements TokenCountEstimator {
+
+        private final TokenCountEstimator estimator;
+
+        private BatchingTokenCountingEmbeddingModel(EmbeddingModel delegate, TokenCountEstimator estimator) {
+            super(delegate);
+            this.estimator = estimator;
+        }
+
+        @Override
+        public int estimateTokenCount(String text) {
+            return estimator.estimateTokenCount(text);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.embedding-batching")
+public interface EmbeddingBatchingConfig {
+
+    /**
+     * Whether the texts embedded concurrently by the embedding models provided by the extensions are sent to the
+     * provider in a single request
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * How long the first text of a batch waits for other texts to be embedded before the batch is sent
+     */
+    @WithDefault("5ms")
+    Duration window();
+
+    /**
+     * The maximum number of texts sent in a single request.
+     * A batch is sent as soon as it is full, and larger {@code embedAll} calls are sent as they are.
+     */
+    @WithDefault("16")
+    int maxBatchSize();
+}
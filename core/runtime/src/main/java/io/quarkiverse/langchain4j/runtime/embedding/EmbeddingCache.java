@@ -0,0 +1,253 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.EmbeddingCacheBackend;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+import io.quarkus.arc.Unremovable;
+
+/**
+ * Cache of the embeddings computed by the embedding models provided by the extensions, keyed by the model and the
+ * normalized text.
+ * <p>
+ * Embeddings are kept locally in a bounded LRU map. When a bean implementing {@link EmbeddingCacheBackend} is available,
+ * it is consulted on a local miss and populated with the embeddings that had to be computed.
+ * When {@code quarkus-micrometer} is present, hits and misses are counted by the {@code langchain4j.embedding.cache}
+ * metric.
+ */
+@Singleton
+@Unremovable
+public class EmbeddingCache {
+
+    private static final Logger log = Logger.getLogger(EmbeddingCache.class);
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Duration ttl;
+    private final boolean ignoreCase;
+    private final EmbeddingCacheBackend backend;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public EmbeddingCache(EmbeddingCacheConfig config, Instance<EmbeddingCacheBackend> backend) {
+        this(config.enabled(), config.maxSize(), config.ttl().orElse(null), config.ignoreCase(),
+                backend.isResolvable() ? backend.get() : null);
+        if (enabled) {
+            Meters.functionCounter("langchain4j.embedding.cache", hits, LongAdder::sum, "result", "hit");
+            Meters.functionCounter("langchain4j.embedding.cache", misses, LongAdder::sum, "result", "miss");
+        }
+    }
+
+    /**
+     * @param ttl how long an embedding is kept, {@code null} meaning until it is evicted
+     * @param backend the second level of the cache, may be {@code null}
+     */
+    public EmbeddingCache(boolean enabled, int maxSize, Duration ttl, boolean ignoreCase, EmbeddingCacheBackend backend) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.ttlNanos = ttl == null ? Long.MAX_VALUE : ttl.toNanos();
+        this.ignoreCase = ignoreCase;
+        this.backend = backend;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * @param modelId identifies the model and its settings, as the same text has different embeddings with different
+     *        models
+     * @return a model that uses this cache in front of {@code delegate}, or {@code delegate} itself if the cache is
+     *         disabled
+     */
+    public EmbeddingModel wrap(EmbeddingModel delegate, String modelId) {
+        if (!enabled) {
+            return delegate;
+        }
+        if (delegate instanceof TokenCountEstimator estimator) {
+            return new CachingTokenCountingEmbeddingModel(delegate, modelId, estimator);
+        }
+        return new CachingEmbeddingModel(delegate, modelId);
+    }
+
+    /**
+     * Returns the embeddings of {@code segments}, only passing to {@code embedder} the ones that are not cached.
+     * The token usage of the result only accounts for the segments that had to be embedded.
+     */
+    public Response<List<Embedding>> embedAll(String modelId, List<TextSegment> segments,
+            Function<List<TextSegment>, Response<List<Embedding>>> embedder) {
+        if (!enabled) {
+            return embedder.apply(segments);
+        }
+        Embedding[] result = new Embedding[segments.size()];
+        // the same text may appear several times in the segments, but only needs to be embedded once
+        Map<String, List<Integer>> missing = new LinkedHashMap<>();
+        List<TextSegment> toEmbed = new ArrayList<>();
+        long now = System.nanoTime();
+        for (int i = 0; i < segments.size(); i++) {
+            String key = modelId + '\u0000' + normalize(segments.get(i).text());
+            Embedding cached = getLocal(key, now);
+            if (cached == null && backend != null) {
+                cached = getFromBackend(key);
+                if (cached != null) {
+                    entries.put(key, new Entry(cached, now));
+                }
+            }
+            if (cached != null) {
+                hits.increment();
+                result[i] = cached;
+                continue;
+            }
+            misses.increment();
+            List<Integer> indexes = missing.get(key);
+            if (indexes == null) {
+                indexes = new ArrayList<>(1);
+                missing.put(key, indexes);
+                toEmbed.add(segments.get(i));
+            }
+            indexes.add(i);
+        }
+        if (toEmbed.isEmpty()) {
+            return Response.from(Arrays.asList(result));
+        }
+
+        Response<List<Embedding>> response = embedder.apply(toEmbed);
+        List<Embedding> embedded = response.content();
+        now = System.nanoTime();
+        int e = 0;
+        for (Map.Entry<String, List<Integer>> entry : missing.entrySet()) {
+            Embedding embedding = embedded.get(e++);
+            for (int index : entry.getValue()) {
+                result[index] = embedding;
+            }
+            entries.put(entry.getKey(), new Entry(embedding, now));
+            if (backend != null) {
+                putInBackend(entry.getKey(), embedding);
+            }
+        }
+        return Response.from(Arrays.asList(result), response.tokenUsage(), response.finishReason());
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private Embedding getLocal(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.embedding;
+    }
+
+    private Embedding getFromBackend(String key) {
+        try {
+            return backend.get(backendKey(key));
+        } catch (RuntimeException e) {
+            // the backend is only an optimization, so it being unavailable must not prevent computing embeddings
+            log.debugf(e, "Unable to read embedding from %s", backend);
+            return null;
+        }
+    }
+
+    private void putInBackend(String key, Embedding embedding) {
+        try {
+            backend.put(backendKey(key), embedding, ttl);
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to write embedding to %s", backend);
+        }
+    }
+
+    /**
+     * The texts can be arbitrarily long, so the backend gets the model id and a digest of the text
+     */
+    private static String backendKey(String key) {
+        int separator = key.indexOf('\u0000');
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.substring(separator + 1).getBytes(StandardCharsets.UTF_8));
+            return key.substring(0, separator) + ':' + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String normalize(String text) {
+        String normalized = text.strip().replaceAll("\\s+", " ");
+        return ignoreCase ? normalized.toLowerCase(Locale.ROOT) : normalized;
+    }
+
+    private record Entry(Embedding embedding, long createdAt) {
+    }
+
+    private class CachingEmbeddingModel implements EmbeddingModel {
+
+        private final EmbeddingModel delegate;
+        private final String modelId;
+
+        private CachingEmbeddingModel(EmbeddingModel delegate, String modelId) {
+            this.delegate = delegate;
+            this.modelId = modelId;
+        }
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return EmbeddingCache.this.embedAll(modelId, textSegments, delegate::embedAll);
+        }
+    }
+
+    private class CachingTokenCountingEmbeddingModel extends CachingEmbeddingModel implements TokenCountEstimator {
+
+        private final TokenCountEstimator estimator;
+
+        private CachingTokenCountingEmbeddingModel(EmbeddingModel delegate, String modelId, TokenCountEstimator estimator) {
+            super(delegate, modelId);
+            this.estimator = estimator;
+        }
+
+        @Override
+        public int estimateTokenCount(String text) {
+            return estimator.estimateTokenCount(text);
+        }
+    }
+}
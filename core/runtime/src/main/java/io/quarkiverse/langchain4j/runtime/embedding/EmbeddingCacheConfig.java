@@ -0,0 +1,41 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.embedding-cache")
+public interface EmbeddingCacheConfig {
+
+    /**
+     * Whether the embeddings computed by the embedding models provided by the extensions are cached
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum number of embeddings kept in memory, the least recently used ones being evicted first
+     */
+    @WithDefault("10000")
+    int maxSize();
+
+    /**
+     * How long an embedding is kept after it has been computed.
+     * If not set, embeddings are only evicted when the cache is full.
+     */
+    Optional<Duration> ttl();
+
+    /**
+     * Whether texts that only differ by their case share the same embedding.
+     * Texts are always compared after removing their leading and trailing whitespace and collapsing the remaining
+     * whitespace sequences.
+     */
+    @WithDefault("false")
+    boolean ignoreCase();
+}
@@ -0,0 +1,54 @@
+package io.quarkiverse.langchain4j.runtime.embedding;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.in-process-embedding")
+public interface InProcessEmbeddingConfig {
+
+    /**
+     * The number of threads ONNX Runtime uses to parallelize the execution of a single operator.
+     * If not set, ONNX Runtime uses one thread per core.
+     */
+    Optional<Integer> intraOpThreads();
+
+    /**
+     * The number of threads ONNX Runtime uses to execute independent operators concurrently.
+     * If not set, operators are executed sequentially.
+     */
+    Optional<Integer> interOpThreads();
+
+    /**
+     * The level of graph optimizations ONNX Runtime applies to the model.
+     * If not set, all the optimizations are applied.
+     */
+    Optional<OptimizationLevel> optimizationLevel();
+
+    /**
+     * The maximum number of texts that are embedded in a single inference.
+     * The texts of a batch are padded to the length of the longest one, so texts are grouped by length first.
+     */
+    @WithDefault("32")
+    int batchSize();
+
+    /**
+     * The maximum number of batches of a single {@code embedAll} call that are embedded concurrently.
+     * As ONNX Runtime already uses all the cores for a single inference by default, values greater than {@code 1} should
+     * be combined with a lower value of {@code intra-op-threads}.
+     */
+    @WithDefault("1")
+    int parallelism();
+
+    enum OptimizationLevel {
+        NONE,
+        BASIC,
+        EXTENDED,
+        ALL
+    }
+}
@@ -0,0 +1,326 @@
+package io.quarkiverse.langchain4j.runtime.hedging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Cuts the latency tail of the requests sent to a provider: when a request has not received its response, or its first
+ * item for a stream, after the hedging delay, a duplicate request is sent. The first of the two to respond is used, and
+ * the other is cancelled.
+ * <p>
+ * The hedging delay is a percentile of the recent response times, so that only the slowest requests are duplicated.
+ * A request that fails before the delay is not hedged, as retrying is the job of the retries of the models.
+ * <p>
+ * There is one hedger per provider and endpoint, as their response times differ.
+ */
+public final class Hedger {
+
+    // the number of recent response times the delay is computed from
+    private static final int SAMPLES = 256;
+
+    private static final Map<String, Hedger> INSTANCES = new ConcurrentHashMap<>();
+    private static final Map<String, ProviderStats> STATS = new ConcurrentHashMap<>();
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final ProviderStats stats;
+    // guarded by this
+    private final long[] samples = new long[SAMPLES];
+    private int sampleCount;
+    private int nextSample;
+
+    Hedger(HedgingConfig config, ProviderStats stats) {
+        this.percentile = Math.min(Math.max(config.percentile(), 0), 100);
+        this.minDelayNanos = config.minDelay().toNanos();
+        this.stats = stats;
+    }
+
+    /**
+     * @param provider the provider, used to tag the metrics
+     * @param endpoint identifies the endpoint of the provider the requests are sent to
+     * @return the hedger of the endpoint, or {@code null} if hedging is disabled
+     */
+    public static Hedger get(String provider, String endpoint, HedgingConfig config) {
+        if (config == null || !config.enabled()) {
+            return null;
+        }
+        return INSTANCES.computeIfAbsent(provider + '\n' + endpoint,
+                k -> new Hedger(config, STATS.computeIfAbsent(provider, Hedger::createStats)));
+    }
+
+    private static ProviderStats createStats(String provider) {
+        ProviderStats result = new ProviderStats();
+        Meters.functionCounter("langchain4j.hedging.requests", result.requests, LongAdder::sum, "provider", provider);
+        Meters.functionCounter("langchain4j.hedging.hedges", result.hedges, LongAdder::sum, "provider", provider);
+        Meters.functionCounter("langchain4j.hedging.wins", result.wins, LongAdder::sum, "provider", provider);
+        return result;
+    }
+
+    /**
+     * Forgets the hedgers and their response times
+     */
+    public static void clear() {
+        INSTANCES.clear();
+    }
+
+    /**
+     * @return the number of requests sent through the hedgers of {@code provider}
+     */
+    public static long requests(String provider) {
+        ProviderStats stats = STATS.get(provider);
+        return stats != null ? stats.requests.sum() : 0;
+    }
+
+    /**
+     * @return the number of duplicate requests sent by the hedgers of {@code provider}
+     */
+    public static long hedges(String provider) {
+        ProviderStats stats = STATS.get(provider);
+        return stats != null ? stats.hedges.sum() : 0;
+    }
+
+    /**
+     * @return the number of duplicate requests of {@code provider} that responded before the original request
+     */
+    public static long wins(String provider) {
+        ProviderStats stats = STATS.get(provider);
+        return stats != null ? stats.wins.sum() : 0;
+    }
+
+    /**
+     * @param call sends the request each time it is subscribed to
+     * @return the response of the first of the original and duplicate requests to respond
+     */
+    public <T> Uni<T> hedge(Supplier<Uni<T>> call) {
+        return Uni.createFrom().emitter(emitter -> new HedgedUni<>(call, emitter).start());
+    }
+
+    /**
+     * @param call sends the request each time it is subscribed to
+     * @return the items of the first of the original and duplicate requests to emit an item
+     */
+    public <T> Multi<T> hedgeStream(Supplier<Multi<T>> call) {
+        return Multi.createFrom().emitter(emitter -> new HedgedMulti<>(call, emitter).start());
+    }
+
+    synchronized long delayNanos() {
+        if (sampleCount == 0) {
+            return minDelayNanos;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sampleCount) - 1;
+        return Math.max(minDelayNanos, sorted[Math.min(Math.max(index, 0), sampleCount - 1)]);
+    }
+
+    synchronized void record(long nanos) {
+        samples[nextSample] = nanos;
+        nextSample = (nextSample + 1) % SAMPLES;
+        if (sampleCount < SAMPLES) {
+            sampleCount++;
+        }
+    }
+
+    /**
+     * The state shared by the original and the duplicate requests of a hedged call
+     */
+    private abstract class Hedged {
+
+        // guarded by this
+        private final Cancellable[] attempts = new Cancellable[2];
+        private final long[] starts = new long[2];
+        private final boolean[] failed = new boolean[2];
+        private int started;
+        private int winner = -1;
+        private boolean terminated;
+        private ScheduledFuture<?> timer;
+
+        void start() {
+            stats.requests.increment();
+            synchronized (this) {
+                timer = Infrastructure.getDefaultWorkerPool().schedule(this::startHedge, delayNanos(),
+                        TimeUnit.NANOSECONDS);
+            }
+            send(0);
+        }
+
+        private void startHedge() {
+            synchronized (this) {
+                if (terminated || winner != -1 || started != 1) {
+                    return;
+                }
+            }
+            stats.hedges.increment();
+            send(1);
+        }
+
+        private void send(int attempt) {
+            synchronized (this) {
+                starts[attempt] = System.nanoTime();
+                started++;
+            }
+            Cancellable cancellable = subscribe(attempt);
+            boolean cancel;
+            synchronized (this) {
+                attempts[attempt] = cancellable;
+                cancel = terminated || (winner != -1 && winner != attempt);
+            }
+            if (cancel) {
+                cancellable.cancel();
+            }
+        }
+
+        abstract Cancellable subscribe(int attempt);
+
+        /**
+         * Makes {@code attempt} the winner if there is none yet, cancelling the other attempt
+         *
+         * @return whether the signal of {@code attempt} should be forwarded
+         */
+        boolean win(int attempt) {
+            Cancellable loser;
+            long latency;
+            synchronized (this) {
+                if (winner != -1 || terminated) {
+                    return winner == attempt && !terminated;
+                }
+                winner = attempt;
+                loser = attempts[1 - attempt];
+                // measured from the original request whichever attempt wins, as recording the shorter latency of the
+                // duplicate requests would lower the delay and make hedging more and more frequent
+                latency = System.nanoTime() - starts[0];
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+            }
+            record(latency);
+            if (attempt == 1) {
+                stats.wins.increment();
+            }
+            if (loser != null) {
+                loser.cancel();
+            }
+            return true;
+        }
+
+        /**
+         * @return whether the failure of {@code attempt} should be forwarded, which is the case when it is the winner or
+         *         when the other attempt is not running
+         */
+        boolean fail(int attempt) {
+            synchronized (this) {
+                if (terminated) {
+                    return false;
+                }
+                if (winner == -1) {
+                    failed[attempt] = true;
+                    if (started == 2 && !failed[1 - attempt]) {
+                        // the other attempt may still succeed
+                        return false;
+                    }
+                    winner = attempt;
+                } else if (winner != attempt) {
+                    return false;
+                }
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+            }
+            return true;
+        }
+
+        void terminate() {
+            Cancellable[] toCancel;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                toCancel = attempts.clone();
+            }
+            for (Cancellable cancellable : toCancel) {
+                if (cancellable != null) {
+                    cancellable.cancel();
+                }
+            }
+        }
+    }
+
+    private final class HedgedUni<T> extends Hedged {
+
+        private final Supplier<Uni<T>> call;
+        private final UniEmitter<? super T> emitter;
+
+        private HedgedUni(Supplier<Uni<T>> call, UniEmitter<? super T> emitter) {
+            this.call = call;
+            this.emitter = emitter;
+            emitter.onTermination(this::terminate);
+        }
+
+        @Override
+        Cancellable subscribe(int attempt) {
+            return call.get().subscribe().with(item -> {
+                if (win(attempt)) {
+                    emitter.complete(item);
+                }
+            }, failure -> {
+                if (fail(attempt)) {
+                    emitter.fail(failure);
+                }
+            });
+        }
+    }
+
+    private final class HedgedMulti<T> extends Hedged {
+
+        private final Supplier<Multi<T>> call;
+        private final MultiEmitter<? super T> emitter;
+
+        private HedgedMulti(Supplier<Multi<T>> call, MultiEmitter<? super T> emitter) {
+            this.call = call;
+            this.emitter = emitter;
+            emitter.onTermination(this::terminate);
+        }
+
+        @Override
+        Cancellable subscribe(int attempt) {
+            return call.get().subscribe().with(item -> {
+                if (win(attempt)) {
+                    emitter.emit(item);
+                }
+            }, failure -> {
+                if (fail(attempt)) {
+                    emitter.fail(failure);
+                }
+            }, () -> {
+                if (win(attempt)) {
+                    emitter.complete();
+                }
+            });
+        }
+    }
+
+    private static final class ProviderStats {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder wins = new LongAdder();
+    }
+
+}
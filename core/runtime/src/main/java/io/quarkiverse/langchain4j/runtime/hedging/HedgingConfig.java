@@ -0,0 +1,34 @@
+package io.quarkiverse.langchain4j.runtime.hedging;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Settings of the hedging of the requests sent to a provider
+ */
+@ConfigGroup
+public interface HedgingConfig {
+
+    /**
+     * Whether a duplicate of a chat request is sent when no response, or no first token for streamed requests, has
+     * been received after the hedging delay. The first response is used, and the other request is cancelled.
+     * Hedged requests cost up to twice as many tokens.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The percentile of the recent response times used as the hedging delay, so that roughly this percentage of the
+     * requests is not hedged
+     */
+    @WithDefault("95")
+    double percentile();
+
+    /**
+     * The minimum hedging delay, which is also the delay used until response times have been recorded
+     */
+    @WithDefault("1s")
+    Duration minDelay();
+}
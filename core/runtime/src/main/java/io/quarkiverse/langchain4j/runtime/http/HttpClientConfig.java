@@ -0,0 +1,75 @@
+package io.quarkiverse.langchain4j.runtime.http;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Settings of the HTTP client used to call a provider, shared by all the models of the provider
+ */
+@ConfigGroup
+public interface HttpClientConfig {
+
+    /**
+     * The maximum number of connections kept open to the provider.
+     * When all of them are in use, requests wait for one to be released.
+     * If not set, {@code quarkus.rest-client.connection-pool-size} applies.
+     */
+    Optional<Integer> maxPoolSize();
+
+    /**
+     * The maximum number of requests waiting for a connection, {@code -1} meaning no limit.
+     * When the queue is full, requests fail immediately instead of waiting.
+     */
+    @WithDefault("-1")
+    int maxWaitQueueSize();
+
+    /**
+     * Whether connections are kept open between requests, which saves a TCP and TLS handshake per request.
+     * If not set, {@code quarkus.rest-client.keep-alive-enabled} applies.
+     */
+    Optional<Boolean> keepAlive();
+
+    /**
+     * How long an idle connection is kept open.
+     * If not set, the default of the REST client applies.
+     */
+    Optional<Duration> keepAliveTimeout();
+
+    /**
+     * Whether HTTP/2 is used, which multiplexes the requests over a few connections.
+     * With TLS, the protocol is negotiated with ALPN and HTTP/1.1 is used if the provider does not support HTTP/2.
+     */
+    @WithDefault("false")
+    boolean http2();
+
+    /**
+     * The maximum number of concurrent requests sent over an HTTP/2 connection, {@code -1} meaning the limit set by the
+     * provider
+     */
+    @WithDefault("-1")
+    int http2MultiplexingLimit();
+
+    /**
+     * Whether HTTP/1.1 requests are pipelined, i.e. sent over a connection before the response to the previous ones
+     * is received
+     */
+    @WithDefault("false")
+    boolean pipelining();
+
+    /**
+     * The maximum number of requests pipelined over a connection
+     */
+    @WithDefault("10")
+    int pipeliningLimit();
+
+    /**
+     * Whether all the clients of the provider share the same connection pool, instead of each client having its own.
+     * The shared pool is configured by the first client created, so the settings of the other clients, such as their
+     * connect timeout or proxy, are ignored.
+     */
+    @WithDefault("false")
+    boolean shared();
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.langchain4j.runtime.http;
+
+import java.util.List;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * Applies the {@link HttpClientConfig} of a provider to the REST clients calling it
+ */
+public final class QuarkusRestClients {
+
+    private QuarkusRestClients() {
+    }
+
+    /**
+     * @param provider the name of the provider, e.g. {@code openai}, which names the HTTP client
+     * @param config the settings of the provider, or {@code null} to keep the defaults of the REST client
+     * @return {@code builder}
+     */
+    public static QuarkusRestClientBuilder configure(QuarkusRestClientBuilder builder, String provider,
+            HttpClientConfig config) {
+        if (config == null) {
+            return builder;
+        }
+        HttpClientOptions options = new HttpClientOptions()
+                .setMaxWaitQueueSize(config.maxWaitQueueSize())
+                .setHttp2MultiplexingLimit(config.http2MultiplexingLimit())
+                .setPipelining(config.pipelining())
+                .setPipeliningLimit(config.pipeliningLimit());
+        if (config.http2()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2).setUseAlpn(true)
+                    .setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
+        }
+        // the pool size, keep alive, name and sharing of the options are overridden by these properties, which are only
+        // set when configured so that the settings of the REST client apply otherwise
+        if (config.maxPoolSize().isPresent()) {
+            builder.property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, config.maxPoolSize().get());
+        }
+        if (config.keepAlive().isPresent()) {
+            builder.property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, config.keepAlive().get());
+        }
+        if (config.keepAliveTimeout().isPresent()) {
+            builder.property(QuarkusRestClientProperties.CONNECTION_TTL, (int) config.keepAliveTimeout().get().toSeconds());
+        }
+        builder.property(QuarkusRestClientProperties.NAME, "langchain4j-" + provider)
+                .property(QuarkusRestClientProperties.SHARED, config.shared());
+        return builder.httpClientOptions(options);
+    }
+}
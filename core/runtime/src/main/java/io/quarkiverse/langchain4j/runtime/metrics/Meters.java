@@ -0,0 +1,100 @@
+package io.quarkiverse.langchain4j.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Registers the meters of the extensions in the global Micrometer registry.
+ * <p>
+ * The meters are only registered when the application supports Micrometer metrics, which is detected at build time
+ * from the metrics capability, so that the statistics they observe are kept, and exposed by the classes that keep them,
+ * whether or not Micrometer is present. The tags are given as key/value pairs.
+ */
+public final class Meters {
+
+    private static final DoubleConsumer NOOP = new DoubleConsumer() {
+        @Override
+        public void accept(double value) {
+        }
+    };
+
+    private static volatile boolean enabled;
+
+    private Meters() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Meters.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers a counter whose count is computed from {@code state}
+     */
+    public static <T> void functionCounter(String name, T state, ToDoubleFunction<T> count, String... tags) {
+        if (enabled) {
+            Micrometer.functionCounter(name, state, count, tags);
+        }
+    }
+
+    /**
+     * Registers a gauge whose value is computed from {@code state}
+     */
+    public static <T> void gauge(String name, T state, ToDoubleFunction<T> value, String... tags) {
+        if (enabled) {
+            Micrometer.gauge(name, state, value, tags);
+        }
+    }
+
+    /**
+     * Registers a timer whose count and total time are computed from {@code state}
+     */
+    public static <T> void functionTimer(String name, T state, ToLongFunction<T> count, ToDoubleFunction<T> totalTime,
+            TimeUnit totalTimeUnit, String... tags) {
+        if (enabled) {
+            Micrometer.functionTimer(name, state, count, totalTime, totalTimeUnit, tags);
+        }
+    }
+
+    /**
+     * @return a function incrementing the counter by the amount it is given, which does nothing if the meters are not
+     *         registered
+     */
+    public static DoubleConsumer counter(String name, String... tags) {
+        return enabled ? Micrometer.counter(name, tags) : NOOP;
+    }
+
+    // only loaded when Micrometer is enabled
+    private static final class Micrometer {
+
+        static <T> void functionCounter(String name, T state, ToDoubleFunction<T> count, String... tags) {
+            FunctionCounter.builder(name, state, count).tags(Tags.of(tags)).register(Metrics.globalRegistry);
+        }
+
+        static <T> void gauge(String name, T state, ToDoubleFunction<T> value, String... tags) {
+            Gauge.builder(name, state, value).tags(Tags.of(tags)).register(Metrics.globalRegistry);
+        }
+
+        static <T> void functionTimer(String name, T state, ToLongFunction<T> count, ToDoubleFunction<T> totalTime,
+                TimeUnit totalTimeUnit, String... tags) {
+            FunctionTimer.builder(name, state, count, totalTime, totalTimeUnit).tags(Tags.of(tags))
+                    .register(Metrics.globalRegistry);
+        }
+
+        static DoubleConsumer counter(String name, String... tags) {
+            return Counter.builder(name).tags(Tags.of(tags)).register(Metrics.globalRegistry)::increment;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkiverse.langchain4j.runtime.streaming;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkiverse.langchain4j.StreamingCancellation;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+
+/**
+ * Counts the streamed responses of each provider that are stopped by a {@link StreamingCancellation} before their end,
+ * and the tokens that they did not generate.
+ */
+public final class AbortedStreams {
+
+    private static final Map<String, ProviderStats> STATS = new ConcurrentHashMap<>();
+
+    private AbortedStreams() {
+    }
+
+    /**
+     * Records a stream of {@code provider} stopped after {@code receivedTokens} tokens
+     *
+     * @param maxTokens the maximum number of tokens of the response, or {@code null} if it is not bounded, in which case
+     *        the tokens saved are unknown and not counted
+     */
+    public static void record(String provider, long receivedTokens, Integer maxTokens) {
+        ProviderStats stats = STATS.computeIfAbsent(provider, AbortedStreams::createStats);
+        stats.aborted.increment();
+        if (maxTokens != null) {
+            stats.tokensSaved.add(Math.max(maxTokens - receivedTokens, 0));
+        }
+    }
+
+    /**
+     * @return the number of streams of {@code provider} that were stopped before their end
+     */
+    public static long aborted(String provider) {
+        ProviderStats stats = STATS.get(provider);
+        return stats != null ? stats.aborted.sum() : 0;
+    }
+
+    /**
+     * @return the number of tokens that the stopped streams of {@code provider} could still have generated
+     */
+    public static long tokensSaved(String provider) {
+        ProviderStats stats = STATS.get(provider);
+        return stats != null ? stats.tokensSaved.sum() : 0;
+    }
+
+    private static ProviderStats createStats(String provider) {
+        ProviderStats result = new ProviderStats();
+        Meters.functionCounter("langchain4j.streams.aborted", result.aborted, LongAdder::sum, "provider", provider);
+        Meters.functionCounter("langchain4j.streams.aborted.tokens.saved", result.tokensSaved, LongAdder::sum,
+                "provider", provider);
+        return result;
+    }
+
+    private static final class ProviderStats {
+
+        private final LongAdder aborted = new LongAdder();
+        private final LongAdder tokensSaved = new LongAdder();
+    }
+
+}
@@ -22,6 +22,7 @@ import dev.langchain4j.model.huggingface.client.TextGenerationRequest;
 import dev.langchain4j.model.huggingface.client.TextGenerationResponse;
 import dev.langchain4j.model.huggingface.spi.HuggingFaceClientFactory;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 
 /**
  * This is a Quarkus specific version of the HuggingFace model.
@@ -58,7 +59,7 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
             public Duration timeout() {
                 return builder.timeout;
             }
-        }, builder.url);
+        }, builder.url, builder.httpClient);
         this.temperature = builder.temperature;
         this.maxNewTokens = builder.maxNewTokens;
         this.returnFullText = builder.returnFullText;
@@ -117,6 +118,7 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
 
         private String accessToken;
         private Duration timeout = Duration.ofSeconds(15);
+        private HttpClientConfig httpClient;
         private Double temperature;
         private Integer maxNewTokens;
         private Boolean returnFullText;
@@ -150,6 +152,11 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public Builder temperature(Double temperature) {
             this.temperature = temperature;
             return this;
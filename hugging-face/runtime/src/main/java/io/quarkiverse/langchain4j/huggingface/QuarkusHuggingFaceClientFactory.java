@@ -18,6 +18,8 @@ import dev.langchain4j.model.huggingface.client.HuggingFaceClient;
 import dev.langchain4j.model.huggingface.client.TextGenerationRequest;
 import dev.langchain4j.model.huggingface.client.TextGenerationResponse;
 import dev.langchain4j.model.huggingface.spi.HuggingFaceClientFactory;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
@@ -32,11 +34,13 @@ public class QuarkusHuggingFaceClientFactory implements HuggingFaceClientFactory
         throw new UnsupportedOperationException("Should not be called");
     }
 
-    public HuggingFaceClient create(QuarkusHuggingFaceChatModel.Builder config, Input input, URI url) {
+    public HuggingFaceClient create(QuarkusHuggingFaceChatModel.Builder config, Input input, URI url,
+            HttpClientConfig httpClient) {
         QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
                 .baseUri(url)
                 .connectTimeout(input.timeout().toSeconds(), TimeUnit.SECONDS)
                 .readTimeout(input.timeout().toSeconds(), TimeUnit.SECONDS);
+        QuarkusRestClients.configure(builder, "huggingface", httpClient);
 
         if (config != null && (config.logRequests || config.logResponses)) {
             builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
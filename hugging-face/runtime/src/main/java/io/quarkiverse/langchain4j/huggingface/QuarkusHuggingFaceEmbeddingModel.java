@@ -15,6 +15,7 @@ import dev.langchain4j.model.huggingface.client.EmbeddingRequest;
 import dev.langchain4j.model.huggingface.client.HuggingFaceClient;
 import dev.langchain4j.model.huggingface.spi.HuggingFaceClientFactory;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 
 /**
  * This is a Quarkus specific version of the HuggingFace model.
@@ -45,7 +46,7 @@ public class QuarkusHuggingFaceEmbeddingModel implements EmbeddingModel {
             public Duration timeout() {
                 return builder.timeout;
             }
-        }, builder.url);
+        }, builder.url, builder.httpClient);
         this.waitForModel = builder.waitForModel;
     }
 
@@ -80,6 +81,7 @@ public class QuarkusHuggingFaceEmbeddingModel implements EmbeddingModel {
 
         private String accessToken;
         private Duration timeout = Duration.ofSeconds(15);
+        private HttpClientConfig httpClient;
         private Boolean waitForModel = true;
         private URI url;
 
@@ -102,6 +104,11 @@ public class QuarkusHuggingFaceEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public Builder waitForModel(Boolean waitForModel) {
             this.waitForModel = waitForModel;
             return this;
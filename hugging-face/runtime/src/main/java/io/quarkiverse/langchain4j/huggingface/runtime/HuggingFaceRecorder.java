@@ -6,11 +6,15 @@ import java.net.URL;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import io.quarkiverse.langchain4j.huggingface.QuarkusHuggingFaceChatModel;
 import io.quarkiverse.langchain4j.huggingface.QuarkusHuggingFaceEmbeddingModel;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.Langchain4jHuggingFaceConfig;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingBatcher;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.config.ConfigValidationException;
 
@@ -28,6 +32,7 @@ public class HuggingFaceRecorder {
         var builder = QuarkusHuggingFaceChatModel.builder()
                 .url(url)
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .temperature(chatModelConfig.temperature())
                 .waitForModel(chatModelConfig.waitForModel())
                 .doSample(chatModelConfig.doSample())
@@ -70,16 +75,19 @@ public class HuggingFaceRecorder {
         var builder = QuarkusHuggingFaceEmbeddingModel.builder()
                 .url(urlOpt.get())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .waitForModel(embeddingModelConfig.waitForModel());
 
         if (apiKeyOpt.isPresent()) {
             builder.accessToken(apiKeyOpt.get());
         }
 
+        String modelId = "huggingface:" + urlOpt.get();
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                EmbeddingModel model = Arc.container().instance(EmbeddingBatcher.class).get().wrap(builder.build());
+                return Arc.container().instance(EmbeddingCache.class).get().wrap(model, modelId);
             }
         };
     }
@@ -5,6 +5,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -46,4 +47,9 @@ public interface Langchain4jHuggingFaceConfig {
      */
     @ConfigDocDefault("false")
     Optional<Boolean> logResponses();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
 }
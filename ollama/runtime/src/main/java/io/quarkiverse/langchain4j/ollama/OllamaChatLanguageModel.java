@@ -10,6 +10,7 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 
 public class OllamaChatLanguageModel implements ChatLanguageModel {
 
@@ -18,7 +19,8 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
     private final Options options;
 
     private OllamaChatLanguageModel(Builder builder) {
-        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses);
+        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses,
+                builder.httpClient);
         model = builder.model;
         options = builder.options;
     }
@@ -54,6 +56,7 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
     public static final class Builder {
         private String baseUrl = "http://localhost:11434";
         private Duration timeout = Duration.ofSeconds(10);
+        private HttpClientConfig httpClient;
         private String model;
         private Options options;
 
@@ -73,6 +76,11 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig val) {
+            this.httpClient = val;
+            return this;
+        }
+
         public Builder model(String val) {
             model = val;
             return this;
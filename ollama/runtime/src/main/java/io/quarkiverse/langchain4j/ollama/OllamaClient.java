@@ -7,19 +7,23 @@ import java.util.concurrent.TimeUnit;
 
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
 public class OllamaClient {
 
     private final OllamaRestApi restApi;
 
-    public OllamaClient(String baseUrl, Duration timeout, boolean logRequests, boolean logResponses) {
+    public OllamaClient(String baseUrl, Duration timeout, boolean logRequests, boolean logResponses,
+            HttpClientConfig httpClient) {
         try {
             // TODO: cache?
             QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
                     .baseUri(new URI(baseUrl))
                     .connectTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
                     .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS);
+            QuarkusRestClients.configure(builder, "ollama", httpClient);
             if (logRequests || logResponses) {
                 builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
                 builder.clientLogger(new OllamaRestApi.OllamaLogger(logRequests, logResponses));
@@ -8,6 +8,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 
 public class OllamaEmbeddingModel implements EmbeddingModel {
 
@@ -15,7 +16,8 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
     private final String model;
 
     private OllamaEmbeddingModel(Builder builder) {
-        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses);
+        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses,
+                builder.httpClient);
         model = builder.model;
     }
 
@@ -44,6 +46,7 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
     public static final class Builder {
         private String baseUrl = "http://localhost:11434";
         private Duration timeout = Duration.ofSeconds(10);
+        private HttpClientConfig httpClient;
         private String model;
 
         private boolean logRequests = false;
@@ -62,6 +65,11 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig val) {
+            this.httpClient = val;
+            return this;
+        }
+
         public Builder model(String val) {
             model = val;
             return this;
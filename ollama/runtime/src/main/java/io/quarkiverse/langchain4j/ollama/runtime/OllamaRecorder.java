@@ -7,6 +7,8 @@ import io.quarkiverse.langchain4j.ollama.OllamaEmbeddingModel;
 import io.quarkiverse.langchain4j.ollama.Options;
 import io.quarkiverse.langchain4j.ollama.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.ollama.runtime.config.Langchain4jOllamaConfig;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -25,6 +27,7 @@ public class OllamaRecorder {
         var builder = OllamaChatLanguageModel.builder()
                 .baseUrl(runtimeConfig.baseUrl())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .model(chatModelConfig.modelId())
                 .logRequests(runtimeConfig.logRequests())
                 .logResponses(runtimeConfig.logResponses())
@@ -51,12 +54,14 @@ public class OllamaRecorder {
         var builder = OllamaEmbeddingModel.builder()
                 .baseUrl(runtimeConfig.baseUrl())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .model(chatModelConfig.modelId());
 
+        String modelId = "ollama:" + chatModelConfig.modelId();
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return Arc.container().instance(EmbeddingCache.class).get().wrap(builder.build(), modelId);
             }
         };
     }
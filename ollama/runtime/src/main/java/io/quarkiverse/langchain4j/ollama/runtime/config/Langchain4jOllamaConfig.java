@@ -4,6 +4,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
 import java.time.Duration;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -40,4 +41,9 @@ public interface Langchain4jOllamaConfig {
      * Chat model related settings
      */
     ChatModelConfig chatModel();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
 }
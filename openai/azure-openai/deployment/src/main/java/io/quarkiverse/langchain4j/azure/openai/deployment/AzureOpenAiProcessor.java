@@ -56,6 +56,8 @@ public class AzureOpenAiProcessor {
             Optional<SelectedModerationModelProviderBuildItem> selectedModeration,
             Langchain4jAzureOpenAiConfig config,
             BuildProducer<SyntheticBeanBuildItem> beanProducer) {
+        recorder.httpClient(config);
+
         if (selectedChatItem.isPresent() && PROVIDER.equals(selectedChatItem.get().getProvider())) {
             beanProducer.produce(SyntheticBeanBuildItem
                     .configure(CHAT_MODEL)
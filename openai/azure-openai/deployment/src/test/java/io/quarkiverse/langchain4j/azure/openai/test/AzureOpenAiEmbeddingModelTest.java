@@ -0,0 +1,144 @@
+package io.quarkiverse.langchain4j.azure.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiEmbeddingModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AzureOpenAiEmbeddingModelTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.resource-name", "resource")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.deployment-id", "deployment");
+
+    private static final String RESPONSE = """
+            {"object":"list","data":[{"object":"embedding","index":0,"embedding":[%1$s]},\
+            {"object":"embedding","index":1,"embedding":[%1$s.5]}],\
+            "model":"text-embedding-ada-002","usage":{"prompt_tokens":2,"total_tokens":2}}""";
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void batches_should_be_sent_concurrently_and_assembled_in_order() {
+        // the first batches are the slowest, so that the responses arrive out of order
+        for (int i = 0; i < 4; i++) {
+            stubBatch(i, (4 - i) * 100);
+        }
+
+        Response<List<Embedding>> response = model().embedAll(segments(8));
+
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 0.5f, 1f, 1.5f, 2f, 2.5f, 3f, 3.5f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(8);
+        wireMockServer.verify(4, postRequestedFor(urlPathEqualTo("/openai/deployments/embeddings/embeddings")));
+    }
+
+    @Test
+    void failed_batches_should_be_retried() {
+        stubBatch(0, 0);
+        wireMockServer.stubFor(post(urlPathEqualTo("/openai/deployments/embeddings/embeddings"))
+                .withRequestBody(containing("\"text 2\""))
+                .inScenario("retry").whenScenarioStateIs(STARTED).willSetStateTo("failed")
+                .willReturn(aResponse().withStatus(500)));
+        wireMockServer.stubFor(post(urlPathEqualTo("/openai/deployments/embeddings/embeddings"))
+                .withRequestBody(containing("\"text 2\""))
+                .inScenario("retry").whenScenarioStateIs("failed")
+                .willReturn(aResponse().withHeader("Content-Type", "application/json").withBody(RESPONSE.formatted(1))));
+
+        Response<List<Embedding>> response = model().embedAll(segments(4));
+
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 0.5f, 1f, 1.5f);
+        wireMockServer.verify(3, postRequestedFor(urlPathEqualTo("/openai/deployments/embeddings/embeddings")));
+    }
+
+    @Test
+    void batch_settings_should_be_positive() {
+        assertThatThrownBy(() -> AzureOpenAiEmbeddingModel.builder()
+                .baseUrl("http://localhost:8089/openai/deployments/embeddings")
+                .apiKey("whatever")
+                .apiVersion("2023-05-15")
+                .batchSize(0)
+                .build()).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("batchSize");
+        assertThatThrownBy(() -> AzureOpenAiEmbeddingModel.builder()
+                .baseUrl("http://localhost:8089/openai/deployments/embeddings")
+                .apiKey("whatever")
+                .apiVersion("2023-05-15")
+                .maxConcurrentBatches(0)
+                .build()).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("maxConcurrentBatches");
+    }
+
+    /**
+     * Embeds the batch made of "text 2i" and "text 2i+1" as [i] and [i.5]
+     */
+    private static void stubBatch(int i, int delay) {
+        wireMockServer.stubFor(post(urlPathEqualTo("/openai/deployments/embeddings/embeddings"))
+                .withRequestBody(containing("\"text " + (2 * i) + "\""))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withFixedDelay(delay)
+                        .withBody(RESPONSE.formatted(i))));
+    }
+
+    private static List<TextSegment> segments(int count) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            segments.add(TextSegment.from("text " + i));
+        }
+        return segments;
+    }
+
+    private static AzureOpenAiEmbeddingModel model() {
+        return AzureOpenAiEmbeddingModel.builder()
+                .baseUrl("http://localhost:8089/openai/deployments/embeddings")
+                .apiKey("whatever")
+                .apiVersion("2023-05-15")
+                .batchSize(2)
+                .maxConcurrentBatches(3)
+                .maxRetries(2)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkiverse.langchain4j.azure.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LoadBalancingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.resource-name", "resource")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.deployment-id", "deployment")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.base-url",
+                    "http://localhost:8089/openai/deployments/primary")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.endpoints.secondary.base-url",
+                    "http://localhost:8089/openai/deployments/secondary")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.endpoints.secondary.api-key", "other")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.azure-openai.load-balancing.cooldown", "500ms");
+
+    private static final String RESPONSE = """
+            {"id":"chatcmpl-123","object":"chat.completion","created":1694268190,"model":"gpt-35-turbo",\
+            "choices":[{"index":0,"message":{"role":"assistant","content":"%s"},"finish_reason":"stop"}],\
+            "usage":{"prompt_tokens":10,"completion_tokens":1,"total_tokens":11}}""";
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    ChatLanguageModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        wireMockServer.resetAll();
+        // lets the endpoints ejected by another test come back
+        Thread.sleep(600);
+    }
+
+    @Test
+    void requests_should_be_spread_over_the_endpoints() {
+        stub("primary", success("primary"));
+        stub("secondary", success("secondary"));
+
+        for (int i = 0; i < 4; i++) {
+            model.generate("Hello");
+        }
+
+        wireMockServer.verify(2, postRequestedFor(urlPathEqualTo("/openai/deployments/primary/chat/completions")));
+        wireMockServer.verify(2, postRequestedFor(urlPathEqualTo("/openai/deployments/secondary/chat/completions")));
+    }
+
+    @Test
+    void throttled_endpoints_should_be_ejected() {
+        stub("primary", aResponse().withStatus(429).withBody("{\"error\":{\"message\":\"Rate limit is exceeded\"}}"));
+        stub("secondary", success("secondary"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(model.generate("Hello")).isEqualTo("secondary");
+        }
+
+        wireMockServer.verify(1, postRequestedFor(urlPathEqualTo("/openai/deployments/primary/chat/completions")));
+        wireMockServer.verify(4, postRequestedFor(urlPathEqualTo("/openai/deployments/secondary/chat/completions")));
+    }
+
+    private static void stub(String deployment, ResponseDefinitionBuilder response) {
+        wireMockServer.stubFor(post(urlPathEqualTo("/openai/deployments/" + deployment + "/chat/completions"))
+                .willReturn(response));
+    }
+
+    private static ResponseDefinitionBuilder success(String content) {
+        return aResponse().withHeader("Content-Type", "application/json").withBody(RESPONSE.formatted(content));
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkiverse.langchain4j.azure.openai;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static java.time.Duration.ofSeconds;
 import static java.util.stream.Collectors.toList;
@@ -10,8 +11,15 @@ import java.net.Proxy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
 
 import dev.ai4j.openai4j.OpenAiClient;
+import dev.ai4j.openai4j.ResponseHandle;
 import dev.ai4j.openai4j.embedding.EmbeddingRequest;
 import dev.ai4j.openai4j.embedding.EmbeddingResponse;
 import dev.langchain4j.data.embedding.Embedding;
@@ -40,11 +48,16 @@ import dev.langchain4j.model.output.TokenUsage;
  */
 public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
 
-    private static final int BATCH_SIZE = 16;
+    private static final Logger log = Logger.getLogger(AzureOpenAiEmbeddingModel.class);
+
+    // the delay between two attempts of RetryUtils.withRetry
+    private static final Executor RETRY_EXECUTOR = CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS);
 
     private final OpenAiClient client;
     private final Integer maxRetries;
     private final Tokenizer tokenizer;
+    private final int batchSize;
+    private final int maxConcurrentBatches;
 
     public AzureOpenAiEmbeddingModel(String baseUrl,
             String apiVersion,
@@ -55,6 +68,20 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
             Proxy proxy,
             Boolean logRequests,
             Boolean logResponses) {
+        this(baseUrl, apiVersion, apiKey, tokenizer, timeout, maxRetries, proxy, logRequests, logResponses, null, null);
+    }
+
+    public AzureOpenAiEmbeddingModel(String baseUrl,
+            String apiVersion,
+            String apiKey,
+            Tokenizer tokenizer,
+            Duration timeout,
+            Integer maxRetries,
+            Proxy proxy,
+            Boolean logRequests,
+            Boolean logResponses,
+            Integer batchSize,
+            Integer maxConcurrentBatches) {
 
         timeout = getOrDefault(timeout, ofSeconds(60));
 
@@ -72,10 +99,13 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
                 .build();
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.tokenizer = tokenizer;
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, 16), "batchSize");
+        this.maxConcurrentBatches = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
     }
 
     /**
-     * Embeds the provided text segments, processing a maximum of 16 segments at a time.
+     * Embeds the provided text segments, processing a maximum of {@code batchSize} segments (16 by default) at a time,
+     * and sending up to {@code maxConcurrentBatches} batches concurrently.
      * For more information, refer to the documentation <a href=
      * "https://learn.microsoft.com/en-us/azure/ai-services/openai/faq#i-am-trying-to-use-embeddings-and-received-the-error--invalidrequesterror--too-many-inputs--the-max-number-of-inputs-is-1---how-do-i-fix-this-">here</a>.
      *
@@ -93,13 +123,16 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
+        if (maxConcurrentBatches > 1 && texts.size() > batchSize) {
+            return new ConcurrentBatches(texts).embed();
+        }
 
         List<Embedding> embeddings = new ArrayList<>();
 
         int inputTokenCount = 0;
-        for (int i = 0; i < texts.size(); i += BATCH_SIZE) {
+        for (int i = 0; i < texts.size(); i += batchSize) {
 
-            List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
+            List<String> batch = texts.subList(i, Math.min(i + batchSize, texts.size()));
 
             EmbeddingRequest request = EmbeddingRequest.builder()
                     .input(batch)
@@ -107,9 +140,7 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
 
             EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
 
-            embeddings.addAll(response.data().stream()
-                    .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
-                    .collect(toList()));
+            embeddings.addAll(toEmbeddings(response));
 
             inputTokenCount += response.usage().promptTokens();
         }
@@ -119,6 +150,119 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
                 new TokenUsage(inputTokenCount));
     }
 
+    private static List<Embedding> toEmbeddings(EmbeddingResponse response) {
+        return response.data().stream()
+                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                .collect(toList());
+    }
+
+    /**
+     * Sends the batches of {@code texts} through the asynchronous API of the client, keeping at most
+     * {@code maxConcurrentBatches} of them in flight: each batch that completes starts the next one.
+     * The responses are stored by batch index, so that the embeddings are returned in the order of the texts whatever
+     * the order in which the responses arrive. Each batch is retried like {@link dev.langchain4j.internal.RetryUtils},
+     * and the first batch that fails after its last attempt fails the whole call.
+     */
+    private class ConcurrentBatches {
+
+        private final List<String> texts;
+        private final EmbeddingResponse[] responses;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final ResponseHandle[] handles;
+        // guarded by this
+        private int next;
+        private int completed;
+
+        private ConcurrentBatches(List<String> texts) {
+            this.texts = texts;
+            int batches = (texts.size() + batchSize - 1) / batchSize;
+            this.responses = new EmbeddingResponse[batches];
+            this.handles = new ResponseHandle[batches];
+        }
+
+        private Response<List<Embedding>> embed() {
+            for (int i = 0; i < Math.min(maxConcurrentBatches, responses.length); i++) {
+                sendNext();
+            }
+            try {
+                result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+
+            List<Embedding> embeddings = new ArrayList<>(texts.size());
+            int inputTokenCount = 0;
+            for (EmbeddingResponse response : responses) {
+                embeddings.addAll(toEmbeddings(response));
+                inputTokenCount += response.usage().promptTokens();
+            }
+            return Response.from(embeddings, new TokenUsage(inputTokenCount));
+        }
+
+        private void sendNext() {
+            int index;
+            synchronized (this) {
+                if (next == responses.length || result.isDone()) {
+                    return;
+                }
+                index = next++;
+            }
+            EmbeddingRequest request = EmbeddingRequest.builder()
+                    .input(texts.subList(index * batchSize, Math.min((index + 1) * batchSize, texts.size())))
+                    .build();
+            send(index, request, 1);
+        }
+
+        private void send(int index, EmbeddingRequest request, int attempt) {
+            if (result.isDone()) {
+                // another batch failed while this one was waiting to be retried
+                return;
+            }
+            ResponseHandle handle = client.embedding(request)
+                    .onResponse(response -> onResponse(index, response))
+                    .onError(error -> onError(index, request, attempt, error))
+                    .execute();
+            synchronized (this) {
+                handles[index] = handle;
+            }
+        }
+
+        private void onResponse(int index, EmbeddingResponse response) {
+            boolean done;
+            synchronized (this) {
+                responses[index] = response;
+                done = ++completed == responses.length;
+            }
+            if (done) {
+                result.complete(null);
+            } else {
+                sendNext();
+            }
+        }
+
+        private void onError(int index, EmbeddingRequest request, int attempt, Throwable error) {
+            if (attempt >= maxRetries || result.isDone()) {
+                if (result.completeExceptionally(new RuntimeException(error))) {
+                    cancel();
+                }
+                return;
+            }
+            log.warnf(error, "Exception was thrown on attempt %s of %s", attempt, maxRetries);
+            RETRY_EXECUTOR.execute(() -> send(index, request, attempt + 1));
+        }
+
+        private synchronized void cancel() {
+            for (ResponseHandle handle : handles) {
+                if (handle != null) {
+                    handle.cancel();
+                }
+            }
+        }
+    }
+
     @Override
     public int estimateTokenCount(String text) {
         return tokenizer.estimateTokenCountInText(text);
@@ -139,6 +283,8 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
         private Proxy proxy;
         private Boolean logRequests;
         private Boolean logResponses;
+        private Integer batchSize;
+        private Integer maxConcurrentBatches;
 
         /**
          * Sets the Azure OpenAI base URL. This is a mandatory parameter.
@@ -204,6 +350,29 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
             return this;
         }
 
+        /**
+         * Sets the maximum number of texts sent in a single request. Defaults to 16.
+         *
+         * @param batchSize The maximum number of texts of a request.
+         * @return builder
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests sent concurrently when the texts are split into several batches. Defaults
+         * to 1, which sends the batches one after the other.
+         *
+         * @param maxConcurrentBatches The maximum number of requests in flight.
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public AzureOpenAiEmbeddingModel build() {
             return new AzureOpenAiEmbeddingModel(
                     baseUrl,
@@ -214,7 +383,9 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
                     maxRetries,
                     proxy,
                     logRequests,
-                    logResponses);
+                    logResponses,
+                    batchSize,
+                    maxConcurrentBatches);
         }
     }
 }
@@ -2,29 +2,64 @@ package io.quarkiverse.langchain4j.azure.openai.runtime;
 
 import static io.quarkiverse.langchain4j.runtime.OptionalUtil.firstOrDefault;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiChatModel;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiEmbeddingModel;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiStreamingChatModel;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.EmbeddingModelConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.EndpointConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.Langchain4jAzureOpenAiConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.LoadBalancingConfig;
 import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingBatcher;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.config.ConfigValidationException;
 
 @Recorder
 public class AzureOpenAiRecorder {
 
+    private static final String DEFAULT_ENDPOINT = "default";
+
     public Supplier<?> chatModel(Langchain4jAzureOpenAiConfig runtimeConfig) {
+        List<EndpointDefinition> endpoints = getEndpoints(runtimeConfig);
+        List<AzureOpenAiChatModel.Builder> builders = new ArrayList<>();
+        for (EndpointDefinition endpoint : endpoints) {
+            builders.add(chatModelBuilder(runtimeConfig, endpoint)
+                    // the load balancer sends the request again to the other endpoints
+                    .maxRetries(endpoints.size() > 1 ? 1 : runtimeConfig.maxRetries()));
+        }
+
+        return new Supplier<>() {
+            @Override
+            public Object get() {
+                if (builders.size() == 1) {
+                    return builders.get(0).build();
+                }
+                return new LoadBalancedChatModel(loadBalancer(runtimeConfig, endpoints, builders,
+                        AzureOpenAiChatModel.Builder::build));
+            }
+        };
+    }
+
+    private AzureOpenAiChatModel.Builder chatModelBuilder(Langchain4jAzureOpenAiConfig runtimeConfig,
+            EndpointDefinition endpoint) {
         ChatModelConfig chatModelConfig = runtimeConfig.chatModel();
         var builder = AzureOpenAiChatModel.builder()
-                .baseUrl(getBaseUrl(runtimeConfig))
-                .apiKey(runtimeConfig.apiKey())
+                .baseUrl(endpoint.baseUrl())
+                .apiKey(endpoint.apiKey())
                 .apiVersion(runtimeConfig.apiVersion())
                 .timeout(runtimeConfig.timeout())
-                .maxRetries(runtimeConfig.maxRetries())
                 .logRequests(firstOrDefault(false, chatModelConfig.logRequests(), runtimeConfig.logRequests()))
                 .logResponses(firstOrDefault(false, chatModelConfig.logResponses(), runtimeConfig.logResponses()))
 
@@ -36,20 +71,34 @@ public class AzureOpenAiRecorder {
         if (chatModelConfig.maxTokens().isPresent()) {
             builder.maxTokens(chatModelConfig.maxTokens().get());
         }
+        return builder;
+    }
+
+    public Supplier<?> streamingChatModel(Langchain4jAzureOpenAiConfig runtimeConfig) {
+        List<EndpointDefinition> endpoints = getEndpoints(runtimeConfig);
+        List<AzureOpenAiStreamingChatModel.Builder> builders = new ArrayList<>();
+        for (EndpointDefinition endpoint : endpoints) {
+            builders.add(streamingChatModelBuilder(runtimeConfig, endpoint));
+        }
 
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                if (builders.size() == 1) {
+                    return builders.get(0).build();
+                }
+                return new LoadBalancedStreamingChatModel(loadBalancer(runtimeConfig, endpoints, builders,
+                        AzureOpenAiStreamingChatModel.Builder::build));
             }
         };
     }
 
-    public Supplier<?> streamingChatModel(Langchain4jAzureOpenAiConfig runtimeConfig) {
+    private AzureOpenAiStreamingChatModel.Builder streamingChatModelBuilder(Langchain4jAzureOpenAiConfig runtimeConfig,
+            EndpointDefinition endpoint) {
         ChatModelConfig chatModelConfig = runtimeConfig.chatModel();
         var builder = AzureOpenAiStreamingChatModel.builder()
-                .baseUrl(getBaseUrl(runtimeConfig))
-                .apiKey(runtimeConfig.apiKey())
+                .baseUrl(endpoint.baseUrl())
+                .apiKey(endpoint.apiKey())
                 .apiVersion(runtimeConfig.apiVersion())
                 .timeout(runtimeConfig.timeout())
                 .logRequests(firstOrDefault(false, chatModelConfig.logRequests(), runtimeConfig.logRequests()))
@@ -63,34 +112,80 @@ public class AzureOpenAiRecorder {
         if (chatModelConfig.maxTokens().isPresent()) {
             builder.maxTokens(chatModelConfig.maxTokens().get());
         }
-
-        return new Supplier<>() {
-            @Override
-            public Object get() {
-                return builder.build();
-            }
-        };
+        return builder;
     }
 
     public Supplier<?> embeddingModel(Langchain4jAzureOpenAiConfig runtimeConfig) {
         EmbeddingModelConfig embeddingModelConfig = runtimeConfig.embeddingModel();
-        var builder = AzureOpenAiEmbeddingModel.builder()
-                .baseUrl(getBaseUrl(runtimeConfig))
-                .apiKey(runtimeConfig.apiKey())
-                .apiVersion(runtimeConfig.apiVersion())
-                .timeout(runtimeConfig.timeout())
-                .maxRetries(runtimeConfig.maxRetries())
-                .logRequests(firstOrDefault(false, embeddingModelConfig.logRequests(), runtimeConfig.logRequests()))
-                .logResponses(firstOrDefault(false, embeddingModelConfig.logResponses(), runtimeConfig.logResponses()));
+        List<EndpointDefinition> endpoints = getEndpoints(runtimeConfig);
+        List<AzureOpenAiEmbeddingModel.Builder> builders = new ArrayList<>();
+        for (EndpointDefinition endpoint : endpoints) {
+            builders.add(AzureOpenAiEmbeddingModel.builder()
+                    .baseUrl(endpoint.baseUrl())
+                    .apiKey(endpoint.apiKey())
+                    .apiVersion(runtimeConfig.apiVersion())
+                    .timeout(runtimeConfig.timeout())
+                    // the load balancer sends the request again to the other endpoints
+                    .maxRetries(endpoints.size() > 1 ? 1 : runtimeConfig.maxRetries())
+                    .logRequests(firstOrDefault(false, embeddingModelConfig.logRequests(), runtimeConfig.logRequests()))
+                    .logResponses(firstOrDefault(false, embeddingModelConfig.logResponses(), runtimeConfig.logResponses()))
+                    .batchSize(embeddingModelConfig.batchSize())
+                    .maxConcurrentBatches(embeddingModelConfig.maxConcurrentBatches()));
+        }
 
+        String modelId = "azure-openai:" + getBaseUrl(runtimeConfig);
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                EmbeddingModel model = builders.size() == 1 ? builders.get(0).build()
+                        : new LoadBalancedEmbeddingModel(loadBalancer(runtimeConfig, endpoints, builders,
+                                AzureOpenAiEmbeddingModel.Builder::build));
+                model = Arc.container().instance(EmbeddingBatcher.class).get().wrap(model);
+                return Arc.container().instance(EmbeddingCache.class).get().wrap(model, modelId);
             }
         };
     }
 
+    private static <B, M> LoadBalancer<M> loadBalancer(Langchain4jAzureOpenAiConfig runtimeConfig,
+            List<EndpointDefinition> endpoints, List<B> builders, Function<B, M> build) {
+        List<LoadBalancer.Endpoint<M>> result = new ArrayList<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            EndpointDefinition endpoint = endpoints.get(i);
+            result.add(new LoadBalancer.Endpoint<>(endpoint.name(), endpoint.weight(), build.apply(builders.get(i))));
+        }
+        LoadBalancingConfig loadBalancingConfig = runtimeConfig.loadBalancing();
+        return new LoadBalancer<>(result, loadBalancingConfig.strategy(), loadBalancingConfig.cooldown(),
+                runtimeConfig.maxRetries());
+    }
+
+    /**
+     * @return the endpoint configured by {@code resource-name} and {@code deployment-id}, followed by the endpoints
+     *         configured under {@code endpoints}
+     */
+    private List<EndpointDefinition> getEndpoints(Langchain4jAzureOpenAiConfig runtimeConfig) {
+        List<EndpointDefinition> result = new ArrayList<>();
+        result.add(new EndpointDefinition(DEFAULT_ENDPOINT, getBaseUrl(runtimeConfig), runtimeConfig.apiKey(),
+                runtimeConfig.loadBalancing().weight()));
+        for (Map.Entry<String, EndpointConfig> entry : new TreeMap<>(runtimeConfig.endpoints()).entrySet()) {
+            EndpointConfig endpointConfig = entry.getValue();
+            String baseUrl;
+            if (endpointConfig.baseUrl().isPresent()) {
+                baseUrl = endpointConfig.baseUrl().get();
+            } else if (endpointConfig.resourceName().isPresent()) {
+                baseUrl = String.format("https://%s.openai.azure.com/openai/deployments/%s",
+                        endpointConfig.resourceName().get(),
+                        endpointConfig.deploymentId().orElse(runtimeConfig.deploymentId()));
+            } else {
+                throw new ConfigValidationException(new ConfigValidationException.Problem[] {
+                        new ConfigValidationException.Problem(String.format(
+                                "Either quarkus.langchain4j.azure-openai.endpoints.%1$s.resource-name or quarkus.langchain4j.azure-openai.endpoints.%1$s.base-url must be set",
+                                entry.getKey())) });
+            }
+            result.add(new EndpointDefinition(entry.getKey(), baseUrl, endpointConfig.apiKey(), endpointConfig.weight()));
+        }
+        return result;
+    }
+
     private String getBaseUrl(Langchain4jAzureOpenAiConfig runtimeConfig) {
         var baseUrl = runtimeConfig.baseUrl();
 
@@ -99,12 +194,23 @@ public class AzureOpenAiRecorder {
                         runtimeConfig.deploymentId());
     }
 
+    public void httpClient(Langchain4jAzureOpenAiConfig runtimeConfig) {
+        QuarkusOpenAiClient.setHttpClientConfig("azure-openai", runtimeConfig.http());
+        QuarkusOpenAiClient.setRateLimiterConfig("azure-openai", runtimeConfig.rateLimiter());
+        QuarkusOpenAiClient.setHedgingConfig("azure-openai", runtimeConfig.hedging());
+        QuarkusOpenAiClient.setEmbeddingEncodingFormat("azure-openai", runtimeConfig.embeddingModel().encodingFormat());
+    }
+
     public void cleanUp(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 QuarkusOpenAiClient.clearCache();
+                LoadBalancer.clear();
             }
         });
     }
+
+    private record EndpointDefinition(String name, String baseUrl, String apiKey, int weight) {
+    }
 }
@@ -0,0 +1,45 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime;
+
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiChatModel;
+
+/**
+ * A chat model that sends each request to one of the endpoints of a {@link LoadBalancer}
+ */
+public class LoadBalancedChatModel implements ChatLanguageModel, TokenCountEstimator {
+
+    private final LoadBalancer<AzureOpenAiChatModel> loadBalancer;
+    private final AzureOpenAiChatModel estimator;
+
+    public LoadBalancedChatModel(LoadBalancer<AzureOpenAiChatModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+        this.estimator = loadBalancer.firstModel();
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return loadBalancer.execute(model -> model.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return loadBalancer.execute(model -> model.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return loadBalancer.execute(model -> model.generate(messages, toolSpecification));
+    }
+
+    @Override
+    public int estimateTokenCount(List<ChatMessage> messages) {
+        return estimator.estimateTokenCount(messages);
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime;
+
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiEmbeddingModel;
+
+/**
+ * An embedding model that sends each call to one of the endpoints of a {@link LoadBalancer}
+ */
+public class LoadBalancedEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
+
+    private final LoadBalancer<AzureOpenAiEmbeddingModel> loadBalancer;
+
+    public LoadBalancedEmbeddingModel(LoadBalancer<AzureOpenAiEmbeddingModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return loadBalancer.execute(model -> model.embedAll(textSegments));
+    }
+
+    @Override
+    public int estimateTokenCount(String text) {
+        return loadBalancer.firstModel().estimateTokenCount(text);
+    }
+}
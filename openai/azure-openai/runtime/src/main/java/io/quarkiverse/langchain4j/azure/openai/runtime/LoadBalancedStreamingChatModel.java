@@ -0,0 +1,121 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.StreamingCancellation;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiStreamingChatModel;
+
+/**
+ * A streaming chat model that sends each request to one of the endpoints of a {@link LoadBalancer}.
+ * A request that fails before its first token is sent again to another endpoint, while a request that fails afterward
+ * fails, as the tokens already received cannot be taken back.
+ */
+public class LoadBalancedStreamingChatModel implements StreamingChatLanguageModel, TokenCountEstimator {
+
+    private final LoadBalancer<AzureOpenAiStreamingChatModel> loadBalancer;
+
+    public LoadBalancedStreamingChatModel(LoadBalancer<AzureOpenAiStreamingChatModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, null, null, handler, 1);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, toolSpecifications, null, handler, 1);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, null, toolSpecification, handler, 1);
+    }
+
+    private void generate(List<ChatMessage> messages,
+            List<ToolSpecification> toolSpecifications,
+            ToolSpecification toolThatMustBeExecuted,
+            StreamingResponseHandler<AiMessage> handler,
+            int attempt) {
+        LoadBalancer.Endpoint<AzureOpenAiStreamingChatModel> endpoint = loadBalancer.select();
+        long start = endpoint.begin();
+        AtomicBoolean ended = new AtomicBoolean();
+        // a stream stopped by the application is neither a success nor a failure, but it is no longer outstanding
+        Runnable onCancel = new Runnable() {
+            @Override
+            public void run() {
+                if (ended.compareAndSet(false, true)) {
+                    endpoint.succeeded(start);
+                }
+            }
+        };
+        StreamingCancellation cancellation = StreamingCancellation.current();
+        if (cancellation != null) {
+            cancellation.onCancel(onCancel);
+        }
+        StreamingResponseHandler<AiMessage> endpointHandler = new StreamingResponseHandler<>() {
+
+            private volatile boolean started;
+
+            @Override
+            public void onNext(String token) {
+                started = true;
+                handler.onNext(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                if (end()) {
+                    endpoint.succeeded(start);
+                }
+                handler.onComplete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (!end()) {
+                    handler.onError(error);
+                } else if (loadBalancer.failed(endpoint, start, error) && !started
+                        && attempt < loadBalancer.maxAttempts()) {
+                    generate(messages, toolSpecifications, toolThatMustBeExecuted, handler, attempt + 1);
+                } else {
+                    handler.onError(error);
+                }
+            }
+
+            private boolean end() {
+                if (cancellation != null) {
+                    cancellation.remove(onCancel);
+                }
+                return ended.compareAndSet(false, true);
+            }
+        };
+        try {
+            if (toolThatMustBeExecuted != null) {
+                endpoint.model().generate(messages, toolThatMustBeExecuted, endpointHandler);
+            } else if (toolSpecifications != null) {
+                endpoint.model().generate(messages, toolSpecifications, endpointHandler);
+            } else {
+                endpoint.model().generate(messages, endpointHandler);
+            }
+        } catch (RuntimeException e) {
+            endpointHandler.onError(e);
+        }
+    }
+
+    @Override
+    public int estimateTokenCount(List<ChatMessage> messages) {
+        return loadBalancer.firstModel().estimateTokenCount(messages);
+    }
+}
@@ -0,0 +1,240 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import jakarta.ws.rs.ProcessingException;
+
+import org.jboss.logging.Logger;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.LoadBalancingConfig.Strategy;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+
+/**
+ * Spreads the requests of a model over the models of several Azure OpenAI endpoints, for instance deployments of the
+ * same model in several regions, so that their quotas add up.
+ * <p>
+ * An endpoint that fails with a {@code 429} or {@code 5xx} status, or without responding, is ejected: it receives no
+ * requests until its cooldown ends, and the request is sent again to another endpoint. The state of an endpoint is
+ * shared by the models of all types that use it, as they share its quota.
+ *
+ * @param <M> the type of the models
+ */
+public final class LoadBalancer<M> {
+
+    private static final Logger log = Logger.getLogger(LoadBalancer.class);
+
+    private static final Map<String, EndpointState> STATES = new ConcurrentHashMap<>();
+
+    private final List<Endpoint<M>> endpoints;
+    private final Strategy strategy;
+    private final long cooldownNanos;
+    private final int maxAttempts;
+
+    public LoadBalancer(List<Endpoint<M>> endpoints, Strategy strategy, Duration cooldown, int maxAttempts) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required");
+        }
+        this.endpoints = List.copyOf(endpoints);
+        this.strategy = strategy;
+        this.cooldownNanos = cooldown.toNanos();
+        this.maxAttempts = Math.max(maxAttempts, 1);
+    }
+
+    /**
+     * Forgets the state of the endpoints
+     */
+    public static void clear() {
+        STATES.clear();
+    }
+
+    /**
+     * @return the model of the first endpoint, for the operations that do not send requests such as estimating tokens
+     */
+    public M firstModel() {
+        return endpoints.get(0).model;
+    }
+
+    /**
+     * @return the maximum number of endpoints a request is sent to
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Calls {@code call} with the model of the selected endpoint, and with the model of another endpoint each time it
+     * fails in a way that ejects the endpoint, up to {@link #maxAttempts()} times
+     */
+    public <T> T execute(Function<M, T> call) {
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Endpoint<M> endpoint = select();
+            long start = endpoint.begin();
+            try {
+                T result = call.apply(endpoint.model);
+                endpoint.succeeded(start);
+                return result;
+            } catch (RuntimeException e) {
+                if (!failed(endpoint, start, e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * @return the endpoint the next request is sent to. When every endpoint is ejected, it is the endpoint whose cooldown
+     *         ends first.
+     */
+    public synchronized Endpoint<M> select() {
+        long now = System.nanoTime();
+        Endpoint<M> selected = null;
+        int totalWeight = 0;
+        for (Endpoint<M> endpoint : endpoints) {
+            if (endpoint.state.ejected(now)) {
+                continue;
+            }
+            if (strategy == Strategy.ROUND_ROBIN) {
+                // smooth weighted round-robin: the endpoints are interleaved rather than sent requests in bursts
+                endpoint.currentWeight += endpoint.weight;
+                totalWeight += endpoint.weight;
+                if (selected == null || endpoint.currentWeight > selected.currentWeight) {
+                    selected = endpoint;
+                }
+            } else if (selected == null || (long) endpoint.state.outstanding.get()
+                    * selected.weight < (long) selected.state.outstanding.get() * endpoint.weight) {
+                selected = endpoint;
+            }
+        }
+        if (selected == null) {
+            for (Endpoint<M> endpoint : endpoints) {
+                if (selected == null || endpoint.state.ejectedUntil - selected.state.ejectedUntil < 0) {
+                    selected = endpoint;
+                }
+            }
+        } else if (strategy == Strategy.ROUND_ROBIN) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    /**
+     * Records the failure of a request sent to {@code endpoint} at {@code start}, and ejects the endpoint if the failure
+     * is caused by the endpoint rather than by the request
+     *
+     * @return whether the request should be sent to another endpoint
+     */
+    public boolean failed(Endpoint<M> endpoint, long start, Throwable failure) {
+        endpoint.state.end(start, false);
+        if (!ejects(failure)) {
+            return false;
+        }
+        endpoint.state.ejectedUntil = System.nanoTime() + cooldownNanos;
+        endpoint.state.ejections.increment();
+        log.warnf("Azure OpenAI endpoint %s is ejected for %s ms after a failure: %s", endpoint.name,
+                TimeUnit.NANOSECONDS.toMillis(cooldownNanos), failure.getMessage());
+        return true;
+    }
+
+    /**
+     * @return whether {@code failure} is a {@code 429} or {@code 5xx} status, or a failure to get a response
+     */
+    static boolean ejects(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof OpenAiHttpException e) {
+                return e.code() == 429 || e.code() >= 500;
+            }
+            if (t instanceof IOException || t instanceof TimeoutException || t instanceof ProcessingException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static final class Endpoint<M> {
+
+        private final String name;
+        private final int weight;
+        private final M model;
+        private final EndpointState state;
+        // guarded by the load balancer
+        private int currentWeight;
+
+        public Endpoint(String name, int weight, M model) {
+            this.name = name;
+            this.weight = Math.max(weight, 1);
+            this.model = model;
+            this.state = STATES.computeIfAbsent(name, EndpointState::create);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public M model() {
+            return model;
+        }
+
+        /**
+         * @return the start of the request, to pass to {@link #succeeded(long)} or {@link LoadBalancer#failed}
+         */
+        public long begin() {
+            state.outstanding.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void succeeded(long start) {
+            state.end(start, true);
+        }
+    }
+
+    private static final class EndpointState {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder ejections = new LongAdder();
+        private volatile long ejectedUntil;
+
+        static EndpointState create(String name) {
+            EndpointState result = new EndpointState();
+            Meters.functionTimer("langchain4j.azure.openai.endpoint.requests", result, s -> s.requests.sum(),
+                    s -> s.nanos.sum(), TimeUnit.NANOSECONDS, "endpoint", name);
+            Meters.functionCounter("langchain4j.azure.openai.endpoint.errors", result, s -> s.errors.sum(),
+                    "endpoint", name);
+            Meters.functionCounter("langchain4j.azure.openai.endpoint.ejections", result, s -> s.ejections.sum(),
+                    "endpoint", name);
+            Meters.gauge("langchain4j.azure.openai.endpoint.outstanding", result, s -> s.outstanding.get(),
+                    "endpoint", name);
+            return result;
+        }
+
+        boolean ejected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && until - now > 0;
+        }
+
+        void end(long start, boolean succeeded) {
+            outstanding.decrementAndGet();
+            requests.increment();
+            nanos.add(System.nanoTime() - start);
+            if (!succeeded) {
+                errors.increment();
+            }
+        }
+    }
+
+}
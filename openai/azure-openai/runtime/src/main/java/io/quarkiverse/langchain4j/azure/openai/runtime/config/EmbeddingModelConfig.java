@@ -2,8 +2,10 @@ package io.quarkiverse.langchain4j.azure.openai.runtime.config;
 
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.openai.EmbeddingEncodingFormat;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface EmbeddingModelConfig {
@@ -19,4 +21,26 @@ public interface EmbeddingModelConfig {
      */
     @ConfigDocDefault("false")
     Optional<Boolean> logResponses();
+
+    /**
+     * The format in which the embeddings are requested.
+     * {@code base64} returns the vectors as packed float32 values, which halves the size of the responses and makes them
+     * much cheaper to parse, but it is not supported by older API versions.
+     */
+    @WithDefault("float")
+    EmbeddingEncodingFormat encodingFormat();
+
+    /**
+     * The maximum number of texts sent in a single request.
+     * Older API versions only accept 16 texts per request. Must be greater than 0.
+     */
+    @WithDefault("16")
+    int batchSize();
+
+    /**
+     * The maximum number of requests sent concurrently when the texts embedded at once are split into several batches.
+     * Must be greater than 0.
+     */
+    @WithDefault("4")
+    int maxConcurrentBatches();
 }
@@ -0,0 +1,40 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime.config;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocDefault;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface EndpointConfig {
+
+    /**
+     * The name of the Azure OpenAI Resource of the endpoint.
+     * Required unless {@code base-url} is set.
+     */
+    Optional<String> resourceName();
+
+    /**
+     * The name of the model deployment of the endpoint
+     */
+    @ConfigDocDefault("${quarkus.langchain4j.azure-openai.deployment-id}")
+    Optional<String> deploymentId();
+
+    /**
+     * The base url of the endpoint. Defaults to
+     * {@code https://${resource-name}.openai.azure.com/openai/deployments/${deployment-id}}.
+     */
+    Optional<String> baseUrl();
+
+    /**
+     * Azure OpenAI API key of the endpoint
+     */
+    String apiKey();
+
+    /**
+     * The share of the requests sent to the endpoint, relative to the weights of the other endpoints
+     */
+    @WithDefault("1")
+    int weight();
+}
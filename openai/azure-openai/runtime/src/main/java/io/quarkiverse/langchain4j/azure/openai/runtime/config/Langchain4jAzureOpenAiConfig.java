@@ -3,9 +3,14 @@ package io.quarkiverse.langchain4j.azure.openai.runtime.config;
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.openai.RateLimiterConfig;
+import io.quarkiverse.langchain4j.runtime.hedging.HedgingConfig;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -42,6 +47,18 @@ public interface Langchain4jAzureOpenAiConfig {
      */
     String apiKey();
 
+    /**
+     * Additional deployments, typically in other regions, the requests are spread over along with the deployment
+     * configured above
+     */
+    @ConfigDocMapKey("endpoint-name")
+    Map<String, EndpointConfig> endpoints();
+
+    /**
+     * Load balancing related settings, used when {@code endpoints} are configured
+     */
+    LoadBalancingConfig loadBalancing();
+
     /**
      * Timeout for OpenAI calls
      */
@@ -75,4 +92,19 @@ public interface Langchain4jAzureOpenAiConfig {
      * Embedding model related settings
      */
     EmbeddingModelConfig embeddingModel();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
+
+    /**
+     * Rate limiter related settings
+     */
+    RateLimiterConfig rateLimiter();
+
+    /**
+     * Hedging related settings
+     */
+    HedgingConfig hedging();
 }
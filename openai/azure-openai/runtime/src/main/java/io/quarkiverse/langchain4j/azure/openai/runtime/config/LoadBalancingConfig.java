@@ -0,0 +1,43 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface LoadBalancingConfig {
+
+    /**
+     * How the endpoint of each request is selected
+     */
+    @WithDefault("round-robin")
+    Strategy strategy();
+
+    /**
+     * The share of the requests sent to the endpoint configured by {@code resource-name} and {@code deployment-id},
+     * relative to the weights of the other endpoints
+     */
+    @WithDefault("1")
+    int weight();
+
+    /**
+     * How long an endpoint receives no requests after it failed with a {@code 429} or {@code 5xx} status, or without
+     * responding
+     */
+    @WithDefault("30s")
+    Duration cooldown();
+
+    enum Strategy {
+
+        /**
+         * The endpoints receive the requests in turn, in proportion to their weights
+         */
+        ROUND_ROBIN,
+
+        /**
+         * The endpoint with the fewest requests in flight, relative to its weight, receives the request
+         */
+        LEAST_OUTSTANDING_REQUESTS
+    }
+}
@@ -0,0 +1,267 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import dev.ai4j.openai4j.chat.ChatCompletionChoice;
+import dev.ai4j.openai4j.chat.ChatCompletionResponse;
+import dev.ai4j.openai4j.chat.Delta;
+import dev.ai4j.openai4j.chat.FunctionCall;
+import dev.ai4j.openai4j.chat.Role;
+import dev.ai4j.openai4j.chat.ToolCall;
+import dev.ai4j.openai4j.chat.ToolType;
+
+/**
+ * Decodes the events of a streamed chat completion.
+ * <p>
+ * Each event carries a few tokens, so instead of binding the whole event with the object mapper, this decoder reads it
+ * with a streaming parser and only extracts what the streaming chat models use: the id, creation time and model of the
+ * response, and the delta (content, function call and tool call fragments) and finish reason of its first choice.
+ * Everything else is skipped without being materialized.
+ * <p>
+ * A decoder is meant to decode the events of a single stream, in order: it feeds them to the same non-blocking parser
+ * through the same buffer, and reuses the id and model of the previous event when they are repeated, as they are in
+ * every event of a stream. It is not thread-safe.
+ */
+public final class ChatCompletionChunkDecoder implements AutoCloseable {
+
+    private static final JsonFactory FACTORY = OpenAiRestApi.ObjectMapperHolder.MAPPER.getFactory();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private byte[] buffer = new byte[1024];
+    private String id;
+    private String model;
+    private String systemFingerprint;
+
+    public ChatCompletionChunkDecoder() {
+        try {
+            this.parser = FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * @param data the data of an event, which is a JSON object
+     * @throws OpenAiApiException if the event does not contain a response, which happens when the API sends an error
+     */
+    public ChatCompletionResponse decode(String data) {
+        try {
+            feeder.feedInput(buffer, 0, encode(data));
+            ChatCompletionResponse result = readResponse();
+            // consumes the trailing whitespace, as the input can only be fed again once it has all been consumed
+            while (parser.nextToken() != JsonToken.NOT_AVAILABLE) {
+                parser.skipChildren();
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes {@code data} in UTF-8 into {@link #buffer}, which is grown if needed
+     *
+     * @return the number of bytes
+     */
+    private int encode(String data) {
+        int length = data.length();
+        if (buffer.length < length * 3) {
+            buffer = new byte[Math.max(buffer.length * 2, length * 3)];
+        }
+        byte[] bytes = buffer;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = data.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(data.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, data.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * @return the current text value, or {@code previous} if it has the same value
+     */
+    private String text(String previous) throws IOException {
+        if (previous != null && parser.getTextLength() == previous.length()) {
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            boolean same = true;
+            for (int i = 0; i < previous.length(); i++) {
+                if (chars[offset + i] != previous.charAt(i)) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return previous;
+            }
+        }
+        return parser.getText();
+    }
+
+    private ChatCompletionResponse readResponse() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw new OpenAiApiException(ChatCompletionResponse.class);
+        }
+        ChatCompletionResponse.Builder response = ChatCompletionResponse.builder();
+        boolean hasId = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> {
+                    id = text(id);
+                    response.id(id);
+                    hasId = true;
+                }
+                case "created" -> response.created(parser.getIntValue());
+                case "model" -> {
+                    model = text(model);
+                    response.model(model);
+                }
+                case "system_fingerprint" -> {
+                    systemFingerprint = text(systemFingerprint);
+                    response.systemFingerprint(systemFingerprint);
+                }
+                case "choices" -> response.choices(readFirstChoice(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        // an error object has no id, which is what the reader interceptor checks for the other responses
+        if (!hasId) {
+            throw new OpenAiApiException(ChatCompletionResponse.class);
+        }
+        return response.build();
+    }
+
+    private static List<ChatCompletionChoice> readFirstChoice(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        ChatCompletionChoice first = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (first == null) {
+                first = readChoice(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return first == null ? List.of() : List.of(first);
+    }
+
+    private static ChatCompletionChoice readChoice(JsonParser parser) throws IOException {
+        ChatCompletionChoice.Builder choice = ChatCompletionChoice.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "index" -> choice.index(parser.getIntValue());
+                case "finish_reason" -> choice.finishReason(parser.getText());
+                case "delta" -> choice.delta(readDelta(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return choice.build();
+    }
+
+    private static Delta readDelta(JsonParser parser) throws IOException {
+        Delta.Builder delta = Delta.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "content" -> delta.content(parser.getText());
+                case "role" -> delta.role(Role.valueOf(parser.getText().toUpperCase(Locale.ROOT)));
+                case "function_call" -> delta.functionCall(readFunctionCall(parser));
+                case "tool_calls" -> delta.toolCalls(readToolCalls(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return delta.build();
+    }
+
+    private static List<ToolCall> readToolCalls(JsonParser parser) throws IOException {
+        List<ToolCall> toolCalls = new ArrayList<>(1);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ToolCall.Builder toolCall = ToolCall.builder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "index" -> toolCall.index(parser.getIntValue());
+                    case "id" -> toolCall.id(parser.getText());
+                    case "type" -> toolCall.type(ToolType.valueOf(parser.getText().toUpperCase(Locale.ROOT)));
+                    case "function" -> toolCall.function(readFunctionCall(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            toolCalls.add(toolCall.build());
+        }
+        return toolCalls;
+    }
+
+    private static FunctionCall readFunctionCall(JsonParser parser) throws IOException {
+        FunctionCall.Builder functionCall = FunctionCall.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "name" -> functionCall.name(parser.getText());
+                case "arguments" -> functionCall.arguments(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        return functionCall.build();
+    }
+}
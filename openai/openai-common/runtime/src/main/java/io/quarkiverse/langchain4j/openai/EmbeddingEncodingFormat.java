@@ -0,0 +1,18 @@
+package io.quarkiverse.langchain4j.openai;
+
+/**
+ * The format in which the embeddings are returned by the provider
+ */
+public enum EmbeddingEncodingFormat {
+
+    /**
+     * Arrays of decimal numbers
+     */
+    FLOAT,
+
+    /**
+     * Base64 strings of packed little-endian float32 values, which are about half the size of the arrays and much cheaper
+     * to parse
+     */
+    BASE64
+}
@@ -8,7 +8,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -42,8 +41,10 @@ import org.jboss.resteasy.reactive.client.SseEventFilter;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 import org.jboss.resteasy.reactive.common.providers.serialisers.AbstractJsonMessageBodyReader;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import dev.ai4j.openai4j.OpenAiHttpException;
 import dev.ai4j.openai4j.chat.ChatCompletionRequest;
@@ -126,6 +127,17 @@ public interface OpenAiRestApi {
     @SseEventFilter(DoneFilter.class)
     Multi<ChatCompletionResponse> streamingChatCompletion(ChatCompletionRequest request, @BeanParam ApiMetadata input);
 
+    /**
+     * Performs a non-blocking request for a streaming chat completion request, without decoding the events.
+     * The events are meant to be decoded by {@link ChatCompletionChunkDecoder}, which is much cheaper than the generic
+     * reader for the many small events of a stream.
+     */
+    @Path("chat/completions")
+    @POST
+    @RestStreamElementType(MediaType.TEXT_PLAIN)
+    @SseEventFilter(DoneFilter.class)
+    Multi<String> streamingChatCompletionEvents(ChatCompletionRequest request, @BeanParam ApiMetadata input);
+
     /**
      * Perform a non-blocking request to get the embeddings of an input text
      */
@@ -140,6 +152,22 @@ public interface OpenAiRestApi {
     @POST
     EmbeddingResponse blockingEmbedding(EmbeddingRequest request, @BeanParam ApiMetadata input);
 
+    /**
+     * Perform a non-blocking request to get the embeddings of an input text, sent as base64 strings of packed float32
+     * values instead of arrays of decimal numbers
+     */
+    @Path("embeddings")
+    @POST
+    Uni<EmbeddingResponse> base64Embedding(Base64EmbeddingRequest request, @BeanParam ApiMetadata input);
+
+    /**
+     * Perform a blocking request to get the embeddings of an input text, sent as base64 strings of packed float32
+     * values instead of arrays of decimal numbers
+     */
+    @Path("embeddings")
+    @POST
+    EmbeddingResponse blockingBase64Embedding(Base64EmbeddingRequest request, @BeanParam ApiMetadata input);
+
     /**
      * Perform a non-blocking request to get a moderated version of an input text
      */
@@ -170,6 +198,18 @@ public interface OpenAiRestApi {
         return null;
     }
 
+    /**
+     * An {@link EmbeddingRequest} asking for the {@code base64} encoding format, which {@link EmbeddingRequest} does not
+     * expose. The embeddings are decoded by
+     * {@link io.quarkiverse.langchain4j.openai.runtime.jackson.EmbeddingVectorDeserializer}.
+     */
+    record Base64EmbeddingRequest(String model, List<String> input, String user, String encodingFormat) {
+
+        public static Base64EmbeddingRequest from(EmbeddingRequest request) {
+            return new Base64EmbeddingRequest(request.model(), request.input(), request.user(), "base64");
+        }
+    }
+
     /**
      * Ensures that the terminal event sent by OpenAI is not processed (as it is not a valid json event)
      */
@@ -193,7 +233,8 @@ public interface OpenAiRestApi {
         public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
                 MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
                 throws IOException, WebApplicationException {
-            entityStream.write(ObjectMapperHolder.MAPPER.writeValueAsString(o).getBytes(StandardCharsets.UTF_8));
+            // requests with long conversations are large, so they are not materialized as a String nor a byte[]
+            ObjectMapperHolder.writerFor(o.getClass()).writeValue(entityStream, o);
         }
     }
 
@@ -228,6 +269,21 @@ public interface OpenAiRestApi {
         public static final ObjectMapper MAPPER = QuarkusJsonCodecFactory.SnakeCaseObjectMapperHolder.MAPPER;
 
         private static final ObjectReader READER = MAPPER.reader();
+
+        private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+            @Override
+            protected ObjectWriter computeValue(Class<?> type) {
+                // the entity stream is closed by the client
+                return MAPPER.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            }
+        };
+
+        /**
+         * @return a writer whose serializer for {@code type} is only looked up once
+         */
+        public static ObjectWriter writerFor(Class<?> type) {
+            return WRITERS.get(type);
+        }
     }
 
     /**
@@ -9,14 +9,19 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.common.NotImplementedYet;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import dev.ai4j.openai4j.AsyncResponseHandling;
 import dev.ai4j.openai4j.ErrorHandling;
 import dev.ai4j.openai4j.OpenAiClient;
@@ -38,23 +43,45 @@ import dev.ai4j.openai4j.moderation.ModerationRequest;
 import dev.ai4j.openai4j.moderation.ModerationResponse;
 import dev.ai4j.openai4j.moderation.ModerationResult;
 import dev.ai4j.openai4j.spi.OpenAiClientBuilderFactory;
+import io.quarkiverse.langchain4j.StreamingCancellation;
+import io.quarkiverse.langchain4j.runtime.cache.ResponseCache;
+import io.quarkiverse.langchain4j.runtime.hedging.Hedger;
+import io.quarkiverse.langchain4j.runtime.hedging.HedgingConfig;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
+import io.quarkiverse.langchain4j.runtime.streaming.AbortedStreams;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 
 /**
  * Implements feature set of {@link OpenAiClient} using Quarkus functionality
  */
 public class QuarkusOpenAiClient extends OpenAiClient {
 
+    private static final Logger log = Logger.getLogger(QuarkusOpenAiClient.class);
+
     private final String apiKey;
     private final String apiVersion;
     private final String organizationId;
+    private final String provider;
 
     private final OpenAiRestApi restApi;
+    private final ResponseCache responseCache;
+    private final String responseCacheNamespace;
+    private final RateLimiter rateLimiter;
+    private final boolean base64Embeddings;
+    private final Hedger hedger;
 
     private static final Map<Builder, OpenAiRestApi> cache = new ConcurrentHashMap<>();
+    private static final Map<String, HttpClientConfig> httpClientConfigs = new ConcurrentHashMap<>();
+    private static final Map<String, RateLimiterConfig> rateLimiterConfigs = new ConcurrentHashMap<>();
+    private static final Map<String, EmbeddingEncodingFormat> embeddingEncodingFormats = new ConcurrentHashMap<>();
+    private static final Map<String, HedgingConfig> hedgingConfigs = new ConcurrentHashMap<>();
 
     public QuarkusOpenAiClient(String apiKey) {
         this(new Builder().openAiApiKey(apiKey));
@@ -66,12 +93,62 @@ public class QuarkusOpenAiClient extends OpenAiClient {
 
     public static void clearCache() {
         cache.clear();
+        httpClientConfigs.clear();
+        rateLimiterConfigs.clear();
+        embeddingEncodingFormats.clear();
+        hedgingConfigs.clear();
+        RateLimiter.clear();
+        Hedger.clear();
+    }
+
+    /**
+     * Sets the settings of the HTTP client of the clients created afterward for {@code provider}, which is
+     * {@code openai} or {@code azure-openai}
+     */
+    public static void setHttpClientConfig(String provider, HttpClientConfig config) {
+        httpClientConfigs.put(provider, config);
+    }
+
+    /**
+     * Sets the settings of the rate limiter of the clients created afterward for {@code provider}, which is
+     * {@code openai} or {@code azure-openai}
+     */
+    public static void setRateLimiterConfig(String provider, RateLimiterConfig config) {
+        rateLimiterConfigs.put(provider, config);
+    }
+
+    /**
+     * Sets the format in which the clients created afterward for {@code provider}, which is {@code openai} or
+     * {@code azure-openai}, request the embeddings
+     */
+    public static void setEmbeddingEncodingFormat(String provider, EmbeddingEncodingFormat format) {
+        embeddingEncodingFormats.put(provider, format);
+    }
+
+    /**
+     * Sets the hedging settings of the chat completion requests of the clients created afterward for {@code provider},
+     * which is {@code openai} or {@code azure-openai}
+     */
+    public static void setHedgingConfig(String provider, HedgingConfig config) {
+        hedgingConfigs.put(provider, config);
     }
 
     private QuarkusOpenAiClient(Builder builder) {
         this.apiKey = determineApiKey(builder);
         this.apiVersion = builder.apiVersion;
         this.organizationId = builder.organizationId;
+        ArcContainer container = Arc.container();
+        ResponseCache responseCache = container != null ? container.instance(ResponseCache.class).get() : null;
+        this.responseCache = responseCache != null && responseCache.isEnabled() ? responseCache : null;
+        // the base URL identifies the provider, and for Azure OpenAI the deployment of the model
+        this.responseCacheNamespace = "openai:" + builder.baseUrl;
+        // the Azure OpenAI models authenticate with an Azure API key
+        String provider = builder.azureApiKey != null ? "azure-openai" : "openai";
+        this.provider = provider;
+        RateLimiter rateLimiter = RateLimiter.get(provider, builder.baseUrl, apiKey, rateLimiterConfigs.get(provider));
+        this.rateLimiter = rateLimiter;
+        this.base64Embeddings = embeddingEncodingFormats.get(provider) == EmbeddingEncodingFormat.BASE64;
+        this.hedger = Hedger.get(provider, builder.baseUrl, hedgingConfigs.get(provider));
         // cache the client the builder could be called with the same parameters from multiple models
         this.restApi = cache.compute(builder, new BiFunction<Builder, OpenAiRestApi, OpenAiRestApi>() {
             @Override
@@ -86,6 +163,10 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         restApiBuilder.clientLogger(new OpenAiRestApi.OpenAiClientLogger(builder.logRequests,
                                 builder.logResponses));
                     }
+                    QuarkusRestClients.configure(restApiBuilder, provider, httpClientConfigs.get(provider));
+                    if (rateLimiter != null) {
+                        restApiBuilder.register(new RateLimiter.ResponseFilter(rateLimiter));
+                    }
                     if (builder.proxy != null) {
                         if (builder.proxy.type() != Proxy.Type.HTTP) {
                             throw new IllegalArgumentException("Only HTTP type proxy is supported");
@@ -120,6 +201,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsyncOrStreaming<>() {
             @Override
             public CompletionResponse execute() {
+                acquire(request);
                 return restApi.blockingCompletion(
                         CompletionRequest.builder().from(request).stream(null).build(),
                         OpenAiRestApi.ApiMetadata.builder()
@@ -135,12 +217,12 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<CompletionResponse> get() {
-                                return restApi.completion(request,
+                                return throttle(request, restApi.completion(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .apiKey(apiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()));
                             }
                         },
                         responseHandler);
@@ -153,14 +235,14 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Multi<CompletionResponse> get() {
-                                return restApi.streamingCompletion(request,
+                                return throttle(request, restApi.streamingCompletion(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .apiKey(apiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()));
                             }
-                        }, partialResponseHandler);
+                        }, partialResponseHandler, provider, request.maxTokens());
             }
         };
     }
@@ -172,16 +254,41 @@ public class QuarkusOpenAiClient extends OpenAiClient {
 
     @Override
     public SyncOrAsyncOrStreaming<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
+        // the same request can be sent with or without streaming, and the response can be replayed either way
+        String cacheKey = responseCacheKey(ChatCompletionRequest.builder().from(request).stream(null).build());
         return new SyncOrAsyncOrStreaming<>() {
             @Override
             public ChatCompletionResponse execute() {
-                return restApi.blockingChatCompletion(
-                        ChatCompletionRequest.builder().from(request).stream(null).build(),
-                        OpenAiRestApi.ApiMetadata.builder()
-                                .apiKey(apiKey)
-                                .apiVersion(apiVersion)
-                                .organizationId(organizationId)
-                                .build());
+                ChatCompletionResponse cached = cachedResponse(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+                ChatCompletionRequest syncRequest = ChatCompletionRequest.builder().from(request).stream(null).build();
+                ChatCompletionResponse response;
+                if (hedger != null) {
+                    // the duplicate request can only be sent by the non-blocking client
+                    response = hedger.hedge(new Supplier<Uni<ChatCompletionResponse>>() {
+                        @Override
+                        public Uni<ChatCompletionResponse> get() {
+                            return throttle(request, restApi.createChatCompletion(syncRequest,
+                                    OpenAiRestApi.ApiMetadata.builder()
+                                            .apiKey(apiKey)
+                                            .apiVersion(apiVersion)
+                                            .organizationId(organizationId)
+                                            .build()));
+                        }
+                    }).await().indefinitely();
+                } else {
+                    acquire(request);
+                    response = restApi.blockingChatCompletion(syncRequest,
+                            OpenAiRestApi.ApiMetadata.builder()
+                                    .apiKey(apiKey)
+                                    .apiVersion(apiVersion)
+                                    .organizationId(organizationId)
+                                    .build());
+                }
+                cacheResponse(cacheKey, response);
+                return response;
             }
 
             @Override
@@ -190,12 +297,27 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<ChatCompletionResponse> get() {
-                                return restApi.createChatCompletion(request,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .apiKey(apiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build());
+                                ChatCompletionResponse cached = cachedResponse(cacheKey);
+                                if (cached != null) {
+                                    return Uni.createFrom().item(cached);
+                                }
+                                return hedge(new Supplier<Uni<ChatCompletionResponse>>() {
+                                    @Override
+                                    public Uni<ChatCompletionResponse> get() {
+                                        return throttle(request, restApi.createChatCompletion(request,
+                                                OpenAiRestApi.ApiMetadata.builder()
+                                                        .apiKey(apiKey)
+                                                        .apiVersion(apiVersion)
+                                                        .organizationId(organizationId)
+                                                        .build()));
+                                    }
+                                })
+                                        .invoke(new Consumer<>() {
+                                            @Override
+                                            public void accept(ChatCompletionResponse response) {
+                                                cacheResponse(cacheKey, response);
+                                            }
+                                        });
                             }
                         },
                         responseHandler);
@@ -208,18 +330,184 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Multi<ChatCompletionResponse> get() {
-                                return restApi.streamingChatCompletion(request,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .apiKey(apiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build());
+                                ChatCompletionResponse cached = cachedResponse(cacheKey);
+                                if (cached != null) {
+                                    return Multi.createFrom().iterable(StreamedResponses.replay(cached));
+                                }
+                                ChatCompletionChunkDecoder decoder = new ChatCompletionChunkDecoder();
+                                // only the events of the request that wins are decoded
+                                Multi<ChatCompletionResponse> result = hedgeStream(new Supplier<Multi<String>>() {
+                                    @Override
+                                    public Multi<String> get() {
+                                        return throttle(request, restApi.streamingChatCompletionEvents(request,
+                                                OpenAiRestApi.ApiMetadata.builder()
+                                                        .apiKey(apiKey)
+                                                        .apiVersion(apiVersion)
+                                                        .organizationId(organizationId)
+                                                        .build()));
+                                    }
+                                })
+                                        .map(decoder::decode)
+                                        .onTermination().invoke(decoder::close);
+                                if (cacheKey == null) {
+                                    return result;
+                                }
+                                StreamedResponses.Collector collector = new StreamedResponses.Collector();
+                                return result.invoke(collector).onCompletion().invoke(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        ChatCompletionResponse response = collector.response();
+                                        if (response != null) {
+                                            cacheResponse(cacheKey, response);
+                                        }
+                                    }
+                                });
                             }
-                        }, partialResponseHandler);
+                        }, partialResponseHandler, provider, request.maxTokens());
             }
         };
     }
 
+    private <T> Uni<T> hedge(Supplier<Uni<T>> call) {
+        return hedger != null ? hedger.hedge(call) : call.get();
+    }
+
+    private <T> Multi<T> hedgeStream(Supplier<Multi<T>> call) {
+        return hedger != null ? hedger.hedgeStream(call) : call.get();
+    }
+
+    /**
+     * Blocks until the rate limiter lets {@code request} be sent
+     */
+    private void acquire(Object request) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(request);
+        }
+    }
+
+    /**
+     * @return {@code call}, subscribed once the rate limiter lets {@code request} be sent
+     */
+    private <T> Uni<T> throttle(Object request, Uni<T> call) {
+        if (rateLimiter == null) {
+            return call;
+        }
+        return rateLimiter.throttle(request, call);
+    }
+
+    /**
+     * @return {@code call}, subscribed once the rate limiter lets {@code request} be sent
+     */
+    private <T> Multi<T> throttle(Object request, Multi<T> call) {
+        Multi<T> stream = cancelledOnceStarted(call);
+        if (rateLimiter == null) {
+            return stream;
+        }
+        return rateLimiter.throttle(request, stream);
+    }
+
+    /**
+     * The REST client does not close the connection of a stream cancelled before its response, which it closes when
+     * the response is received, and fails the cancelled stream if the connection is closed meanwhile, which Mutiny can
+     * only log as a dropped exception. So a stream cancelled before its first item, such as the losing request of a
+     * hedged call, is only cancelled when it emits its first item, and its termination is ignored.
+     */
+    private static <T> Multi<T> cancelledOnceStarted(Multi<T> stream) {
+        return Multi.createFrom().emitter(new Consumer<MultiEmitter<? super T>>() {
+            @Override
+            public void accept(MultiEmitter<? super T> emitter) {
+                AtomicBoolean started = new AtomicBoolean();
+                AtomicReference<Cancellable> subscription = new AtomicReference<>();
+                subscription.set(stream.subscribe().with(new Consumer<T>() {
+                    @Override
+                    public void accept(T item) {
+                        started.set(true);
+                        if (emitter.isCancelled()) {
+                            cancel(subscription);
+                        } else {
+                            emitter.emit(item);
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        if (!emitter.isCancelled()) {
+                            emitter.fail(failure);
+                        }
+                    }
+                }, new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!emitter.isCancelled()) {
+                            emitter.complete();
+                        }
+                    }
+                }));
+                emitter.onTermination(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (started.get()) {
+                            cancel(subscription);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private static void cancel(AtomicReference<Cancellable> subscription) {
+        Cancellable cancellable = subscription.get();
+        if (cancellable != null) {
+            cancellable.cancel();
+        }
+    }
+
+    /**
+     * @return the key of the response to {@code request} in the response cache, or {@code null} if it must not be cached
+     */
+    private String responseCacheKey(ChatCompletionRequest request) {
+        if (responseCache == null) {
+            return null;
+        }
+        if (responseCache.isDeterministicOnly() && !Double.valueOf(0).equals(request.temperature())) {
+            return null;
+        }
+        try {
+            return ResponseCache.key(responseCacheNamespace,
+                    OpenAiRestApi.ObjectMapperHolder.MAPPER.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to serialize the request, it will not be cached", e);
+            return null;
+        }
+    }
+
+    private ChatCompletionResponse cachedResponse(String cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        String cached = responseCache.get(cacheKey);
+        if (cached == null) {
+            return null;
+        }
+        try {
+            return OpenAiRestApi.ObjectMapperHolder.MAPPER.readValue(cached, ChatCompletionResponse.class);
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to deserialize the cached response, the request will be sent", e);
+            return null;
+        }
+    }
+
+    private void cacheResponse(String cacheKey, ChatCompletionResponse response) {
+        if (cacheKey == null || response.choices() == null || response.choices().isEmpty()) {
+            return;
+        }
+        try {
+            responseCache.put(cacheKey, OpenAiRestApi.ObjectMapperHolder.MAPPER.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to serialize the response, it will not be cached", e);
+        }
+    }
+
     @Override
     public SyncOrAsyncOrStreaming<String> chatCompletion(String userMessage) {
         ChatCompletionRequest request = ChatCompletionRequest.builder()
@@ -229,6 +517,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsyncOrStreaming<>() {
             @Override
             public String execute() {
+                acquire(request);
                 return restApi
                         .blockingChatCompletion(request,
                                 OpenAiRestApi.ApiMetadata.builder()
@@ -245,14 +534,14 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<String> get() {
-                                return restApi
+                                return throttle(request, restApi
                                         .createChatCompletion(
                                                 ChatCompletionRequest.builder().from(request).stream(null).build(),
                                                 OpenAiRestApi.ApiMetadata.builder()
                                                         .apiKey(apiKey)
                                                         .apiVersion(apiVersion)
                                                         .organizationId(organizationId)
-                                                        .build())
+                                                        .build()))
                                         .map(ChatCompletionResponse::content);
                             }
                         },
@@ -266,14 +555,17 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Multi<String> get() {
-                                return restApi
-                                        .streamingChatCompletion(
+                                ChatCompletionChunkDecoder decoder = new ChatCompletionChunkDecoder();
+                                return throttle(request, restApi
+                                        .streamingChatCompletionEvents(
                                                 ChatCompletionRequest.builder().from(request).stream(true).build(),
                                                 OpenAiRestApi.ApiMetadata.builder()
                                                         .apiKey(apiKey)
                                                         .apiVersion(apiVersion)
                                                         .organizationId(organizationId)
-                                                        .build())
+                                                        .build()))
+                                        .map(decoder::decode)
+                                        .onTermination().invoke(decoder::close)
                                         .filter(r -> {
                                             if (r.choices() != null) {
                                                 if (r.choices().size() == 1) {
@@ -288,7 +580,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                                         .map(r -> r.choices().get(0).delta().content())
                                         .filter(Objects::nonNull);
                             }
-                        }, partialResponseHandler);
+                        }, partialResponseHandler, provider, request.maxTokens());
             }
         };
     }
@@ -298,12 +590,8 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsync<>() {
             @Override
             public EmbeddingResponse execute() {
-                return restApi.blockingEmbedding(request,
-                        OpenAiRestApi.ApiMetadata.builder()
-                                .apiKey(apiKey)
-                                .apiVersion(apiVersion)
-                                .organizationId(organizationId)
-                                .build());
+                acquire(request);
+                return sendBlockingEmbedding(request);
             }
 
             @Override
@@ -312,12 +600,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<EmbeddingResponse> get() {
-                                return restApi.embedding(request,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .apiKey(apiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build());
+                                return throttle(request, sendEmbedding(request));
                             }
                         },
                         responseHandler);
@@ -333,13 +616,8 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsync<>() {
             @Override
             public List<Float> execute() {
-                return restApi.blockingEmbedding(request,
-                        OpenAiRestApi.ApiMetadata.builder()
-                                .apiKey(apiKey)
-                                .apiVersion(apiVersion)
-                                .organizationId(organizationId)
-                                .build())
-                        .embedding();
+                acquire(request);
+                return sendBlockingEmbedding(request).embedding();
             }
 
             @Override
@@ -348,12 +626,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<List<Float>> get() {
-                                return restApi.embedding(request,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .apiKey(apiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build())
+                                return throttle(request, sendEmbedding(request))
                                         .map(EmbeddingResponse::embedding);
                             }
                         },
@@ -362,11 +635,36 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         };
     }
 
+    private EmbeddingResponse sendBlockingEmbedding(EmbeddingRequest request) {
+        OpenAiRestApi.ApiMetadata metadata = OpenAiRestApi.ApiMetadata.builder()
+                .apiKey(apiKey)
+                .apiVersion(apiVersion)
+                .organizationId(organizationId)
+                .build();
+        if (base64Embeddings) {
+            return restApi.blockingBase64Embedding(OpenAiRestApi.Base64EmbeddingRequest.from(request), metadata);
+        }
+        return restApi.blockingEmbedding(request, metadata);
+    }
+
+    private Uni<EmbeddingResponse> sendEmbedding(EmbeddingRequest request) {
+        OpenAiRestApi.ApiMetadata metadata = OpenAiRestApi.ApiMetadata.builder()
+                .apiKey(apiKey)
+                .apiVersion(apiVersion)
+                .organizationId(organizationId)
+                .build();
+        if (base64Embeddings) {
+            return restApi.base64Embedding(OpenAiRestApi.Base64EmbeddingRequest.from(request), metadata);
+        }
+        return restApi.embedding(request, metadata);
+    }
+
     @Override
     public SyncOrAsync<ModerationResponse> moderation(ModerationRequest request) {
         return new SyncOrAsync<>() {
             @Override
             public ModerationResponse execute() {
+                acquire(request);
                 return restApi.blockingModeration(request,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .apiKey(apiKey)
@@ -381,12 +679,12 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<ModerationResponse> get() {
-                                return restApi.moderation(request,
+                                return throttle(request, restApi.moderation(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .apiKey(apiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()));
                             }
                         },
                         responseHandler);
@@ -403,6 +701,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsync<>() {
             @Override
             public ModerationResult execute() {
+                acquire(request);
                 return restApi.blockingModeration(request,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .apiKey(apiKey)
@@ -418,12 +717,12 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<ModerationResult> get() {
-                                return restApi.moderation(request,
+                                return throttle(request, restApi.moderation(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .apiKey(apiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build())
+                                                .build()))
                                         .map(r -> r.results().get(0));
                             }
                         },
@@ -437,6 +736,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsync<GenerateImagesResponse>() {
             @Override
             public GenerateImagesResponse execute() {
+                acquire(generateImagesRequest);
                 return restApi.blockingImagesGenerations(generateImagesRequest,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .apiKey(apiKey)
@@ -451,12 +751,12 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<GenerateImagesResponse> get() {
-                                return restApi.imagesGenerations(generateImagesRequest,
+                                return throttle(generateImagesRequest, restApi.imagesGenerations(generateImagesRequest,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .apiKey(apiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()));
                             }
                         },
                         responseHandler);
@@ -566,9 +866,9 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         private final StreamingResultErrorHandling<RESPONSE> resultHandling;
 
         public StreamingResponseHandlingImpl(Supplier<Multi<RESPONSE>> multiSupplier,
-                Consumer<RESPONSE> partialResponseHandler) {
+                Consumer<RESPONSE> partialResponseHandler, String provider, Integer maxTokens) {
             resultHandling = new StreamingResultErrorHandling<>(multiSupplier, partialResponseHandler, completeHandlerRef,
-                    errorHandlerRef);
+                    errorHandlerRef, provider, maxTokens);
         }
 
         @Override
@@ -595,26 +895,132 @@ public class QuarkusOpenAiClient extends OpenAiClient {
             private final Consumer<RESPONSE> partialResponseHandler;
             private final AtomicReference<Runnable> completeHandlerRef;
             private final AtomicReference<Consumer<Throwable>> errorHandlerRef;
+            private final String provider;
+            private final Integer maxTokens;
 
             public StreamingResultErrorHandling(Supplier<Multi<RESPONSE>> multiSupplier,
                     Consumer<RESPONSE> partialResponseHandler, AtomicReference<Runnable> completeHandlerRef,
-                    AtomicReference<Consumer<Throwable>> errorHandlerRef) {
+                    AtomicReference<Consumer<Throwable>> errorHandlerRef, String provider, Integer maxTokens) {
                 this.multiSupplier = multiSupplier;
                 this.partialResponseHandler = partialResponseHandler;
                 this.completeHandlerRef = completeHandlerRef;
                 this.errorHandlerRef = errorHandlerRef;
+                this.provider = provider;
+                this.maxTokens = maxTokens;
             }
 
             @Override
             public ResponseHandle execute() {
-                var cancellable = multiSupplier.get()
-                        .subscribe()
-                        .with(partialResponseHandler, errorHandlerRef.get(), completeHandlerRef.get());
-                return new ResponseHandleImpl(cancellable);
+                StreamingCancellation cancellation = StreamingCancellation.current();
+                if (cancellation == null) {
+                    var cancellable = multiSupplier.get()
+                            .subscribe()
+                            .with(partialResponseHandler, errorHandlerRef.get(), completeHandlerRef.get());
+                    return new ResponseHandleImpl(cancellable);
+                }
+                if (cancellation.isCancelled()) {
+                    // the application is not interested in the response anymore, so the request is not sent
+                    AbortedStreams.record(provider, 0, maxTokens);
+                    return new ResponseHandleImpl(NoopCancellable.INSTANCE);
+                }
+                return new ResponseHandleImpl(new CancellableStream<>(this, cancellation).start());
             }
         }
     }
 
+    /**
+     * A stream attached to a {@link StreamingCancellation}: cancelling it closes the connection and is counted as an
+     * aborted stream, and its callbacks run in the cancellation so that the streams they start are attached to it too
+     */
+    private static class CancellableStream<RESPONSE> implements Runnable, Cancellable {
+
+        private final StreamingResponseHandlingImpl.StreamingResultErrorHandling<RESPONSE> handling;
+        private final StreamingCancellation cancellation;
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private final AtomicLong received = new AtomicLong();
+        private volatile Cancellable subscription;
+
+        private CancellableStream(StreamingResponseHandlingImpl.StreamingResultErrorHandling<RESPONSE> handling,
+                StreamingCancellation cancellation) {
+            this.handling = handling;
+            this.cancellation = cancellation;
+        }
+
+        CancellableStream<RESPONSE> start() {
+            Consumer<Throwable> errorHandler = handling.errorHandlerRef.get();
+            Runnable completeHandler = handling.completeHandlerRef.get();
+            subscription = handling.multiSupplier.get()
+                    .subscribe()
+                    .with(new Consumer<RESPONSE>() {
+                        @Override
+                        public void accept(RESPONSE response) {
+                            received.incrementAndGet();
+                            cancellation.run(() -> handling.partialResponseHandler.accept(response));
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            if (terminate()) {
+                                cancellation.run(() -> errorHandler.accept(failure));
+                            }
+                        }
+                    }, new Runnable() {
+                        @Override
+                        public void run() {
+                            if (terminate()) {
+                                cancellation.run(completeHandler);
+                            }
+                        }
+                    });
+            // registered once subscribed, so that a cancellation always has a subscription to cancel
+            cancellation.onCancel(this);
+            if (terminated.get()) {
+                cancellation.remove(this);
+            }
+            return this;
+        }
+
+        private boolean terminate() {
+            if (!terminated.compareAndSet(false, true)) {
+                return false;
+            }
+            cancellation.remove(this);
+            return true;
+        }
+
+        /**
+         * Called when the cancellation is cancelled
+         */
+        @Override
+        public void run() {
+            if (terminated.compareAndSet(false, true)) {
+                subscription.cancel();
+                AbortedStreams.record(handling.provider, received.get(), handling.maxTokens);
+                log.debugf("Cancelled a %s stream after %d responses", handling.provider, received.get());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (terminate()) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    private static class NoopCancellable implements Cancellable {
+
+        private static final NoopCancellable INSTANCE = new NoopCancellable();
+
+        private NoopCancellable() {
+        }
+
+        @Override
+        public void cancel() {
+
+        }
+    }
+
     private static class NoopErrorHandler implements Consumer<Throwable> {
 
         private static final NoopErrorHandler INSTANCE = new NoopErrorHandler();
@@ -0,0 +1,499 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+import org.jboss.logging.Logger;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import dev.ai4j.openai4j.chat.AssistantMessage;
+import dev.ai4j.openai4j.chat.ChatCompletionRequest;
+import dev.ai4j.openai4j.chat.FunctionMessage;
+import dev.ai4j.openai4j.chat.Message;
+import dev.ai4j.openai4j.chat.SystemMessage;
+import dev.ai4j.openai4j.chat.ToolMessage;
+import dev.ai4j.openai4j.chat.UserMessage;
+import dev.ai4j.openai4j.completion.CompletionRequest;
+import dev.ai4j.openai4j.embedding.EmbeddingRequest;
+import dev.ai4j.openai4j.image.GenerateImagesRequest;
+import dev.ai4j.openai4j.moderation.ModerationRequest;
+import io.quarkiverse.langchain4j.runtime.metrics.Meters;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Paces the requests sent with an API key according to the rate limits reported by the provider.
+ * <p>
+ * Each model has a budget of requests and a budget of tokens, which are token buckets synchronized with the
+ * {@code x-ratelimit-limit-*}, {@code x-ratelimit-remaining-*} and {@code x-ratelimit-reset-*} headers of its responses.
+ * The buckets are refilled at the rate implied by the reset headers, or at the limit per minute when the provider
+ * does not send them, as Azure OpenAI does. Before being sent, a request reserves one request and an estimate of its
+ * tokens, i.e. a quarter of the characters of its prompt plus its maximum number of generated tokens, and waits for them
+ * to be available. A request that would wait longer than the maximum wait, or while the queue is full, fails with a
+ * {@code 429} error without being sent. Nothing is limited until the first response of a model is received.
+ * <p>
+ * When {@code quarkus-micrometer} is present, the requests waiting and the requests rejected are measured by the
+ * {@code langchain4j.rate.limiter.queue} and {@code langchain4j.rate.limiter.rejected} metrics.
+ */
+public final class RateLimiter {
+
+    private static final Logger log = Logger.getLogger(RateLimiter.class);
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    // the limits are enforced by the provider per API key, so the clients using the same API key share the limiter
+    private static final Map<String, RateLimiter> INSTANCES = new ConcurrentHashMap<>();
+    private static final Map<String, ProviderStats> STATS = new ConcurrentHashMap<>();
+
+    private final Map<String, Buckets> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ProviderStats stats;
+    private final long maxWait;
+    private final int maxQueueSize;
+
+    RateLimiter(String provider, RateLimiterConfig config) {
+        this.stats = STATS.computeIfAbsent(provider, new Function<>() {
+            @Override
+            public ProviderStats apply(String provider) {
+                ProviderStats result = new ProviderStats();
+                Meters.gauge("langchain4j.rate.limiter.queue", result.waiting, AtomicInteger::get, "provider", provider);
+                Meters.functionCounter("langchain4j.rate.limiter.rejected", result.rejected, LongAdder::sum,
+                        "provider", provider);
+                return result;
+            }
+        });
+        this.maxWait = config.maxWait().toNanos();
+        this.maxQueueSize = config.maxQueueSize();
+    }
+
+    /**
+     * @return the limiter of the requests sent with {@code apiKey} to {@code baseUrl}, or {@code null} if the requests
+     *         must not be limited
+     */
+    public static RateLimiter get(String provider, String baseUrl, String apiKey, RateLimiterConfig config) {
+        if (config == null || !config.enabled()) {
+            return null;
+        }
+        return INSTANCES.computeIfAbsent(baseUrl + '\n' + apiKey, new Function<>() {
+            @Override
+            public RateLimiter apply(String key) {
+                return new RateLimiter(provider, config);
+            }
+        });
+    }
+
+    public static void clear() {
+        INSTANCES.clear();
+        STATS.clear();
+    }
+
+    /**
+     * @return the number of requests currently waiting for the rate limit
+     */
+    public int queueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * Blocks until {@code request} can be sent
+     *
+     * @throws OpenAiHttpException with the {@code 429} status if the request must not be sent
+     */
+    public void acquire(Object request) {
+        long wait = reserve(request).wait;
+        if (wait == 0) {
+            return;
+        }
+        try {
+            long deadline = System.nanoTime() + wait;
+            long remaining = wait;
+            while (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new OpenAiHttpException(429, "Interrupted while waiting for the rate limit");
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        } finally {
+            released();
+        }
+    }
+
+    /**
+     * @return a {@link Uni} subscribing to {@code call} when {@code request} can be sent, or failing with an
+     *         {@link OpenAiHttpException} with the {@code 429} status if the request must not be sent. The budgets
+     *         reserved for the request are given back if the {@link Uni} is cancelled while waiting, but not once
+     *         {@code call} has been subscribed, as the request is then billed by the provider.
+     */
+    public <T> Uni<T> throttle(Object request, Uni<T> call) {
+        return Uni.createFrom().deferred(() -> {
+            Reservation reservation = reserve(request);
+            return delay(reservation).onCancellation().invoke(reservation::cancel)
+                    .replaceWith(call);
+        });
+    }
+
+    /**
+     * @return a {@link Multi} subscribing to {@code call} when {@code request} can be sent, or failing with an
+     *         {@link OpenAiHttpException} with the {@code 429} status if the request must not be sent. The budgets
+     *         reserved for the request are given back if the {@link Multi} is cancelled while waiting, but not once
+     *         {@code call} has been subscribed, as the request is then billed by the provider.
+     */
+    public <T> Multi<T> throttle(Object request, Multi<T> call) {
+        return Multi.createFrom().deferred(() -> {
+            Reservation reservation = reserve(request);
+            return delay(reservation).onCancellation().invoke(reservation::cancel)
+                    .onItem().transformToMulti(ignored -> call);
+        });
+    }
+
+    private Uni<Void> delay(Reservation reservation) {
+        if (reservation.wait == 0) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem()
+                .onItem().delayIt().by(Duration.ofNanos(reservation.wait))
+                .onTermination().invoke(this::released);
+    }
+
+    /**
+     * Reserves the request and the tokens of {@code request}, and counts it as waiting if it has to wait for them
+     *
+     * @return the reservation, with how long to wait for it in nanoseconds
+     */
+    private Reservation reserve(Object request) {
+        String model = model(request);
+        Buckets modelBuckets = buckets.get(model);
+        if (modelBuckets == null) {
+            // the limits are not known until the first response
+            return Reservation.NONE;
+        }
+        int tokens = estimateTokens(request);
+        long wait = modelBuckets.reserve(tokens, System.nanoTime(), maxWait);
+        if (wait < 0) {
+            stats.rejected.increment();
+            throw new OpenAiHttpException(429,
+                    "The rate limit of model '" + model + "' would be exceeded for longer than the maximum wait");
+        }
+        if (wait > 0) {
+            if (waiting.incrementAndGet() > maxQueueSize) {
+                waiting.decrementAndGet();
+                modelBuckets.cancel(tokens);
+                stats.rejected.increment();
+                throw new OpenAiHttpException(429,
+                        "Too many requests are waiting for the rate limit of model '" + model + "'");
+            }
+            stats.waiting.incrementAndGet();
+        }
+        return new Reservation(modelBuckets, tokens, wait);
+    }
+
+    private void released() {
+        waiting.decrementAndGet();
+        stats.waiting.decrementAndGet();
+    }
+
+    /**
+     * Synchronizes the budgets of the model of {@code request} with the headers of its response
+     */
+    void update(Object request, int status, Function<String, String> headers) {
+        Buckets modelBuckets = buckets.computeIfAbsent(model(request), new Function<>() {
+            @Override
+            public Buckets apply(String model) {
+                return new Buckets();
+            }
+        });
+        long now = System.nanoTime();
+        modelBuckets.update(headers, now);
+        if (status == 429) {
+            long retryAfter = retryAfter(headers);
+            if (retryAfter > 0) {
+                modelBuckets.block(now + retryAfter);
+            }
+        }
+    }
+
+    static String model(Object request) {
+        String result = null;
+        if (request instanceof ChatCompletionRequest r) {
+            result = r.model();
+        } else if (request instanceof EmbeddingRequest r) {
+            result = r.model();
+        } else if (request instanceof OpenAiRestApi.Base64EmbeddingRequest r) {
+            // the entity the response filter sees when the embeddings are requested as base64
+            result = r.model();
+        } else if (request instanceof CompletionRequest r) {
+            result = r.model();
+        } else if (request instanceof ModerationRequest r) {
+            result = r.model();
+        } else if (request instanceof GenerateImagesRequest) {
+            // the model of an image request is not exposed, the image models share a budget
+            result = "images";
+        }
+        // Azure OpenAI identifies the model by the base URL
+        return result != null ? result : "";
+    }
+
+    /**
+     * @return the number of tokens the provider counts for {@code request}, estimated from the length of its prompt
+     */
+    static int estimateTokens(Object request) {
+        long chars = 0;
+        Integer maxTokens = null;
+        if (request instanceof ChatCompletionRequest r) {
+            for (Message message : r.messages()) {
+                chars += 16 + length(message);
+            }
+            maxTokens = r.maxTokens();
+        } else if (request instanceof EmbeddingRequest r) {
+            chars = length(r.input());
+        } else if (request instanceof OpenAiRestApi.Base64EmbeddingRequest r) {
+            chars = length(r.input());
+        } else if (request instanceof CompletionRequest r) {
+            chars = r.prompt() != null ? r.prompt().length() : 0;
+            maxTokens = r.maxTokens();
+        } else if (request instanceof ModerationRequest r) {
+            chars = length(r.input());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars / 4 + (maxTokens != null ? maxTokens : 0));
+    }
+
+    private static int length(Message message) {
+        String content = null;
+        if (message instanceof UserMessage m) {
+            content = m.content() instanceof String s ? s : null;
+        } else if (message instanceof AssistantMessage m) {
+            content = m.content();
+        } else if (message instanceof SystemMessage m) {
+            content = m.content();
+        } else if (message instanceof ToolMessage m) {
+            content = m.content();
+        } else if (message instanceof FunctionMessage m) {
+            content = m.content();
+        }
+        return content != null ? content.length() : 0;
+    }
+
+    private static long length(List<String> input) {
+        long result = 0;
+        if (input != null) {
+            for (String text : input) {
+                result += text.length();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the duration of a {@code x-ratelimit-reset-*} header such as {@code 6m0s} or {@code 20ms} in nanoseconds,
+     *         or {@code -1} if it cannot be parsed
+     */
+    static long parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        Matcher matcher = DURATION.matcher(value);
+        double result = 0;
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            double amount = Double.parseDouble(matcher.group(1));
+            result += switch (matcher.group(2)) {
+                case "h" -> amount * TimeUnit.HOURS.toNanos(1);
+                case "m" -> amount * MINUTE;
+                case "s" -> amount * TimeUnit.SECONDS.toNanos(1);
+                default -> amount * TimeUnit.MILLISECONDS.toNanos(1);
+            };
+            end = matcher.end();
+        }
+        return end == value.length() ? (long) result : -1;
+    }
+
+    private static long retryAfter(Function<String, String> headers) {
+        try {
+            String millis = headers.apply("retry-after-ms");
+            if (millis != null) {
+                return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(millis.trim()));
+            }
+            String seconds = headers.apply("retry-after");
+            if (seconds != null) {
+                return TimeUnit.SECONDS.toNanos(Long.parseLong(seconds.trim()));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Unable to parse the retry delay of a rate limited response", e);
+        }
+        return -1;
+    }
+
+    private static double parseNumber(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The budgets of a model
+     */
+    private static final class Buckets {
+
+        private final Bucket requests = new Bucket();
+        private final Bucket tokens = new Bucket();
+        private long blockedUntil;
+
+        synchronized long reserve(int tokenCount, long now, long maxWait) {
+            long wait = Math.max(Math.max(requests.waitFor(1, now), tokens.waitFor(tokenCount, now)), blockedUntil - now);
+            if (wait > maxWait) {
+                return -1;
+            }
+            requests.take(1);
+            tokens.take(tokenCount);
+            return Math.max(wait, 0);
+        }
+
+        synchronized void cancel(int tokenCount) {
+            requests.take(-1);
+            tokens.take(-tokenCount);
+        }
+
+        synchronized void block(long until) {
+            blockedUntil = Math.max(blockedUntil, until);
+        }
+
+        synchronized void update(Function<String, String> headers, long now) {
+            requests.update(parseNumber(headers.apply("x-ratelimit-limit-requests")),
+                    parseNumber(headers.apply("x-ratelimit-remaining-requests")),
+                    parseDuration(headers.apply("x-ratelimit-reset-requests")), now);
+            tokens.update(parseNumber(headers.apply("x-ratelimit-limit-tokens")),
+                    parseNumber(headers.apply("x-ratelimit-remaining-tokens")),
+                    parseDuration(headers.apply("x-ratelimit-reset-tokens")), now);
+        }
+    }
+
+    /**
+     * The request and the tokens reserved by a request in the budgets of its model
+     */
+    private static final class Reservation {
+
+        static final Reservation NONE = new Reservation(null, 0, 0);
+
+        private final Buckets buckets;
+        private final int tokens;
+        private final long wait;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Reservation(Buckets buckets, int tokens, long wait) {
+            this.buckets = buckets;
+            this.tokens = tokens;
+            this.wait = wait;
+        }
+
+        void cancel() {
+            if (buckets != null && cancelled.compareAndSet(false, true)) {
+                buckets.cancel(tokens);
+            }
+        }
+    }
+
+    /**
+     * A token bucket whose level can be negative, as requests reserve their cost before waiting for it
+     */
+    private static final class Bucket {
+
+        // unknown until a response reports the remaining budget
+        private double limit = -1;
+        private double available;
+        private double ratePerNano;
+        private long updated;
+
+        private void refill(long now) {
+            available = Math.min(limit, available + (now - updated) * ratePerNano);
+            updated = now;
+        }
+
+        long waitFor(double cost, long now) {
+            if (limit < 0) {
+                return 0;
+            }
+            refill(now);
+            // a cost above the limit can never be available, the provider rejects it anyway
+            double missing = Math.min(cost, limit) - available;
+            if (missing <= 0) {
+                return 0;
+            }
+            return ratePerNano > 0 ? (long) Math.ceil(missing / ratePerNano) : Long.MAX_VALUE;
+        }
+
+        void take(double cost) {
+            if (limit >= 0) {
+                available -= cost;
+            }
+        }
+
+        void update(double newLimit, double remaining, long reset, long now) {
+            if (remaining < 0) {
+                return;
+            }
+            if (newLimit < remaining) {
+                // Azure OpenAI only reports the remaining budget
+                newLimit = Math.max(limit, remaining);
+            }
+            if (limit < 0) {
+                available = remaining;
+            } else {
+                refill(now);
+                // the response does not account for the requests sent since, so the budget is only ever lowered
+                available = Math.min(available, remaining);
+            }
+            limit = newLimit;
+            updated = now;
+            ratePerNano = reset > 0 && newLimit > remaining ? (newLimit - remaining) / reset : newLimit / MINUTE;
+        }
+    }
+
+    private static final class ProviderStats {
+
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder rejected = new LongAdder();
+    }
+
+    /**
+     * Feeds the limiter with the headers of the responses
+     */
+    static final class ResponseFilter implements ClientResponseFilter {
+
+        private final RateLimiter limiter;
+
+        ResponseFilter(RateLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+            if (responseContext.getHeaders() == null) {
+                // the request was cancelled before its response, as the losing request of a hedged call is
+                return;
+            }
+            limiter.update(requestContext.getEntity(), responseContext.getStatus(), responseContext::getHeaderString);
+        }
+    }
+}
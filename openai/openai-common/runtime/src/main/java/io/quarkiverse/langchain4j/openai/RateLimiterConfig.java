@@ -0,0 +1,36 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Settings of the client-side rate limiter, which paces the requests sent with an API key to a model according to the
+ * rate limits reported by the provider
+ */
+@ConfigGroup
+public interface RateLimiterConfig {
+
+    /**
+     * Whether the requests are paced according to the {@code x-ratelimit-*} headers of the responses.
+     * When the remaining requests or tokens of a model are exhausted, the requests wait for them to be replenished
+     * instead of being rejected by the provider.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum time a request waits for the rate limit.
+     * A request that would wait longer fails immediately with a {@code 429} error, without being sent.
+     */
+    @WithDefault("10s")
+    Duration maxWait();
+
+    /**
+     * The maximum number of requests waiting for the rate limit of a model.
+     * When the queue is full, requests fail immediately with a {@code 429} error, without being sent.
+     */
+    @WithDefault("100")
+    int maxQueueSize();
+}
@@ -0,0 +1,109 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import dev.ai4j.openai4j.chat.AssistantMessage;
+import dev.ai4j.openai4j.chat.ChatCompletionChoice;
+import dev.ai4j.openai4j.chat.ChatCompletionResponse;
+import dev.ai4j.openai4j.chat.Delta;
+import dev.ai4j.openai4j.chat.Role;
+import dev.ai4j.openai4j.chat.ToolCall;
+
+/**
+ * Converts chat completion responses from and to the chunks of a streamed response, so that cached responses can be
+ * used whether they are requested with streaming or not
+ */
+final class StreamedResponses {
+
+    private StreamedResponses() {
+    }
+
+    /**
+     * @return the chunks a server would have streamed for {@code response}: the whole message, then the finish reason
+     */
+    static List<ChatCompletionResponse> replay(ChatCompletionResponse response) {
+        ChatCompletionChoice choice = response.choices().get(0);
+        AssistantMessage message = choice.message();
+        Delta.Builder delta = Delta.builder().role(Role.ASSISTANT);
+        if (message != null) {
+            delta.content(message.content()).functionCall(message.functionCall());
+            if (message.toolCalls() != null) {
+                List<ToolCall> toolCalls = new ArrayList<>(message.toolCalls().size());
+                for (int i = 0; i < message.toolCalls().size(); i++) {
+                    ToolCall toolCall = message.toolCalls().get(i);
+                    // the chunks of the tool calls are correlated by their index
+                    toolCalls.add(ToolCall.builder().index(i).id(toolCall.id()).type(toolCall.type())
+                            .function(toolCall.function()).build());
+                }
+                delta.toolCalls(toolCalls);
+            }
+        }
+        return List.of(
+                chunk(response).choices(List.of(ChatCompletionChoice.builder().index(0).delta(delta.build()).build()))
+                        .build(),
+                chunk(response).choices(List.of(ChatCompletionChoice.builder().index(0)
+                        .delta(Delta.builder().build()).finishReason(choice.finishReason()).build()))
+                        .usage(response.usage())
+                        .build());
+    }
+
+    private static ChatCompletionResponse.Builder chunk(ChatCompletionResponse response) {
+        return ChatCompletionResponse.builder().id(response.id()).created(response.created()).model(response.model())
+                .systemFingerprint(response.systemFingerprint());
+    }
+
+    /**
+     * Assembles the chunks of a streamed response into the response that would have been received without streaming.
+     * Only text responses are assembled, as the chunks of function and tool calls are not worth reassembling.
+     */
+    static final class Collector implements Consumer<ChatCompletionResponse> {
+
+        private final StringBuilder content = new StringBuilder();
+        private ChatCompletionResponse first;
+        private String finishReason;
+        private boolean assemblable = true;
+
+        @Override
+        public void accept(ChatCompletionResponse chunk) {
+            if (first == null) {
+                first = chunk;
+            }
+            if (chunk.choices() == null || chunk.choices().isEmpty()) {
+                return;
+            }
+            if (chunk.choices().size() > 1) {
+                assemblable = false;
+                return;
+            }
+            ChatCompletionChoice choice = chunk.choices().get(0);
+            if (choice.finishReason() != null) {
+                finishReason = choice.finishReason();
+            }
+            Delta delta = choice.delta();
+            if (delta == null) {
+                return;
+            }
+            if (delta.toolCalls() != null || delta.functionCall() != null) {
+                assemblable = false;
+            }
+            if (delta.content() != null) {
+                content.append(delta.content());
+            }
+        }
+
+        /**
+         * @return the assembled response, or {@code null} if the stream was incomplete or could not be assembled
+         */
+        ChatCompletionResponse response() {
+            if (!assemblable || first == null || finishReason == null) {
+                return null;
+            }
+            return chunk(first)
+                    .choices(List.of(ChatCompletionChoice.builder().index(0)
+                            .message(AssistantMessage.from(content.toString())).finishReason(finishReason).build()))
+                    .build();
+        }
+    }
+}
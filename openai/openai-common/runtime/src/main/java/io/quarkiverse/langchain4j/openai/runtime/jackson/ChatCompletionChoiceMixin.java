@@ -1,5 +1,6 @@
 package io.quarkiverse.langchain4j.openai.runtime.jackson;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import dev.ai4j.openai4j.chat.ChatCompletionChoice;
@@ -7,5 +8,6 @@ import io.quarkus.jackson.JacksonMixin;
 
 @JacksonMixin(ChatCompletionChoice.class)
 @JsonDeserialize(builder = ChatCompletionChoice.Builder.class)
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 public abstract class ChatCompletionChoiceMixin {
 }
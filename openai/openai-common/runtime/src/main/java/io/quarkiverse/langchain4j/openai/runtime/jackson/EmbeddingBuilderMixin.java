@@ -1,5 +1,8 @@
 package io.quarkiverse.langchain4j.openai.runtime.jackson;
 
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
 import dev.ai4j.openai4j.embedding.Embedding;
@@ -8,4 +11,7 @@ import io.quarkus.jackson.JacksonMixin;
 @JacksonMixin(Embedding.Builder.class)
 @JsonPOJOBuilder(withPrefix = "")
 public abstract class EmbeddingBuilderMixin {
+
+    @JsonDeserialize(using = EmbeddingVectorDeserializer.class)
+    public abstract Embedding.Builder embedding(List<Float> embedding);
 }
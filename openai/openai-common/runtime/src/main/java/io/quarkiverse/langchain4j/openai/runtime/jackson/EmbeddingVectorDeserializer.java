@@ -0,0 +1,74 @@
+package io.quarkiverse.langchain4j.openai.runtime.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads the vector of an embedding into a {@code float[]}, whether it is sent as an array of numbers or, when the
+ * request asks for the {@code base64} encoding format, as a base64 string of packed little-endian float32 values.
+ * <p>
+ * The vector is exposed as a read-only {@link List} backed by the array, so that its values are not boxed while they are
+ * read.
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<List<Float>> {
+
+    public EmbeddingVectorDeserializer() {
+        super(List.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Float> deserialize(JsonParser jp, DeserializationContext deserializationContext)
+            throws IOException, JacksonException {
+        if (jp.currentToken() == JsonToken.VALUE_STRING) {
+            // decoded from the buffer of the parser, without creating a String
+            ByteBuffer bytes = ByteBuffer.wrap(jp.getBinaryValue()).order(ByteOrder.LITTLE_ENDIAN);
+            float[] vector = new float[bytes.remaining() / Float.BYTES];
+            bytes.asFloatBuffer().get(vector);
+            return new FloatArrayList(vector);
+        }
+        if (jp.currentToken() != JsonToken.START_ARRAY) {
+            return (List<Float>) deserializationContext.handleUnexpectedToken(List.class, jp);
+        }
+        // the size of the embeddings of most models
+        float[] vector = new float[1536];
+        int size = 0;
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, size * 2);
+            }
+            vector[size++] = jp.getFloatValue();
+        }
+        return new FloatArrayList(size == vector.length ? vector : Arrays.copyOf(vector, size));
+    }
+
+    private static final class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+
+        private final float[] values;
+
+        private FloatArrayList(float[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Float get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -71,6 +71,8 @@ public class OpenAiProcessor {
             Optional<SelectedImageModelProviderBuildItem> selectedImage,
             Langchain4jOpenAiConfig config,
             BuildProducer<SyntheticBeanBuildItem> beanProducer) {
+        recorder.httpClient(config);
+
         if (selectedChatItem.isPresent() && PROVIDER.equals(selectedChatItem.get().getProvider())) {
             beanProducer.produce(SyntheticBeanBuildItem
                     .configure(CHAT_MODEL)
@@ -0,0 +1,112 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.ai4j.openai4j.embedding.EmbeddingRequest;
+import dev.ai4j.openai4j.embedding.EmbeddingResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkiverse.langchain4j.openai.OpenAiRestApi;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class Base64EmbeddingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:8089/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.embedding-model.encoding-format", "base64")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.max-wait", "1s");
+
+    private static final String RESPONSE = """
+            {"object":"list","data":[{"object":"embedding","index":0,"embedding":"%s"}],\
+            "model":"text-embedding-ada-002","usage":{"prompt_tokens":2,"total_tokens":2}}""";
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    EmbeddingModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void embeddings_should_be_requested_and_decoded_as_base64() {
+        ByteBuffer vector = ByteBuffer.allocate(3 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putFloat(0.5f).putFloat(-1.25f).putFloat(3.0e-7f);
+        wireMockServer.stubFor(post(urlEqualTo("/v1/embeddings"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(RESPONSE.formatted(Base64.getEncoder().encodeToString(vector.array())))));
+
+        assertThat(model.embed("Hello world").content().vector()).containsExactly(0.5f, -1.25f, 3.0e-7f);
+
+        wireMockServer.verify(postRequestedFor(urlEqualTo("/v1/embeddings"))
+                .withRequestBody(equalToJson("{\"encoding_format\":\"base64\",\"input\":[\"Hello world\"]}", true, true)));
+    }
+
+    @Test
+    void rate_limits_of_base64_embeddings_should_apply_to_their_model() {
+        ByteBuffer vector = ByteBuffer.allocate(Float.BYTES).order(ByteOrder.LITTLE_ENDIAN).putFloat(0.5f);
+        // 1 request per minute
+        wireMockServer.stubFor(post(urlEqualTo("/v1/embeddings"))
+                .withRequestBody(containing("\"limited\""))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("x-ratelimit-limit-requests", "1")
+                        .withHeader("x-ratelimit-remaining-requests", "0")
+                        .withHeader("x-ratelimit-reset-requests", "1m")
+                        .withBody(RESPONSE.formatted(Base64.getEncoder().encodeToString(vector.array())))));
+        QuarkusOpenAiClient client = QuarkusOpenAiClient.builder().baseUrl("http://localhost:8089/v1")
+                .openAiApiKey(WiremockUtils.DEFAULT_TOKEN).build();
+        EmbeddingRequest request = EmbeddingRequest.builder().model("limited").input("Hello").build();
+
+        assertThat(client.embedding(request).execute().embedding()).containsExactly(0.5f);
+        assertThatThrownBy(() -> client.embedding(request).execute()).hasStackTraceContaining("rate limit");
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/embeddings"))
+                .withRequestBody(containing("\"limited\"")));
+    }
+
+    @Test
+    void embeddings_sent_as_arrays_should_still_be_decoded() throws JsonProcessingException {
+        EmbeddingResponse response = OpenAiRestApi.ObjectMapperHolder.MAPPER.readValue(
+                RESPONSE.replace("\"%s\"", "[0.5,-1.25,3.0E-7]"), EmbeddingResponse.class);
+
+        assertThat(response.embedding()).containsExactly(0.5f, -1.25f, 3.0e-7f);
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.ai4j.openai4j.chat.ChatCompletionResponse;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.openai.ChatCompletionChunkDecoder;
+import io.quarkiverse.langchain4j.openai.OpenAiApiException;
+import io.quarkiverse.langchain4j.openai.OpenAiRestApi;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ChatCompletionChunkDecoderTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class));
+
+    private static final String CONTENT_CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo-0613",\
+            "system_fingerprint":"fp_44709d6fcb","choices":[{"index":0,"delta":{"content":" world"},"logprobs":null,\
+            "finish_reason":null}]}""";
+    private static final String TOOL_CALL_CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo-0613",\
+            "choices":[{"index":0,"delta":{"role":"assistant","content":null,"tool_calls":[{"index":0,\
+            "id":"call_abc","type":"function","function":{"name":"getWeather","arguments":"{\\"city\\":"}}]},\
+            "finish_reason":null}]}""";
+    private static final String LAST_CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo-0613",\
+            "choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}""";
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void should_decode_like_the_object_mapper() throws Exception {
+        ObjectReader reader = OpenAiRestApi.ObjectMapperHolder.MAPPER.readerFor(ChatCompletionResponse.class);
+
+        try (ChatCompletionChunkDecoder decoder = new ChatCompletionChunkDecoder()) {
+            for (String chunk : new String[] { CONTENT_CHUNK, TOOL_CALL_CHUNK, CONTENT_CHUNK.replace(" world", " wörld ✓"),
+                    LAST_CHUNK + "\n" }) {
+                assertThat(decoder.decode(chunk)).isEqualTo(reader.readValue(chunk));
+            }
+            assertThatThrownBy(() -> decoder.decode("{\"error\":{\"message\":\"Too many requests\"}}"))
+                    .isInstanceOf(OpenAiApiException.class);
+        }
+    }
+
+    @Test
+    void should_stream_content() throws Exception {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(com.github.tomakehurst.wiremock.client.WireMock.aResponse()
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody("data: " + CONTENT_CHUNK.replace(" world", "Hello") + "\n\n"
+                                + "data: " + CONTENT_CHUNK + "\n\n"
+                                + "data: " + LAST_CHUNK + "\n\n"
+                                + "data: [DONE]\n\n")));
+        CompletableFuture<Response<AiMessage>> streamed = new CompletableFuture<>();
+        StringBuilder tokens = new StringBuilder();
+
+        OpenAiStreamingChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey(WiremockUtils.DEFAULT_TOKEN).build()
+                .generate("Say hello", new StreamingResponseHandler<>() {
+                    @Override
+                    public void onNext(String token) {
+                        tokens.append(token).append('|');
+                    }
+
+                    @Override
+                    public void onComplete(Response<AiMessage> response) {
+                        streamed.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        streamed.completeExceptionally(error);
+                    }
+                });
+
+        assertThat(streamed.get(10, TimeUnit.SECONDS).content().text()).isEqualTo("Hello world");
+        assertThat(tokens.toString()).isEqualTo("Hello| world|");
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.hedging.Hedger;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class HedgingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.hedging.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.hedging.min-delay", "300ms")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.enabled", "true")
+            // the cancelled requests must not make the response filters fail
+            .setLogRecordPredicate(r -> r.getLevel().intValue() >= Level.WARNING.intValue())
+            .assertLogRecords(records -> assertThat(records).extracting(LogRecord::getMessage).isEmpty());
+
+    private static final String RESPONSE = """
+            {"id":"chatcmpl-123","object":"chat.completion","created":1694268190,"model":"gpt-3.5-turbo",\
+            "choices":[{"index":0,"message":{"role":"assistant","content":"Hello"},"finish_reason":"stop"}],\
+            "usage":{"prompt_tokens":10,"completion_tokens":1,"total_tokens":11}}""";
+
+    private static final String CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo",\
+            "choices":[{"index":0,"delta":{"content":"Hello"},"finish_reason":null}]}""";
+
+    private static final String LAST_CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo",\
+            "choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}""";
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void slow_requests_should_be_hedged() {
+        stubSlowThenFast("blocking", aResponse().withHeader("Content-Type", "application/json").withBody(RESPONSE));
+        long hedges = Hedger.hedges("openai");
+
+        long start = System.nanoTime();
+        String response = OpenAiChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey(WiremockUtils.DEFAULT_TOKEN)
+                .maxRetries(1).build()
+                .generate("Hello blocking");
+
+        assertThat(response).isEqualTo("Hello");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(3));
+        assertThat(Hedger.hedges("openai")).isEqualTo(hedges + 1);
+    }
+
+    @Test
+    void streams_without_first_token_should_be_hedged() throws Exception {
+        stubSlowThenFast("streaming", aResponse().withHeader("Content-Type", "text/event-stream")
+                .withBody("data: " + CHUNK + "\n\n" + "data: " + LAST_CHUNK + "\n\n" + "data: [DONE]\n\n"));
+        long hedges = Hedger.hedges("openai");
+        CompletableFuture<Response<AiMessage>> streamed = new CompletableFuture<>();
+        StringBuilder tokens = new StringBuilder();
+
+        OpenAiStreamingChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey(WiremockUtils.DEFAULT_TOKEN)
+                .build()
+                .generate("Hello streaming", new StreamingResponseHandler<>() {
+                    @Override
+                    public void onNext(String token) {
+                        tokens.append(token);
+                    }
+
+                    @Override
+                    public void onComplete(Response<AiMessage> response) {
+                        streamed.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        streamed.completeExceptionally(error);
+                    }
+                });
+
+        assertThat(streamed.get(3, TimeUnit.SECONDS).content().text()).isEqualTo("Hello");
+        assertThat(tokens.toString()).isEqualTo("Hello");
+        assertThat(Hedger.hedges("openai")).isEqualTo(hedges + 1);
+    }
+
+    /**
+     * The first request with the prompt "Hello {@code name}" responds after 10 seconds, the next ones immediately.
+     * Which of the original and duplicate requests reaches the server first is not deterministic, so the tests do not
+     * check which one wins.
+     */
+    private static void stubSlowThenFast(String name, ResponseDefinitionBuilder response) {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .withRequestBody(containing("Hello " + name))
+                .inScenario(name).whenScenarioStateIs(STARTED).willSetStateTo("slow")
+                .willReturn(response.but().withFixedDelay(10_000)));
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .withRequestBody(containing("Hello " + name))
+                .inScenario(name).whenScenarioStateIs("slow")
+                .willReturn(response.but().withFixedDelay(0)));
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class HttpClientConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.http.max-pool-size", "1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.http.max-wait-queue-size", "0");
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void requests_should_not_wait_for_a_connection_beyond_the_queue_size() throws Exception {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Hello"));
+        wireMockServer.setGlobalFixedDelay(2000);
+        ChatLanguageModel model = OpenAiChatModel.builder().baseUrl("http://localhost:8089/v1")
+                .apiKey(WiremockUtils.DEFAULT_TOKEN).maxRetries(1).build();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> model.generate("Hello"));
+        while (wireMockServer.getAllServeEvents().isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        // the only connection of the pool is used by the first request
+        assertThatThrownBy(() -> model.generate("Hello")).hasStackTraceContaining("max wait queue size");
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("Hello");
+    }
+}
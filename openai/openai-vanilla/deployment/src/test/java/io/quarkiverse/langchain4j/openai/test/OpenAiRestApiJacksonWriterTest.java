@@ -0,0 +1,79 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static dev.ai4j.openai4j.chat.JsonSchemaProperty.STRING;
+import static dev.ai4j.openai4j.chat.JsonSchemaProperty.description;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.ai4j.openai4j.chat.ChatCompletionRequest;
+import dev.ai4j.openai4j.chat.Function;
+import dev.ai4j.openai4j.chat.Tool;
+import io.quarkiverse.langchain4j.openai.OpenAiRestApi;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OpenAiRestApiJacksonWriterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    void should_write_requests_like_the_object_mapper() throws Exception {
+        ChatCompletionRequest request = conversation(50);
+        ClosingAwareOutputStream entityStream = new ClosingAwareOutputStream();
+
+        new OpenAiRestApi.OpenAiRestApiJacksonWriter().writeTo(request, ChatCompletionRequest.class,
+                ChatCompletionRequest.class, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(),
+                entityStream);
+
+        assertThat(entityStream.toByteArray())
+                .isEqualTo(OpenAiRestApi.ObjectMapperHolder.MAPPER.writeValueAsBytes(request));
+        assertThat(entityStream.closed).isFalse();
+    }
+
+    /**
+     * A conversation with a system message, tools and {@code messages} user and assistant messages, similar to the
+     * requests sent by AI services with a chat memory
+     */
+    static ChatCompletionRequest conversation(int messages) {
+        ChatCompletionRequest.Builder builder = ChatCompletionRequest.builder()
+                .model("gpt-3.5-turbo")
+                .temperature(0.0)
+                .addSystemMessage("You are a customer support agent of a car rental company named 'Miles of Smiles'.")
+                .tools(Tool.from(Function.builder().name("getBookingDetails")
+                        .description("Returns the details of a booking")
+                        .addParameter("bookingNumber", STRING, description("the number of the booking"))
+                        .addParameter("customerName", STRING, description("the name of the customer"))
+                        .build()));
+        for (int i = 0; i < messages; i++) {
+            if (i % 2 == 0) {
+                builder.addUserMessage("Hello, I would like to cancel my booking number " + i
+                        + ", could you tell me whether it is still possible? My name is \"James Bond\" éè.");
+            } else {
+                builder.addAssistantMessage("Your booking " + i + " can be cancelled until 11 days before its start. "
+                        + "Do you want me to proceed with the cancellation?");
+            }
+        }
+        return builder.build();
+    }
+
+    private static final class ClosingAwareOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.ai4j.openai4j.ResponseHandle;
+import dev.ai4j.openai4j.chat.ChatCompletionRequest;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RateLimiterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.max-wait", "2s");
+
+    private static final String RESPONSE = """
+            {"id":"chatcmpl-123","object":"chat.completion","created":1694268190,"model":"%s",\
+            "choices":[{"index":0,"message":{"role":"assistant","content":"Hello"},"finish_reason":"stop"}],\
+            "usage":{"prompt_tokens":10,"completion_tokens":1,"total_tokens":11}}""";
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void requests_should_wait_for_the_remaining_requests_to_be_replenished() {
+        // 2 requests per second, i.e. one every 500ms
+        stubRateLimitedModel("paced", 2, "1s");
+        ChatLanguageModel model = model("paced");
+
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+        long start = System.nanoTime();
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(400_000_000L);
+    }
+
+    @Test
+    void requests_should_not_be_sent_when_they_would_wait_beyond_the_maximum_wait() {
+        // 1 request per minute
+        stubRateLimitedModel("exhausted", 1, "1m");
+        ChatLanguageModel model = model("exhausted");
+
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+        assertThatThrownBy(() -> model.generate("Hello")).hasStackTraceContaining("rate limit");
+
+        assertThat(wireMockServer.getAllServeEvents())
+                .filteredOn(event -> event.getRequest().getBodyAsString().contains("\"exhausted\""))
+                .hasSize(1);
+    }
+
+    @Test
+    void cancelled_requests_should_give_back_their_reservation() {
+        // 1 request per second
+        stubRateLimitedModel("cancelled", 1, "1s");
+        ChatLanguageModel model = model("cancelled");
+        QuarkusOpenAiClient client = QuarkusOpenAiClient.builder().baseUrl("http://localhost:8089/v1")
+                .openAiApiKey(WiremockUtils.DEFAULT_TOKEN).build();
+
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+        // cancelled while it waits for the next second
+        client.chatCompletion(ChatCompletionRequest.builder().model("cancelled").addUserMessage("Hello").build())
+                .onResponse(response -> {
+                })
+                .ignoreErrors()
+                .execute()
+                .cancel();
+        long start = System.nanoTime();
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+
+        // the request cancelled does not delay the next one by another second
+        assertThat(System.nanoTime() - start).isLessThan(1_700_000_000L);
+    }
+
+    @Test
+    void requests_cancelled_once_sent_should_keep_their_reservation() throws InterruptedException {
+        // 1 request per second, answered after 1 second
+        stubRateLimitedModel("sent", 1, "1s", 1000);
+        ChatLanguageModel model = model("sent");
+        QuarkusOpenAiClient client = QuarkusOpenAiClient.builder().baseUrl("http://localhost:8089/v1")
+                .openAiApiKey(WiremockUtils.DEFAULT_TOKEN).build();
+
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+        // cancelled once sent, after waiting for the next second
+        ResponseHandle handle = client
+                .chatCompletion(ChatCompletionRequest.builder().model("sent").addUserMessage("Hello").build())
+                .onResponse(response -> {
+                })
+                .ignoreErrors()
+                .execute();
+        Thread.sleep(1500);
+        handle.cancel();
+        long start = System.nanoTime();
+        assertThat(model.generate("Hello")).isEqualTo("Hello");
+
+        // the request cancelled has been sent, so the next one still waits for the following second
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(1_300_000_000L);
+    }
+
+    private static void stubRateLimitedModel(String modelName, int limit, String reset) {
+        stubRateLimitedModel(modelName, limit, reset, 0);
+    }
+
+    private static void stubRateLimitedModel(String modelName, int limit, String reset, int delay) {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .withRequestBody(containing("\"" + modelName + "\""))
+                .willReturn(aResponse()
+                        .withFixedDelay(delay)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("x-ratelimit-limit-requests", String.valueOf(limit))
+                        .withHeader("x-ratelimit-remaining-requests", "0")
+                        .withHeader("x-ratelimit-reset-requests", reset)
+                        .withBody(RESPONSE.formatted(modelName))));
+    }
+
+    private static ChatLanguageModel model(String modelName) {
+        return OpenAiChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey(WiremockUtils.DEFAULT_TOKEN)
+                .modelName(modelName).maxRetries(1).build();
+    }
+}
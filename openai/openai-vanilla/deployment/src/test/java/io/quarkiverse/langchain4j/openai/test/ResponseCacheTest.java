@@ -0,0 +1,109 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.cache.ResponseCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ResponseCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.response-cache.enabled", "true");
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    ResponseCache cache;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+        cache.invalidateAll();
+    }
+
+    @Test
+    void deterministic_requests_should_be_sent_once() throws Exception {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Paris"));
+        ChatLanguageModel model = OpenAiChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey("whatever")
+                .temperature(0.0).build();
+        long hits = cache.hits();
+
+        String first = model.generate("What is the capital of France?");
+        String second = model.generate("What is the capital of France?");
+        CompletableFuture<Response<AiMessage>> streamed = new CompletableFuture<>();
+        StringBuilder tokens = new StringBuilder();
+        OpenAiStreamingChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey("whatever").temperature(0.0).build()
+                .generate("What is the capital of France?", new StreamingResponseHandler<>() {
+                    @Override
+                    public void onNext(String token) {
+                        tokens.append(token);
+                    }
+
+                    @Override
+                    public void onComplete(Response<AiMessage> response) {
+                        streamed.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        streamed.completeExceptionally(error);
+                    }
+                });
+
+        assertThat(first).isEqualTo("Paris");
+        assertThat(second).isEqualTo("Paris");
+        assertThat(streamed.get(10, TimeUnit.SECONDS).content().text()).isEqualTo("Paris");
+        assertThat(tokens.toString()).isEqualTo("Paris");
+        assertThat(wireMockServer.getAllServeEvents()).hasSize(1);
+        assertThat(cache.hits() - hits).isEqualTo(2);
+    }
+
+    @Test
+    void non_deterministic_requests_should_not_be_cached() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Paris"));
+        ChatLanguageModel model = OpenAiChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey("whatever")
+                .temperature(0.7).build();
+
+        model.generate("What is the capital of France?");
+        model.generate("What is the capital of France?");
+
+        assertThat(wireMockServer.getAllServeEvents()).hasSize(2);
+    }
+}
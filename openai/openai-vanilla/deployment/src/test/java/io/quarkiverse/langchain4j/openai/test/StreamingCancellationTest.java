@@ -0,0 +1,145 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.StreamingCancellation;
+import io.quarkiverse.langchain4j.runtime.streaming.AbortedStreams;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingCancellationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever");
+
+    private static final String CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo",\
+            "choices":[{"index":0,"delta":{"content":"Hello"},"finish_reason":null}]}""";
+
+    private static final String LAST_CHUNK = """
+            {"id":"chatcmpl-123","object":"chat.completion.chunk","created":1694268190,"model":"gpt-3.5-turbo",\
+            "choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}""";
+
+    private static final int CHUNKS = 20;
+    private static final int MAX_TOKENS = 100;
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(8089));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void cancelled_streams_should_stop() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < CHUNKS; i++) {
+            body.append("data: ").append(CHUNK).append("\n\n");
+        }
+        body.append("data: ").append(LAST_CHUNK).append("\n\n").append("data: [DONE]\n\n");
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .withRequestBody(containing("Hello slow"))
+                .willReturn(aResponse().withHeader("Content-Type", "text/event-stream")
+                        .withBody(body.toString())
+                        .withChunkedDribbleDelay(CHUNKS, 4000)));
+        long aborted = AbortedStreams.aborted("openai");
+        long tokensSaved = AbortedStreams.tokensSaved("openai");
+        CompletableFuture<Void> firstToken = new CompletableFuture<>();
+        CompletableFuture<Response<AiMessage>> streamed = new CompletableFuture<>();
+        AtomicInteger tokens = new AtomicInteger();
+
+        StreamingCancellation cancellation = new StreamingCancellation();
+        cancellation.run(() -> model().generate("Hello slow", new StreamingResponseHandler<>() {
+            @Override
+            public void onNext(String token) {
+                tokens.incrementAndGet();
+                firstToken.complete(null);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                streamed.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                streamed.completeExceptionally(error);
+            }
+        }));
+        firstToken.get(5, TimeUnit.SECONDS);
+        cancellation.cancel();
+        int tokensAtCancellation = tokens.get();
+
+        Thread.sleep(1000);
+        assertThat(streamed).isNotDone();
+        assertThat(tokens.get()).isLessThanOrEqualTo(tokensAtCancellation + 1);
+        assertThat(AbortedStreams.aborted("openai")).isEqualTo(aborted + 1);
+        assertThat(AbortedStreams.tokensSaved("openai") - tokensSaved).isBetween(1L, (long) MAX_TOKENS - 1);
+
+        // cancelling again has no effect
+        cancellation.cancel();
+        assertThat(AbortedStreams.aborted("openai")).isEqualTo(aborted + 1);
+    }
+
+    @Test
+    void streams_of_a_cancelled_cancellation_should_not_be_sent() {
+        wireMockServer.resetRequests();
+        long aborted = AbortedStreams.aborted("openai");
+        long tokensSaved = AbortedStreams.tokensSaved("openai");
+
+        StreamingCancellation cancellation = new StreamingCancellation();
+        cancellation.cancel();
+        cancellation.run(() -> model().generate("Hello cancelled", new StreamingResponseHandler<>() {
+            @Override
+            public void onNext(String token) {
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+        }));
+
+        wireMockServer.verify(0, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+        assertThat(AbortedStreams.aborted("openai")).isEqualTo(aborted + 1);
+        assertThat(AbortedStreams.tokensSaved("openai")).isEqualTo(tokensSaved + MAX_TOKENS);
+    }
+
+    private static OpenAiStreamingChatModel model() {
+        return OpenAiStreamingChatModel.builder().baseUrl("http://localhost:8089/v1").apiKey(WiremockUtils.DEFAULT_TOKEN)
+                .maxTokens(MAX_TOKENS)
+                .build();
+    }
+}
@@ -16,6 +16,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.enterprise.context.control.ActivateRequestContext;
 import jakarta.inject.Inject;
@@ -146,6 +149,68 @@ public class DeclarativeAiServicesTest {
                 "Tell me a joke about developers\n\nHere is some information that might be useful for answering:\n\ndummy");
     }
 
+    @Singleton
+    public static class SlowRetriever implements Retriever<TextSegment> {
+
+        // the retrievals wait for the latch to be released, or for their thread to be interrupted
+        static volatile CountDownLatch latch = new CountDownLatch(0);
+        static final AtomicInteger interrupted = new AtomicInteger();
+
+        @Override
+        public List<TextSegment> findRelevant(String text) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+            return List.of(TextSegment.from("slow"));
+        }
+    }
+
+    @RegisterAiService(retriever = SlowRetriever.class, retrievalTimeoutMillis = 200)
+    interface AssistantWithSlowRetriever {
+
+        String chat(@MemoryId int memoryId, @UserMessage String message);
+    }
+
+    @Inject
+    AssistantWithSlowRetriever assistantWithSlowRetriever;
+
+    @Test
+    @ActivateRequestContext
+    public void test_retrieval_timeout_falls_back() throws Exception {
+        assistantWithSlowRetriever.chat(1, "Tell me a joke about testers");
+        assertSingleRequestMessage(getRequestAsMap(),
+                "Tell me a joke about testers\n\nHere is some information that might be useful for answering:\n\nslow");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        SlowRetriever.latch = latch;
+        int interrupted = SlowRetriever.interrupted.get();
+        try {
+            // the information retrieved for the same text is reused
+            wireMockServer.resetRequests();
+            assistantWithSlowRetriever.chat(2, "Tell me a joke about testers");
+            assertSingleRequestMessage(getRequestAsMap(),
+                    "Tell me a joke about testers\n\nHere is some information that might be useful for answering:\n\nslow");
+
+            // there is nothing to reuse for other texts
+            wireMockServer.resetRequests();
+            assistantWithSlowRetriever.chat(3, "Tell me a joke about managers");
+            assertSingleRequestMessage(getRequestAsMap(), "Tell me a joke about managers");
+
+            // the retrievals that timed out are interrupted
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (SlowRetriever.interrupted.get() - interrupted < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(SlowRetriever.interrupted.get() - interrupted).isEqualTo(2);
+        } finally {
+            SlowRetriever.latch = new CountDownLatch(0);
+            latch.countDown();
+        }
+    }
+
     enum Sentiment {
         POSITIVE,
         NEUTRAL,
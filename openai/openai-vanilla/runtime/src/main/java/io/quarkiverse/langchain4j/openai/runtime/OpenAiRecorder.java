@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.openai.OpenAiChatModel;
 import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
 import dev.langchain4j.model.openai.OpenAiModerationModel;
@@ -18,6 +19,9 @@ import io.quarkiverse.langchain4j.openai.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.ImageModelConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.Langchain4jOpenAiConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.ModerationModelConfig;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingBatcher;
+import io.quarkiverse.langchain4j.runtime.embedding.EmbeddingCache;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.config.ConfigValidationException;
@@ -111,10 +115,13 @@ public class OpenAiRecorder {
 
         runtimeConfig.organizationId().ifPresent(builder::organizationId);
 
+        // the same model name may designate different models on the servers that implement the OpenAI API
+        String modelId = "openai:" + runtimeConfig.baseUrl() + "#" + embeddingModelConfig.modelName();
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                EmbeddingModel model = Arc.container().instance(EmbeddingBatcher.class).get().wrap(builder.build());
+                return Arc.container().instance(EmbeddingCache.class).get().wrap(model, modelId);
             }
         };
     }
@@ -210,6 +217,13 @@ public class OpenAiRecorder {
                 key));
     }
 
+    public void httpClient(Langchain4jOpenAiConfig runtimeConfig) {
+        QuarkusOpenAiClient.setHttpClientConfig("openai", runtimeConfig.http());
+        QuarkusOpenAiClient.setRateLimiterConfig("openai", runtimeConfig.rateLimiter());
+        QuarkusOpenAiClient.setHedgingConfig("openai", runtimeConfig.hedging());
+        QuarkusOpenAiClient.setEmbeddingEncodingFormat("openai", runtimeConfig.embeddingModel().encodingFormat());
+    }
+
     public void cleanUp(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -2,6 +2,7 @@ package io.quarkiverse.langchain4j.openai.runtime.config;
 
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.openai.EmbeddingEncodingFormat;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.smallrye.config.WithDefault;
@@ -31,4 +32,12 @@ public interface EmbeddingModelConfig {
      * A unique identifier representing your end-user, which can help OpenAI to monitor and detect abuse.
      */
     Optional<String> user();
+
+    /**
+     * The format in which the embeddings are requested.
+     * {@code base64} returns the vectors as packed float32 values, which halves the size of the responses and makes them
+     * much cheaper to parse, but it may not be supported by the servers that implement the OpenAI API.
+     */
+    @WithDefault("float")
+    EmbeddingEncodingFormat encodingFormat();
 }
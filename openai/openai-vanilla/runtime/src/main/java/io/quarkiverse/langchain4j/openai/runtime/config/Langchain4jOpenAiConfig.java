@@ -5,6 +5,9 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkiverse.langchain4j.openai.RateLimiterConfig;
+import io.quarkiverse.langchain4j.runtime.hedging.HedgingConfig;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -73,4 +76,19 @@ public interface Langchain4jOpenAiConfig {
      * Image model related settings
      */
     ImageModelConfig imageModel();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
+
+    /**
+     * Rate limiter related settings
+     */
+    RateLimiterConfig rateLimiter();
+
+    /**
+     * Hedging related settings
+     */
+    HedgingConfig hedging();
 }
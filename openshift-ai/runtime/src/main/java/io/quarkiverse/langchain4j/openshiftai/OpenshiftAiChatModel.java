@@ -14,6 +14,8 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
 public class OpenshiftAiChatModel implements ChatLanguageModel {
@@ -26,6 +28,7 @@ public class OpenshiftAiChatModel implements ChatLanguageModel {
                 .baseUri(config.url)
                 .connectTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS)
                 .readTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS);
+        QuarkusRestClients.configure(builder, "openshift-ai", config.httpClient);
 
         if (config.logRequests || config.logResponses) {
             builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
@@ -65,6 +68,7 @@ public class OpenshiftAiChatModel implements ChatLanguageModel {
 
         private String modelId;
         private Duration timeout = Duration.ofSeconds(15);
+        private HttpClientConfig httpClient;
 
         private URI url;
         public boolean logResponses;
@@ -89,6 +93,11 @@ public class OpenshiftAiChatModel implements ChatLanguageModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public OpenshiftAiChatModel build() {
             return new OpenshiftAiChatModel(this);
         }
@@ -16,6 +16,7 @@ public class OpenshiftAiRecorder {
         var builder = OpenshiftAiChatModel.builder()
                 .url(runtimeConfig.baseUrl())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .logRequests(runtimeConfig.logRequests())
                 .logResponses(runtimeConfig.logResponses())
 
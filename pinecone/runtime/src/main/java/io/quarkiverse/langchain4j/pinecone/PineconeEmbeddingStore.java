@@ -36,6 +36,8 @@ import io.quarkiverse.langchain4j.pinecone.runtime.QueryResponse;
 import io.quarkiverse.langchain4j.pinecone.runtime.UpsertRequest;
 import io.quarkiverse.langchain4j.pinecone.runtime.UpsertResponse;
 import io.quarkiverse.langchain4j.pinecone.runtime.UpsertVector;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.logging.Log;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
@@ -59,7 +61,8 @@ public class PineconeEmbeddingStore implements EmbeddingStore<TextSegment> {
             Duration timeout,
             Integer dimension,
             String podType,
-            Duration indexReadinessTimeout) {
+            Duration indexReadinessTimeout,
+            HttpClientConfig httpClient) {
         this.indexName = indexName;
         this.dimension = dimension;
         String baseUrl = "https://" + indexName + "-" + projectId + ".svc." + environment + ".pinecone.io";
@@ -74,13 +77,13 @@ public class PineconeEmbeddingStore implements EmbeddingStore<TextSegment> {
                     return headers;
                 }
             };
-            vectorOperations = QuarkusRestClientBuilder.newBuilder()
+            vectorOperations = QuarkusRestClients.configure(QuarkusRestClientBuilder.newBuilder(), "pinecone", httpClient)
                     .baseUri(new URI(baseUrl))
                     .connectTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
                     .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
                     .clientHeadersFactory(clientHeadersFactory)
                     .build(PineconeVectorOperationsApi.class);
-            indexOperations = QuarkusRestClientBuilder.newBuilder()
+            indexOperations = QuarkusRestClients.configure(QuarkusRestClientBuilder.newBuilder(), "pinecone", httpClient)
                     .baseUri(new URI(baseUrlIndexOperations))
                     .connectTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
                     .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
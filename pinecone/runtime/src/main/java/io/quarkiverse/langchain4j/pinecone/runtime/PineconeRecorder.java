@@ -22,7 +22,8 @@ public class PineconeRecorder {
                         config.timeout().orElse(Duration.ofSeconds(5)),
                         config.dimension().orElse(null),
                         config.podType(),
-                        config.indexReadinessTimeout().orElse(Duration.ofMinutes(1)));
+                        config.indexReadinessTimeout().orElse(Duration.ofMinutes(1)),
+                        config.http());
             }
         };
     }
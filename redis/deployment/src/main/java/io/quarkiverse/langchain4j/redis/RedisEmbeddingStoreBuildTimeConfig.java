@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 @ConfigRoot(phase = BUILD_TIME)
 @ConfigMapping(prefix = "quarkus.langchain4j.redis")
@@ -16,4 +18,22 @@ public interface RedisEmbeddingStoreBuildTimeConfig {
      * If unspecified, it will use the default Redis client.
      */
     Optional<String> clientName();
+
+    /**
+     * Whether the same Redis client is used as the backend of the embedding cache (see
+     * {@code quarkus.langchain4j.embedding-cache.enabled}), so that cached embeddings are shared between the instances
+     * of the application
+     */
+    @WithName("embedding-cache.enabled")
+    @WithDefault("false")
+    boolean embeddingCacheEnabled();
+
+    /**
+     * Whether the same Redis client is used as the backend of the response cache (see
+     * {@code quarkus.langchain4j.response-cache.enabled}), so that cached responses are shared between the instances of
+     * the application
+     */
+    @WithName("response-cache.enabled")
+    @WithDefault("false")
+    boolean responseCacheEnabled();
 }
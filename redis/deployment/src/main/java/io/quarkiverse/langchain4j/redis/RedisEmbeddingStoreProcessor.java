@@ -10,6 +10,8 @@ import org.jboss.jandex.ParameterizedType;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkiverse.langchain4j.EmbeddingCacheBackend;
+import io.quarkiverse.langchain4j.ResponseCacheBackend;
 import io.quarkiverse.langchain4j.deployment.EmbeddingStoreBuildItem;
 import io.quarkiverse.langchain4j.redis.runtime.RedisEmbeddingStoreConfig;
 import io.quarkiverse.langchain4j.redis.runtime.RedisEmbeddingStoreRecorder;
@@ -27,6 +29,8 @@ import io.quarkus.redis.runtime.client.config.RedisConfig;
 public class RedisEmbeddingStoreProcessor {
 
     public static final DotName REDIS_EMBEDDING_STORE = DotName.createSimple(RedisEmbeddingStore.class);
+    public static final DotName REDIS_EMBEDDING_CACHE_BACKEND = DotName.createSimple(RedisEmbeddingCacheBackend.class);
+    public static final DotName REDIS_RESPONSE_CACHE_BACKEND = DotName.createSimple(RedisResponseCacheBackend.class);
 
     private static final String FEATURE = "langchain4j-redis";
 
@@ -69,6 +73,32 @@ public class RedisEmbeddingStoreProcessor {
                 .createWith(recorder.embeddingStoreFunction(config, clientName))
                 .done());
         embeddingStoreProducer.produce(new EmbeddingStoreBuildItem());
+
+        if (buildTimeConfig.embeddingCacheEnabled()) {
+            beanProducer.produce(SyntheticBeanBuildItem
+                    .configure(REDIS_EMBEDDING_CACHE_BACKEND)
+                    .types(EmbeddingCacheBackend.class)
+                    .setRuntimeInit()
+                    .defaultBean()
+                    .scope(ApplicationScoped.class)
+                    .addInjectionPoint(ClassType.create(DotName.createSimple(ReactiveRedisDataSource.class)),
+                            redisClientQualifier)
+                    .createWith(recorder.embeddingCacheBackend(config, clientName))
+                    .done());
+        }
+
+        if (buildTimeConfig.responseCacheEnabled()) {
+            beanProducer.produce(SyntheticBeanBuildItem
+                    .configure(REDIS_RESPONSE_CACHE_BACKEND)
+                    .types(ResponseCacheBackend.class)
+                    .setRuntimeInit()
+                    .defaultBean()
+                    .scope(ApplicationScoped.class)
+                    .addInjectionPoint(ClassType.create(DotName.createSimple(ReactiveRedisDataSource.class)),
+                            redisClientQualifier)
+                    .createWith(recorder.responseCacheBackend(config, clientName))
+                    .done());
+        }
     }
 
 }
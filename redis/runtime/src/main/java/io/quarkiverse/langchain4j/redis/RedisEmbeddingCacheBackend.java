@@ -0,0 +1,59 @@
+package io.quarkiverse.langchain4j.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.embedding.Embedding;
+import io.quarkiverse.langchain4j.EmbeddingCacheBackend;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+/**
+ * {@link EmbeddingCacheBackend} storing each embedding as a Redis string containing its float32 values (little endian)
+ * <p>
+ * The embeddings are written without waiting for Redis, and the lookups made on an event loop thread, which must not
+ * block, are treated as misses.
+ */
+public class RedisEmbeddingCacheBackend implements EmbeddingCacheBackend {
+
+    private static final Logger log = Logger.getLogger(RedisEmbeddingCacheBackend.class);
+
+    private final ReactiveValueCommands<String, byte[]> values;
+    private final String prefix;
+
+    public RedisEmbeddingCacheBackend(ReactiveRedisDataSource ds, String prefix) {
+        this.values = ds.value(byte[].class);
+        this.prefix = prefix.endsWith(":") ? prefix : prefix + ":";
+    }
+
+    @Override
+    public Embedding get(String key) {
+        if (Context.isOnEventLoopThread()) {
+            return null;
+        }
+        byte[] bytes = values.get(prefix + key).await().indefinitely();
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[bytes.length / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return Embedding.from(vector);
+    }
+
+    @Override
+    public void put(String key, Embedding embedding, Duration ttl) {
+        float[] vector = embedding.vector();
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        Uni<Void> write = ttl == null ? values.set(prefix + key, buffer.array())
+                : values.psetex(prefix + key, ttl.toMillis(), buffer.array());
+        write.subscribe().with(ignored -> {
+        }, failure -> log.debugf(failure, "Unable to write embedding to Redis"));
+    }
+}
@@ -21,8 +21,8 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.Json;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
-import dev.langchain4j.store.embedding.EmbeddingStore;
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+import io.quarkiverse.langchain4j.RemovableEmbeddingStore;
 import io.quarkiverse.langchain4j.redis.runtime.RedisSchema;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.json.ReactiveJsonCommands;
@@ -35,7 +35,7 @@ import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Request;
 
-public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class RedisEmbeddingStore implements RemovableEmbeddingStore<TextSegment> {
 
     public static final String EXTRA_ATTRIBUTES = "extra_attributes";
     public static final String ID = "id";
@@ -190,6 +190,11 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     }
 
+    @Override
+    public void remove(String id) {
+        ds.key().del(schema.getPrefix() + id).await().indefinitely();
+    }
+
     /**
      * Deletes all keys with the prefix that is used by this embedding store.
      */
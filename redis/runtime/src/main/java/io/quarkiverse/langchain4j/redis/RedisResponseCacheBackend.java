@@ -0,0 +1,46 @@
+package io.quarkiverse.langchain4j.redis;
+
+import java.time.Duration;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.ResponseCacheBackend;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+/**
+ * {@link ResponseCacheBackend} storing each response as a Redis string
+ * <p>
+ * The responses are written without waiting for Redis, and the lookups made on an event loop thread, which must not
+ * block, are treated as misses.
+ */
+public class RedisResponseCacheBackend implements ResponseCacheBackend {
+
+    private static final Logger log = Logger.getLogger(RedisResponseCacheBackend.class);
+
+    private final ReactiveValueCommands<String, String> values;
+    private final String prefix;
+
+    public RedisResponseCacheBackend(ReactiveRedisDataSource ds, String prefix) {
+        this.values = ds.value(String.class);
+        this.prefix = prefix.endsWith(":") ? prefix : prefix + ":";
+    }
+
+    @Override
+    public String get(String key) {
+        if (Context.isOnEventLoopThread()) {
+            return null;
+        }
+        return values.get(prefix + key).await().indefinitely();
+    }
+
+    @Override
+    public void put(String key, String response, Duration ttl) {
+        Uni<Void> write = ttl == null ? values.set(prefix + key, response)
+                : values.psetex(prefix + key, ttl.toMillis(), response);
+        write.subscribe().with(ignored -> {
+        }, failure -> log.debugf(failure, "Unable to write response to Redis"));
+    }
+}
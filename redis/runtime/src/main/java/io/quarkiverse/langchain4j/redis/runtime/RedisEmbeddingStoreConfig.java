@@ -10,6 +10,7 @@ import io.quarkus.redis.datasource.search.VectorAlgorithm;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 /**
  * Configuration of the Redis embedding store.
@@ -74,4 +75,20 @@ public interface RedisEmbeddingStoreConfig {
     @WithDefault("HNSW")
     VectorAlgorithm vectorAlgorithm();
 
+    /**
+     * Prefix of the keys under which the embedding cache stores embeddings, when
+     * {@code quarkus.langchain4j.redis.embedding-cache.enabled} is {@code true}.
+     */
+    @WithName("embedding-cache.prefix")
+    @WithDefault("embedding-cache:")
+    String embeddingCachePrefix();
+
+    /**
+     * Prefix of the keys under which the response cache stores responses, when
+     * {@code quarkus.langchain4j.redis.response-cache.enabled} is {@code true}.
+     */
+    @WithName("response-cache.prefix")
+    @WithDefault("response-cache:")
+    String responseCachePrefix();
+
 }
@@ -5,7 +5,9 @@ import java.util.function.Function;
 
 import jakarta.enterprise.inject.Default;
 
+import io.quarkiverse.langchain4j.redis.RedisEmbeddingCacheBackend;
 import io.quarkiverse.langchain4j.redis.RedisEmbeddingStore;
+import io.quarkiverse.langchain4j.redis.RedisResponseCacheBackend;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
@@ -45,4 +47,38 @@ public class RedisEmbeddingStoreRecorder {
             }
         };
     }
+
+    public Function<SyntheticCreationalContext<RedisEmbeddingCacheBackend>, RedisEmbeddingCacheBackend> embeddingCacheBackend(
+            RedisEmbeddingStoreConfig config, String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisEmbeddingCacheBackend apply(SyntheticCreationalContext<RedisEmbeddingCacheBackend> context) {
+                ReactiveRedisDataSource dataSource;
+                if (clientName == null) {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class,
+                            new RedisClientName.Literal(clientName));
+                }
+                return new RedisEmbeddingCacheBackend(dataSource, config.embeddingCachePrefix());
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<RedisResponseCacheBackend>, RedisResponseCacheBackend> responseCacheBackend(
+            RedisEmbeddingStoreConfig config, String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisResponseCacheBackend apply(SyntheticCreationalContext<RedisResponseCacheBackend> context) {
+                ReactiveRedisDataSource dataSource;
+                if (clientName == null) {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class,
+                            new RedisClientName.Literal(clientName));
+                }
+                return new RedisResponseCacheBackend(dataSource, config.responseCachePrefix());
+            }
+        };
+    }
 }
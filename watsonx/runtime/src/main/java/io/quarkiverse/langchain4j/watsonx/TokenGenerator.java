@@ -6,6 +6,8 @@ import java.util.Date;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenRequest;
 import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenResponse;
 import io.quarkiverse.langchain4j.watsonx.client.IAMRestApi;
@@ -19,13 +21,13 @@ public class TokenGenerator {
     private String apiKey;
     private String grantType;
 
-    public TokenGenerator(URL url, Duration timeout, String grantType, String apiKey) {
+    public TokenGenerator(URL url, Duration timeout, String grantType, String apiKey, HttpClientConfig httpClient) {
 
-        this.client = QuarkusRestClientBuilder.newBuilder()
+        QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
                 .baseUrl(url)
                 .connectTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
-                .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS)
-                .build(IAMRestApi.class);
+                .readTimeout(timeout.toSeconds(), TimeUnit.SECONDS);
+        this.client = QuarkusRestClients.configure(builder, "watsonx", httpClient).build(IAMRestApi.class);
 
         this.grantType = grantType;
         this.apiKey = apiKey;
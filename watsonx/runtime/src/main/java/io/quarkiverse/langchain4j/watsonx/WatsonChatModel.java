@@ -16,6 +16,8 @@ import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
+import io.quarkiverse.langchain4j.runtime.http.QuarkusRestClients;
 import io.quarkiverse.langchain4j.watsonx.bean.Parameters;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationRequest;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationResponse.Result;
@@ -44,6 +46,7 @@ public class WatsonChatModel implements ChatLanguageModel {
                 .baseUrl(config.url)
                 .connectTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS)
                 .readTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS);
+        QuarkusRestClients.configure(builder, "watsonx", config.httpClient);
 
         if (config.logRequests || config.logResponses) {
             builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
@@ -148,6 +151,7 @@ public class WatsonChatModel implements ChatLanguageModel {
         private String version;
         private String projectId;
         private Duration timeout;
+        private HttpClientConfig httpClient;
         private String decodingMethod;
         private Integer minNewTokens;
         private Integer maxNewTokens;
@@ -186,6 +190,11 @@ public class WatsonChatModel implements ChatLanguageModel {
             return this;
         }
 
+        public Builder httpClient(HttpClientConfig httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
         public Builder decodingMethod(String decodingMethod) {
             this.decodingMethod = decodingMethod;
             return this;
@@ -19,6 +19,7 @@ public class WatsonRecorder {
         var builder = WatsonChatModel.builder()
                 .url(runtimeConfig.baseUrl())
                 .timeout(runtimeConfig.timeout())
+                .httpClient(runtimeConfig.http())
                 .logRequests(runtimeConfig.logRequests())
                 .logResponses(runtimeConfig.logResponses())
                 .modelId(chatModelConfig.modelId())
@@ -50,7 +51,8 @@ public class WatsonRecorder {
                         runtimeConfig.iam().baseUrl(),
                         runtimeConfig.iam().timeout(),
                         runtimeConfig.iam().grantType(),
-                        runtimeConfig.apiKey());
+                        runtimeConfig.apiKey(),
+                        runtimeConfig.http());
             }
         };
     }
@@ -5,6 +5,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 import java.net.URL;
 import java.time.Duration;
 
+import io.quarkiverse.langchain4j.runtime.http.HttpClientConfig;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -61,4 +62,9 @@ public interface Langchain4jWatsonConfig {
      * Chat model related settings
      */
     ChatModelConfig chatModel();
+
+    /**
+     * HTTP client related settings
+     */
+    HttpClientConfig http();
 }